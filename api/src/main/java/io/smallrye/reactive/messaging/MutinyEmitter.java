@@ -1,5 +1,8 @@
 package io.smallrye.reactive.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.OnOverflow;
@@ -96,6 +99,64 @@ public interface MutinyEmitter<T> {
      */
     <M extends Message<? extends T>> void send(M msg);
 
+    /**
+     * Sends a batch of payloads to the channel.
+     * <p>
+     * A {@link Message} object is created for each payload. This default method is best effort: the messages are sent
+     * one by one when the returned {@code Uni} is subscribed, so if the emitter overflows in the middle of the batch,
+     * the messages sent before are not withdrawn. Implementations may enqueue the whole batch at once, the overflow
+     * strategy being checked for the batch.
+     * <p>
+     * The returned {@code Uni} emits a {@code null} item once all the messages of the batch are acknowledged, or a
+     * failure as soon as one of them is negatively acknowledged.
+     *
+     * @param payloads the payloads to send, must not be {@code null} nor contain {@code null} values
+     * @return the {@code Uni}, that requires subscription to send the batch.
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    default Uni<Void> sendAll(Iterable<? extends T> payloads) {
+        List<Uni<Void>> unis = new ArrayList<>();
+        for (T payload : payloads) {
+            unis.add(send(payload));
+        }
+        if (unis.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.combine().all().unis(unis).discardItems();
+    }
+
+    /**
+     * Sends a batch of messages to the channel.
+     * <p>
+     * This default method is best effort: the messages are sent one by one when the returned {@code Uni} is
+     * subscribed, so if the emitter overflows in the middle of the batch, the messages sent before are not withdrawn.
+     * Implementations may enqueue the whole batch at once, the overflow strategy being checked for the batch.
+     * <p>
+     * The acknowledgement of each message still invokes the acknowledgement function of the original message. In
+     * addition, the returned {@code Uni} emits a {@code null} item once all the messages of the batch are acknowledged,
+     * or a failure as soon as one of them is negatively acknowledged.
+     *
+     * @param messages the messages to send, must not be {@code null} nor contain {@code null} values
+     * @return the {@code Uni}, that requires subscription to send the batch.
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    default Uni<Void> sendMessages(List<? extends Message<? extends T>> messages) {
+        List<Uni<Void>> unis = new ArrayList<>();
+        for (Message<? extends T> message : messages) {
+            unis.add(Uni.createFrom().emitter(e -> send(message
+                    .withAck(() -> message.ack().thenRun(() -> e.complete(null)))
+                    .withNack(reason -> message.nack(reason).thenRun(() -> e.fail(reason))))));
+        }
+        if (unis.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.combine().all().unis(unis).discardItems();
+    }
+
     /**
      * Sends the completion event to the channel indicating that no other events will be sent afterward.
      */
@@ -18,6 +18,9 @@
  */
 package org.eclipse.microprofile.reactive.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import io.smallrye.common.annotation.Experimental;
@@ -77,6 +80,76 @@ public interface Emitter<T> {
      */
     <M extends Message<? extends T>> void send(M msg);
 
+    /**
+     * Sends a batch of payloads to the channel.
+     * <p>
+     * A {@link Message} object is created for each payload. This default method is best effort: the messages are sent
+     * one by one, so if the emitter overflows in the middle of the batch, the messages sent before are not withdrawn.
+     * Implementations may enqueue the whole batch at once, the overflow strategy being checked for the batch.
+     * <p>
+     * The returned {@code CompletionStage} is completed once all the messages of the batch are acknowledged, or
+     * completed exceptionally as soon as one of them is negatively acknowledged.
+     *
+     * @param payloads the payloads to send, must not be {@code null} nor contain {@code null} values
+     * @return the {@code CompletionStage}, which will be completed when all the messages are acknowledged.
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    @Experimental("batch emission is a SmallRye-only feature")
+    default CompletionStage<Void> sendAll(Iterable<? extends T> payloads) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (T payload : payloads) {
+            CompletableFuture<Void> future = send(payload).toCompletableFuture();
+            // Fail as soon as one of the messages is nacked, without waiting for the others
+            future.whenComplete((x, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                }
+            });
+            futures.add(future);
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> result.complete(null));
+        return result;
+    }
+
+    /**
+     * Sends a batch of messages to the channel.
+     * <p>
+     * This default method is best effort: the messages are sent one by one, so if the emitter overflows in the middle
+     * of the batch, the messages sent before are not withdrawn. Implementations may enqueue the whole batch at once,
+     * the overflow strategy being checked for the batch.
+     * <p>
+     * The acknowledgement of each message still invokes the acknowledgement function of the original message. In
+     * addition, the returned {@code CompletionStage} is completed once all the messages of the batch are acknowledged,
+     * or completed exceptionally as soon as one of them is negatively acknowledged.
+     *
+     * @param messages the messages to send, must not be {@code null} nor contain {@code null} values
+     * @return the {@code CompletionStage}, which will be completed when all the messages are acknowledged.
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    @Experimental("batch emission is a SmallRye-only feature")
+    default CompletionStage<Void> sendMessages(List<? extends Message<? extends T>> messages) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Message<? extends T> message : messages) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            futures.add(future);
+            send(message
+                    .withAck(() -> message.ack().thenRun(() -> future.complete(null)))
+                    .withNack(reason -> message.nack(reason).thenRun(() -> {
+                        // Fail as soon as one of the messages is nacked, without waiting for the others
+                        future.completeExceptionally(reason);
+                        result.completeExceptionally(reason);
+                    })));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> result.complete(null));
+        return result;
+    }
+
     /**
      * Sends the completion event to the channel indicating that no other events will be sent afterward.
      */
@@ -0,0 +1,124 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.util.AnnotationLiteral;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.reactive.messaging.DefaultMediatorConfiguration;
+
+/**
+ * Creates the mediator configurations and the CDI objects used by the benchmarks, without starting a CDI container.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * Analyzes the given method, as done by the extension for a method annotated with {@code @Incoming} and
+     * {@code @Outgoing}.
+     *
+     * @param method the method
+     * @param incoming the incoming channel, {@code null} if none
+     * @param outgoing the outgoing channel, {@code null} if none
+     * @return the configuration
+     */
+    static DefaultMediatorConfiguration configuration(Method method, String incoming, String outgoing) {
+        DefaultMediatorConfiguration configuration = new DefaultMediatorConfiguration(method,
+                bean(method.getDeclaringClass()));
+        configuration.compute(
+                incoming == null ? Collections.emptyList() : Collections.singletonList(new IncomingLiteral(incoming)),
+                outgoing == null ? null : new OutgoingLiteral(outgoing), null);
+        return configuration;
+    }
+
+    /**
+     * @return a bean only providing its bean class, which is all the mediator analysis needs
+     */
+    static Bean<?> bean(Class<?> beanClass) {
+        return (Bean<?>) Proxy.newProxyInstance(BenchmarkSupport.class.getClassLoader(), new Class<?>[] { Bean.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getBeanClass")) {
+                        return beanClass;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * @return an {@link Instance} iterating over the given objects, selecting with qualifiers returns the same instance
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    static <T> Instance<T> instance(T... objects) {
+        List<T> list = Arrays.stream(objects).collect(Collectors.toList());
+        return (Instance<T>) Proxy.newProxyInstance(BenchmarkSupport.class.getClassLoader(),
+                new Class<?>[] { Instance.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "iterator":
+                            return list.iterator();
+                        case "stream":
+                            return list.stream();
+                        case "isUnsatisfied":
+                            return list.isEmpty();
+                        case "isResolvable":
+                            return list.size() == 1;
+                        case "select":
+                            return proxy;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @SuppressWarnings("ClassExplicitlyAnnotation")
+    static final class IncomingLiteral extends AnnotationLiteral<Incoming> implements Incoming {
+        private final String value;
+
+        IncomingLiteral(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Incoming.class;
+        }
+    }
+
+    @SuppressWarnings("ClassExplicitlyAnnotation")
+    static final class OutgoingLiteral extends AnnotationLiteral<Outgoing> implements Outgoing {
+        private final String value;
+
+        OutgoingLiteral(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Outgoing.class;
+        }
+    }
+}
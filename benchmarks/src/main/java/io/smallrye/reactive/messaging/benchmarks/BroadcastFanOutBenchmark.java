@@ -0,0 +1,75 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.helpers.BroadcastHelper;
+import io.smallrye.reactive.messaging.helpers.RingBufferBroadcaster.SlowSubscriberPolicy;
+
+/**
+ * Measures the throughput of a broadcast to several in-process consumers, each running on its own thread, comparing
+ * the Mutiny broadcast operator ({@code ringBufferSize = 0}) with the ring buffer broadcaster.
+ * The ring buffer delivers the items to the subscribers in parallel, on the Mutiny worker pool, while the operator
+ * delivers each item to all the subscribers from the upstream thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BroadcastFanOutBenchmark {
+
+    private static final int MESSAGES = 100_000;
+
+    @Param({ "0", "1024" })
+    public int ringBufferSize;
+
+    @Param({ "8" })
+    public int subscribers;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(subscribers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void fanOut() throws InterruptedException {
+        Multi<? extends Message<?>> upstream = Multi.createFrom().range(0, MESSAGES).map(Message::of);
+        Multi<? extends Message<?>> broadcast = BroadcastHelper.broadcastPublisher(upstream, subscribers,
+                ringBufferSize, SlowSubscriberPolicy.BLOCK);
+
+        CountDownLatch done = new CountDownLatch(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            broadcast.emitOn(executor)
+                    .subscribe().with(Message::ack, failure -> done.countDown(), done::countDown);
+        }
+        done.await();
+    }
+}
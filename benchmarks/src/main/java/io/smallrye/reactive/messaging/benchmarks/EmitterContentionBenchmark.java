@@ -0,0 +1,129 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.extension.EmitterConfiguration;
+import io.smallrye.reactive.messaging.extension.EmitterImpl;
+import io.smallrye.reactive.messaging.extension.MutinyEmitterImpl;
+
+/**
+ * Measures the throughput of {@link EmitterImpl} and {@link MutinyEmitterImpl} when many threads send concurrently,
+ * comparing the monitor-based emitter with the lock-free one.
+ * <p>
+ * Each sending thread keeps at most {@link #window} messages in flight (sent but not yet acknowledged by the
+ * consumer), so the benchmark measures the sustainable throughput instead of the speed at which the emitter queue
+ * fills the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class EmitterContentionBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean lockFree;
+
+    @Param({ "256" })
+    public int window;
+
+    private EmitterImpl<String> emitter;
+    private MutinyEmitterImpl<String> mutinyEmitter;
+
+    @State(Scope.Thread)
+    public static class Sender {
+        final AtomicInteger inflight = new AtomicInteger();
+        final Supplier<CompletionStage<Void>> ack = () -> {
+            inflight.decrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        };
+
+        void acquire(int window) {
+            while (inflight.get() >= window) {
+                Thread.yield();
+            }
+            inflight.incrementAndGet();
+        }
+
+        void release() {
+            inflight.decrementAndGet();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        emitter = new EmitterImpl<>(configuration("emitter"), 128, lockFree);
+        mutinyEmitter = new MutinyEmitterImpl<>(configuration("mutiny-emitter"), 128, lockFree);
+        consume(emitter.getPublisher());
+        consume(mutinyEmitter.getPublisher());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        emitter.complete();
+        mutinyEmitter.complete();
+    }
+
+    private void consume(Publisher<Message<? extends String>> publisher) {
+        Multi.createFrom().publisher(publisher)
+                .subscribe().with(Message::ack);
+    }
+
+    private static EmitterConfiguration configuration(String name) {
+        EmitterConfiguration configuration = new EmitterConfiguration();
+        configuration.name = name;
+        configuration.overflowBufferStrategy = OnOverflow.Strategy.UNBOUNDED_BUFFER;
+        configuration.overflowBufferSize = -1;
+        configuration.numberOfSubscriberBeforeConnecting = -1;
+        return configuration;
+    }
+
+    @Benchmark
+    public Object emitterSendPayload(Sender sender) {
+        sender.acquire(window);
+        return emitter.send("hello").thenRun(sender::release);
+    }
+
+    @Benchmark
+    public void emitterSendMessage(Sender sender) {
+        sender.acquire(window);
+        emitter.send(Message.of("hello", sender.ack));
+    }
+
+    @Benchmark
+    public Object mutinyEmitterSendPayload(Sender sender) {
+        sender.acquire(window);
+        return mutinyEmitter.send("hello").subscribe().with(x -> sender.release());
+    }
+
+    @Benchmark
+    public void mutinyEmitterSendMessage(Sender sender) {
+        sender.acquire(window);
+        mutinyEmitter.send(Message.of("hello", sender.ack));
+    }
+}
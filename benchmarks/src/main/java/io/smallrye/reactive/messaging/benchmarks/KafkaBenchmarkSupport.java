@@ -0,0 +1,83 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.lang.reflect.Proxy;
+
+import javax.enterprise.event.Event;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import io.smallrye.reactive.messaging.kafka.KafkaCDIEvents;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+
+/**
+ * Creates the configuration and the CDI objects used by the Kafka benchmarks. The Kafka clients are replaced by
+ * {@code MockConsumer} and {@code MockProducer}, so no broker is required.
+ */
+final class KafkaBenchmarkSupport {
+
+    static final String TOPIC = "benchmark";
+
+    private KafkaBenchmarkSupport() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * @return the configuration of an incoming channel reading {@code String} records from {@link #TOPIC}
+     */
+    static MapBasedConfig incoming() {
+        return new MapBasedConfig()
+                .with("channel-name", "data")
+                .with("topic", TOPIC)
+                .with("graceful-shutdown", false)
+                .with("health-enabled", false)
+                .with("tracing-enabled", false)
+                .with("value.deserializer", StringDeserializer.class.getName());
+    }
+
+    /**
+     * @return the configuration of an outgoing channel writing {@code String} records to {@link #TOPIC}
+     */
+    static MapBasedConfig outgoing() {
+        return new MapBasedConfig()
+                .with("channel-name", "data")
+                .with("topic", TOPIC)
+                .with("health-enabled", false)
+                .with("tracing-enabled", false)
+                .with("key.serializer", StringSerializer.class.getName())
+                .with("value.serializer", StringSerializer.class.getName());
+    }
+
+    /**
+     * @return the events fired on the creation of the Kafka clients, ignoring them
+     */
+    static KafkaCDIEvents noCdiEvents() {
+        Event<Consumer<?, ?>> consumer = event();
+        Event<Producer<?, ?>> producer = event();
+        return new KafkaCDIEvents() {
+            @Override
+            public Event<Consumer<?, ?>> consumer() {
+                return consumer;
+            }
+
+            @Override
+            public Event<Producer<?, ?>> producer() {
+                return producer;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Event<T> event() {
+        return (Event<T>) Proxy.newProxyInstance(KafkaBenchmarkSupport.class.getClassLoader(),
+                new Class<?>[] { Event.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("fire")) {
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
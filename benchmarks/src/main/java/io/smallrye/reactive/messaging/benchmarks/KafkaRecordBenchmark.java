@@ -0,0 +1,134 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.reactive.messaging.ce.OutgoingCloudEventMetadata;
+import io.smallrye.reactive.messaging.kafka.IncomingKafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorOutgoingConfiguration;
+import io.smallrye.reactive.messaging.kafka.impl.RecordQueue;
+import io.smallrye.reactive.messaging.kafka.impl.ce.KafkaCloudEventHelper;
+
+/**
+ * Measures the per-record work of the Kafka connector, outside of any stream: the creation of the
+ * {@link IncomingKafkaRecord} (including the Cloud Event detection and decoding), the Cloud Event encoding of the
+ * outgoing records and the {@link RecordQueue} storing the polled records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaRecordBenchmark {
+
+    private static final int RECORDS = 500;
+
+    private ConsumerRecord<String, String> record;
+    private ConsumerRecord<String, String> binaryCloudEvent;
+    private ConsumerRecord<String, String> structuredCloudEvent;
+    private Message<String> message;
+    private OutgoingCloudEventMetadata<?> cloudEventMetadata;
+    private KafkaConnectorOutgoingConfiguration configuration;
+    private List<ConsumerRecord<String, String>> records;
+    private RecordQueue<ConsumerRecord<String, String>> queue;
+
+    @Setup
+    public void setup() {
+        record = new ConsumerRecord<>(KafkaBenchmarkSupport.TOPIC, 0, 0, "key", "value");
+
+        binaryCloudEvent = new ConsumerRecord<>(KafkaBenchmarkSupport.TOPIC, 0, 0, "key", "value");
+        header(binaryCloudEvent, KafkaCloudEventHelper.KAFKA_HEADER_FOR_SPEC_VERSION, "1.0");
+        header(binaryCloudEvent, KafkaCloudEventHelper.KAFKA_HEADER_FOR_ID, "id");
+        header(binaryCloudEvent, KafkaCloudEventHelper.KAFKA_HEADER_FOR_SOURCE, "benchmark://source");
+        header(binaryCloudEvent, KafkaCloudEventHelper.KAFKA_HEADER_FOR_TYPE, "benchmark");
+        header(binaryCloudEvent, KafkaCloudEventHelper.KAFKA_HEADER_CONTENT_TYPE, "text/plain");
+
+        structuredCloudEvent = new ConsumerRecord<>(KafkaBenchmarkSupport.TOPIC, 0, 0, "key",
+                "{\"specversion\":\"1.0\",\"id\":\"id\",\"source\":\"benchmark://source\",\"type\":\"benchmark\","
+                        + "\"datacontenttype\":\"text/plain\",\"data\":\"value\"}");
+        header(structuredCloudEvent, KafkaCloudEventHelper.KAFKA_HEADER_CONTENT_TYPE,
+                KafkaCloudEventHelper.STRUCTURED_CONTENT_TYPE);
+
+        message = Message.of("value");
+        cloudEventMetadata = OutgoingCloudEventMetadata.builder()
+                .withId("id")
+                .withSource(URI.create("benchmark://source"))
+                .withType("benchmark")
+                .build();
+        configuration = new KafkaConnectorOutgoingConfiguration(KafkaBenchmarkSupport.outgoing());
+
+        records = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            records.add(new ConsumerRecord<>(KafkaBenchmarkSupport.TOPIC, 0, i, "key", "value"));
+        }
+        queue = new RecordQueue<>(RECORDS * 2);
+    }
+
+    private static void header(ConsumerRecord<?, ?> record, String key, String value) {
+        record.headers().add(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public IncomingKafkaRecord<String, String> incomingRecord() {
+        return new IncomingKafkaRecord<>(record, null, null, false, false);
+    }
+
+    @Benchmark
+    public IncomingKafkaRecord<String, String> incomingRecordWithCloudEventDetection() {
+        return new IncomingKafkaRecord<>(record, null, null, true, false);
+    }
+
+    @Benchmark
+    public IncomingKafkaRecord<String, String> incomingBinaryCloudEvent() {
+        return new IncomingKafkaRecord<>(binaryCloudEvent, null, null, true, false);
+    }
+
+    @Benchmark
+    public IncomingKafkaRecord<String, String> incomingStructuredCloudEvent() {
+        return new IncomingKafkaRecord<>(structuredCloudEvent, null, null, true, false);
+    }
+
+    @Benchmark
+    public ProducerRecord<?, ?> outgoingBinaryCloudEvent() {
+        return KafkaCloudEventHelper.createBinaryRecord(message, KafkaBenchmarkSupport.TOPIC, null, cloudEventMetadata,
+                configuration);
+    }
+
+    @Benchmark
+    public ProducerRecord<?, ?> outgoingStructuredCloudEvent() {
+        return KafkaCloudEventHelper.createStructuredRecord(message, KafkaBenchmarkSupport.TOPIC, null,
+                cloudEventMetadata, configuration);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long recordQueue() {
+        // The polling thread enqueues the polled records at once, the event loop polls them one by one
+        queue.addAll((Iterable<ConsumerRecord<String, String>>) records);
+        long sum = 0;
+        ConsumerRecord<String, String> polled;
+        while ((polled = queue.poll()) != null) {
+            sum += polled.offset();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,114 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Subscriber;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorOutgoingConfiguration;
+import io.smallrye.reactive.messaging.kafka.impl.KafkaSink;
+import io.smallrye.reactive.messaging.kafka.impl.ReactiveKafkaProducer;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+
+/**
+ * Measures the throughput of the Kafka sink, from the messages sent to the channel to their acknowledgement once the
+ * record is written, with and without Cloud Event encoding. It includes the creation of the producer record by
+ * {@code KafkaSink#writeMessageToKafka} and the in-flight message management of the sink.
+ * <p>
+ * The records are written to a {@link MockProducer} completing the sends immediately, each invocation sends
+ * {@link #MESSAGES} messages and waits until all of them have been acknowledged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaSinkBenchmark {
+
+    private static final int MESSAGES = 10_000;
+
+    /**
+     * The Cloud Event mode, {@code none} to write the payload as-is.
+     */
+    @Param({ "none", "binary", "structured" })
+    public String cloudEvents;
+
+    private final AtomicLong acked = new AtomicLong();
+    private final List<Message<String>> messages = new ArrayList<>();
+    private MockProducer<String, String> producer;
+    private KafkaSink sink;
+    private MultiEmitter<? super Message<?>> emitter;
+    private long sent;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Setup
+    public void setup() {
+        MapBasedConfig config = KafkaBenchmarkSupport.outgoing();
+        if (cloudEvents.equals("none")) {
+            config.with("cloud-events", false);
+        } else {
+            config.with("cloud-events-mode", cloudEvents)
+                    .with("cloud-events-type", "benchmark")
+                    .with("cloud-events-source", "benchmark://source");
+        }
+        sink = new KafkaSink(new KafkaConnectorOutgoingConfiguration(config), KafkaBenchmarkSupport.noCdiEvents());
+        producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        ((ReactiveKafkaProducer<?, ?>) sink.getProducer()).injectClient(producer);
+
+        Multi.createFrom().<Message<?>> emitter(e -> emitter = e, BackPressureStrategy.BUFFER)
+                .subscribe().withSubscriber((Subscriber) sink.getSink().build());
+
+        Supplier<CompletionStage<Void>> ack = () -> {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        };
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(Message.of(Integer.toString(i), ack));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sink.closeQuietly();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long produce() {
+        for (Message<String> message : messages) {
+            emitter.emit(message);
+        }
+        sent += MESSAGES;
+        while (acked.get() < sent) {
+            Thread.yield();
+        }
+        // The mock producer keeps the history of the records
+        producer.clear();
+        return acked.get();
+    }
+}
@@ -0,0 +1,98 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.impl.KafkaSource;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Measures the throughput of the Kafka source, from the records returned by the consumer to the acknowledgement of the
+ * messages, for each commit strategy. It includes the polling loop, the dispatch of the queued records by the
+ * {@code KafkaRecordStreamSubscription}, the creation of the {@code IncomingKafkaRecord} and the commit handler.
+ * <p>
+ * The records are served by a {@link MockConsumer}, each invocation makes {@link #MESSAGES} records available and waits
+ * until all of them have been acknowledged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaSourceBenchmark {
+
+    private static final int MESSAGES = 10_000;
+
+    @Param({ "ignore", "latest", "throttled" })
+    public String commitStrategy;
+
+    private final TopicPartition partition = new TopicPartition(KafkaBenchmarkSupport.TOPIC, 0);
+    private final AtomicLong acked = new AtomicLong();
+    private Vertx vertx;
+    private MockConsumer<String, String> consumer;
+    private KafkaSource<String, String> source;
+    private long offset;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        KafkaConnectorIncomingConfiguration configuration = new KafkaConnectorIncomingConfiguration(
+                KafkaBenchmarkSupport.incoming().with("commit-strategy", commitStrategy));
+        source = new KafkaSource<>(vertx, "benchmark", configuration, BenchmarkSupport.instance(),
+                KafkaBenchmarkSupport.noCdiEvents(), BenchmarkSupport.instance(), -1);
+        source.getConsumer().injectClient(consumer);
+
+        consumer.updateBeginningOffsets(Collections.singletonMap(partition, 0L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(Collections.singletonList(partition));
+            // The mock consumer does not call the rebalance listener
+            source.getCommitHandler().partitionsAssigned(Collections.singletonList(partition));
+        });
+        source.getStream()
+                .subscribe().with(message -> message.ack().thenRun(acked::incrementAndGet));
+    }
+
+    @TearDown
+    public void tearDown() {
+        source.closeQuietly();
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long consume() {
+        long first = offset;
+        offset += MESSAGES;
+        consumer.schedulePollTask(() -> {
+            for (long i = first; i < first + MESSAGES; i++) {
+                consumer.addRecord(new ConsumerRecord<>(KafkaBenchmarkSupport.TOPIC, 0, i, "key", "value"));
+            }
+        });
+        while (acked.get() < offset) {
+            Thread.yield();
+        }
+        return acked.get();
+    }
+}
@@ -0,0 +1,194 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.AbstractMediator;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.ProcessorMediator;
+import io.smallrye.reactive.messaging.PublisherMediator;
+import io.smallrye.reactive.messaging.StreamTransformerMediator;
+import io.smallrye.reactive.messaging.SubscriberMediator;
+
+/**
+ * Measures the throughput of the mediators for the main method signatures, from the upstream to the downstream,
+ * including the acknowledgement. Each invocation streams {@link #MESSAGES} messages through a new mediator, on the
+ * calling thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MediatorShapeBenchmark {
+
+    private static final int MESSAGES = 10_000;
+
+    /**
+     * The name of the method of {@link Mediators} to benchmark.
+     */
+    @Param({
+            "processPayload", "processMessage", "processPayloadToUni", "processMessageToCompletionStage",
+            "transformPayloads", "transformMessages",
+            "consumePayload", "consumeMessage", "consumePayloadToCompletionStage",
+            "producePayloads", "produceMessages"
+    })
+    public String method;
+
+    private final Mediators bean = new Mediators();
+    private final AtomicLong acked = new AtomicLong();
+    private MediatorConfiguration configuration;
+    private List<Message<String>> messages;
+
+    @Setup
+    public void setup() {
+        Method target = null;
+        for (Method m : Mediators.class.getMethods()) {
+            if (m.getName().equals(method)) {
+                target = m;
+            }
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown method " + method);
+        }
+        boolean produces = !target.getName().startsWith("consume");
+        boolean consumes = !target.getName().startsWith("produce");
+        configuration = BenchmarkSupport.configuration(target, consumes ? "in" : null, produces ? "out" : null);
+
+        Supplier<CompletionStage<Void>> ack = () -> {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        };
+        messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(Message.of(Integer.toString(i), ack));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long stream() {
+        Multi<? extends Message<?>> upstream = Multi.createFrom().iterable(messages);
+        AtomicLong received = new AtomicLong();
+        switch (configuration.shape()) {
+            case PROCESSOR:
+                ProcessorMediator processor = new ProcessorMediator(configuration);
+                initialize(processor);
+                processor.connectToUpstream(upstream);
+                consume(processor.getStream(), received);
+                break;
+            case STREAM_TRANSFORMER:
+                StreamTransformerMediator transformer = new StreamTransformerMediator(configuration);
+                initialize(transformer);
+                transformer.connectToUpstream(upstream);
+                consume(transformer.getStream(), received);
+                break;
+            case SUBSCRIBER:
+                SubscriberMediator subscriber = new SubscriberMediator(configuration);
+                initialize(subscriber);
+                subscriber.connectToUpstream(upstream);
+                subscriber.run();
+                received.set(bean.consumed);
+                bean.consumed = 0;
+                break;
+            case PUBLISHER:
+                PublisherMediator publisher = new PublisherMediator(configuration);
+                initialize(publisher);
+                consume(publisher.getStream(), received);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported shape " + configuration.shape());
+        }
+        if (received.get() != MESSAGES) {
+            throw new IllegalStateException("Expected " + MESSAGES + " messages, got " + received.get());
+        }
+        return acked.get();
+    }
+
+    private void initialize(AbstractMediator mediator) {
+        mediator.setDecorators(BenchmarkSupport.instance());
+        mediator.setConverters(BenchmarkSupport.instance());
+        mediator.initialize(bean);
+    }
+
+    private static void consume(Multi<? extends Message<?>> stream, AtomicLong received) {
+        stream.subscribe().with(message -> {
+            received.incrementAndGet();
+            message.ack();
+        });
+    }
+
+    public static class Mediators {
+
+        long consumed;
+
+        public String processPayload(String payload) {
+            return payload;
+        }
+
+        public Message<String> processMessage(Message<String> message) {
+            return message.withPayload(message.getPayload());
+        }
+
+        public Uni<String> processPayloadToUni(String payload) {
+            return Uni.createFrom().item(payload);
+        }
+
+        public CompletionStage<Message<String>> processMessageToCompletionStage(Message<String> message) {
+            return CompletableFuture.completedFuture(message);
+        }
+
+        public Multi<String> transformPayloads(Multi<String> payloads) {
+            return payloads.map(String::trim);
+        }
+
+        public Multi<Message<String>> transformMessages(Multi<Message<String>> messages) {
+            return messages.map(m -> m.withPayload(m.getPayload().trim()));
+        }
+
+        public void consumePayload(String payload) {
+            consumed++;
+        }
+
+        public CompletionStage<Void> consumeMessage(Message<String> message) {
+            consumed++;
+            return message.ack();
+        }
+
+        public CompletionStage<Void> consumePayloadToCompletionStage(String payload) {
+            consumed++;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        public Multi<String> producePayloads() {
+            return Multi.createFrom().range(0, MESSAGES).map(i -> Integer.toString(i));
+        }
+
+        public Multi<Message<String>> produceMessages() {
+            return Multi.createFrom().range(0, MESSAGES).map(i -> Message.of(Integer.toString(i)));
+        }
+    }
+}
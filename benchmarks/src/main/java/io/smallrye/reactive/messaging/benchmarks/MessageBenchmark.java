@@ -0,0 +1,119 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link Metadata} operations and the {@link Message} copies done by the connectors and the processing
+ * methods on each message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageBenchmark {
+
+    private final Supplier<CompletionStage<Void>> ack = () -> CompletableFuture.completedFuture(null);
+    private final Function<Throwable, CompletionStage<Void>> nack = t -> CompletableFuture.completedFuture(null);
+
+    private Metadata metadata;
+    private Message<String> message;
+
+    @Setup
+    public void setup() {
+        metadata = Metadata.of(new First(), new Second(), new Third());
+        message = Message.of("hello", metadata, ack, nack);
+    }
+
+    @Benchmark
+    public Metadata metadataOf() {
+        return Metadata.of(new First(), new Second(), new Third());
+    }
+
+    @Benchmark
+    public Metadata metadataWith() {
+        return metadata.with(new Fourth());
+    }
+
+    @Benchmark
+    public Metadata metadataWithout() {
+        return metadata.without(Second.class);
+    }
+
+    @Benchmark
+    public Optional<Third> metadataGet() {
+        return metadata.get(Third.class);
+    }
+
+    @Benchmark
+    public Optional<Third> messageGetMetadata() {
+        return message.getMetadata(Third.class);
+    }
+
+    @Benchmark
+    public Message<String> messageOf() {
+        return Message.of("hello", metadata, ack, nack);
+    }
+
+    @Benchmark
+    public Message<Integer> withPayload() {
+        return message.withPayload(42);
+    }
+
+    @Benchmark
+    public Message<String> withAck() {
+        return message.withAck(ack);
+    }
+
+    @Benchmark
+    public Message<String> addMetadata() {
+        return message.addMetadata(new Fourth());
+    }
+
+    @Benchmark
+    public Message<Integer> chain() {
+        // A typical processing: transform the payload, add metadata and chain the acknowledgement
+        return message.withPayload(42)
+                .addMetadata(new Fourth())
+                .withAck(() -> message.ack())
+                .withNack(t -> message.nack(t));
+    }
+
+    @Benchmark
+    public CompletionStage<Void> chainAck() {
+        return message.withPayload(42)
+                .withAck(() -> message.ack())
+                .ack();
+    }
+
+    static final class First {
+    }
+
+    static final class Second {
+    }
+
+    static final class Third {
+    }
+
+    static final class Fourth {
+    }
+}
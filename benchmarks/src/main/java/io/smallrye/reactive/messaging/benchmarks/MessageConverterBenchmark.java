@@ -0,0 +1,143 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.MessageConverter;
+import io.smallrye.reactive.messaging.SubscriberMediator;
+
+/**
+ * Measures the conversion of the payloads received by a method consuming {@code Integer} payloads.
+ * <p>
+ * The {@code String} payloads are converted by the last of {@link #converters} converters, the other ones do not
+ * support the conversion. {@link #lookup()} measures the selection of the converter for the first message received by
+ * a mediator, and {@link #convert()} the throughput once the converter has been selected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageConverterBenchmark {
+
+    private static final int MESSAGES = 10_000;
+
+    @Param({ "1", "16" })
+    public int converters;
+
+    private final Consumer bean = new Consumer();
+    private MediatorConfiguration configuration;
+    private MessageConverter[] instances;
+    private List<Message<String>> messages;
+    private List<Message<String>> single;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        configuration = BenchmarkSupport.configuration(Consumer.class.getMethod("consume", Integer.class), "in", null);
+        instances = new MessageConverter[converters];
+        for (int i = 0; i < converters - 1; i++) {
+            instances[i] = new UnsupportedConverter(i);
+        }
+        instances[converters - 1] = new StringToIntegerConverter();
+
+        messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(Message.of(Integer.toString(i)));
+        }
+        single = Collections.singletonList(Message.of("42"));
+    }
+
+    @Benchmark
+    public long lookup() {
+        return run(single);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long convert() {
+        return run(messages);
+    }
+
+    private long run(List<Message<String>> payloads) {
+        SubscriberMediator mediator = new SubscriberMediator(configuration);
+        mediator.setDecorators(BenchmarkSupport.instance());
+        mediator.setConverters(BenchmarkSupport.instance(instances));
+        mediator.initialize(bean);
+        mediator.connectToUpstream(Multi.createFrom().iterable(payloads));
+        mediator.run();
+        long sum = bean.sum;
+        bean.sum = 0;
+        return sum;
+    }
+
+    public static class Consumer {
+
+        long sum;
+
+        public void consume(Integer payload) {
+            sum += payload;
+        }
+    }
+
+    private static class UnsupportedConverter implements MessageConverter {
+
+        private final int priority;
+
+        UnsupportedConverter(int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public boolean canConvert(Message<?> in, Type target) {
+            return in.getPayload() instanceof byte[] && target == String.class;
+        }
+
+        @Override
+        public Message<?> convert(Message<?> in, Type target) {
+            return in.withPayload(new String((byte[]) in.getPayload()));
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
+
+    private static class StringToIntegerConverter implements MessageConverter {
+
+        @Override
+        public boolean canConvert(Message<?> in, Type target) {
+            return in.getPayload() instanceof String && target == Integer.class;
+        }
+
+        @Override
+        public Message<?> convert(Message<?> in, Type target) {
+            return in.withPayload(Integer.valueOf((String) in.getPayload()));
+        }
+
+        @Override
+        public int getPriority() {
+            return Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.reactive.messaging.helpers.TypeUtils;
+
+/**
+ * Measures {@link TypeUtils#isAssignable(Type, Type)} for the kinds of types found in mediator signatures and during
+ * the converter lookup: classes, parameterized types, wildcards and arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeUtilsBenchmark {
+
+    public Message<String> messageOfString;
+    public Message<? extends CharSequence> messageOfCharSequence;
+    public List<Map<String, Integer>> listOfMaps;
+    public Collection<? extends Map<String, ? extends Number>> collectionOfMaps;
+    public List<String>[] arrayOfLists;
+    public Collection<String>[] arrayOfCollections;
+    public ArrayList<String> arrayList;
+
+    private Type messageOfStringType;
+    private Type messageOfCharSequenceType;
+    private Type listOfMapsType;
+    private Type collectionOfMapsType;
+    private Type arrayOfListsType;
+    private Type arrayOfCollectionsType;
+    private Type arrayListType;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        messageOfStringType = type("messageOfString");
+        messageOfCharSequenceType = type("messageOfCharSequence");
+        listOfMapsType = type("listOfMaps");
+        collectionOfMapsType = type("collectionOfMaps");
+        arrayOfListsType = type("arrayOfLists");
+        arrayOfCollectionsType = type("arrayOfCollections");
+        arrayListType = type("arrayList");
+    }
+
+    private static Type type(String field) throws NoSuchFieldException {
+        return TypeUtilsBenchmark.class.getField(field).getGenericType();
+    }
+
+    @Benchmark
+    public boolean classToClass() {
+        // The converter lookup checks the payload class against the ingested payload type
+        return TypeUtils.isAssignable(String.class, CharSequence.class);
+    }
+
+    @Benchmark
+    public boolean parameterizedToClass() {
+        // The signature analysis checks the type arguments against Message
+        return TypeUtils.isAssignable(messageOfStringType, Message.class);
+    }
+
+    @Benchmark
+    public boolean parameterizedToParameterized() {
+        return TypeUtils.isAssignable(arrayListType, listOfMapsType);
+    }
+
+    @Benchmark
+    public boolean wildcard() {
+        return TypeUtils.isAssignable(messageOfStringType, messageOfCharSequenceType);
+    }
+
+    @Benchmark
+    public boolean nestedWildcards() {
+        return TypeUtils.isAssignable(listOfMapsType, collectionOfMapsType);
+    }
+
+    @Benchmark
+    public boolean genericArray() {
+        return TypeUtils.isAssignable(arrayOfListsType, arrayOfCollectionsType);
+    }
+}
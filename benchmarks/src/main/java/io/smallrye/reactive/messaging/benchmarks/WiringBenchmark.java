@@ -0,0 +1,100 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.reactive.messaging.DefaultMediatorConfiguration;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.extension.ChannelConfiguration;
+import io.smallrye.reactive.messaging.extension.EmitterConfiguration;
+import io.smallrye.reactive.messaging.impl.InternalChannelRegistry;
+import io.smallrye.reactive.messaging.wiring.Graph;
+import io.smallrye.reactive.messaging.wiring.Wiring;
+
+/**
+ * Measures the resolution of the wiring graph at startup, for synthetic applications made of {@code components}
+ * components. The graph contains chains of {@code emitter -> processor -> processor -> processor -> @Channel}, and
+ * every tenth chain is merged into a subscriber method consuming the outgoing channels of several chains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WiringBenchmark {
+
+    private static final int CHAIN_LENGTH = 5;
+
+    @Param({ "1000", "10000" })
+    public int components;
+
+    private List<EmitterConfiguration> emitters;
+    private List<ChannelConfiguration> channels;
+    private List<MediatorConfiguration> mediators;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        Method process = WiringBenchmark.class.getMethod("process", String.class);
+        Method consume = WiringBenchmark.class.getMethod("consume", String.class);
+        Bean<?> bean = BenchmarkSupport.bean(WiringBenchmark.class);
+
+        emitters = new ArrayList<>();
+        channels = new ArrayList<>();
+        mediators = new ArrayList<>();
+        int chains = components / CHAIN_LENGTH;
+        List<Incoming> merged = new ArrayList<>();
+        for (int chain = 0; chain < chains; chain++) {
+            String prefix = "chain-" + chain + "-";
+            emitters.add(new EmitterConfiguration(prefix + 0, false, null, null));
+            for (int step = 1; step < CHAIN_LENGTH - 1; step++) {
+                DefaultMediatorConfiguration processor = new DefaultMediatorConfiguration(process, bean);
+                processor.compute(Collections.singletonList(new BenchmarkSupport.IncomingLiteral(prefix + (step - 1))),
+                        new BenchmarkSupport.OutgoingLiteral(prefix + step), null);
+                mediators.add(processor);
+            }
+            String last = prefix + (CHAIN_LENGTH - 2);
+            if (chain % 10 == 0) {
+                merged.add(new BenchmarkSupport.IncomingLiteral(last));
+            } else {
+                channels.add(new ChannelConfiguration(last));
+            }
+        }
+        DefaultMediatorConfiguration subscriber = new DefaultMediatorConfiguration(consume, bean);
+        subscriber.compute(merged, null, null);
+        mediators.add(subscriber);
+    }
+
+    @Benchmark
+    public Graph resolve() {
+        Wiring wiring = new Wiring();
+        wiring.prepare(false, new InternalChannelRegistry(), emitters, channels, mediators);
+        return wiring.resolve();
+    }
+
+    public String process(String s) {
+        return s;
+    }
+
+    public void consume(String s) {
+        // Do nothing
+    }
+}
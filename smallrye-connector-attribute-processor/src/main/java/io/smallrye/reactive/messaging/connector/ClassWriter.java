@@ -117,10 +117,17 @@ public class ClassWriter {
     }
 
     protected static String getGetterSignatureLine(ConnectorAttribute attribute) {
+        return String.format("  public %s %s() {", getValueType(attribute), getMethodName(attribute));
+    }
+
+    /**
+     * @return the type returned by the getter of the attribute, and stored in the field holding its value
+     */
+    protected static String getValueType(ConnectorAttribute attribute) {
         if (attribute.mandatory() || hasDefaultValue(attribute)) {
-            return String.format("  public %s %s() {", getTargetType(attribute), getMethodName(attribute));
+            return getTargetType(attribute);
         } else {
-            return String.format("  public Optional<%s> %s() {", getTargetType(attribute), getMethodName(attribute));
+            return String.format("Optional<%s>", getTargetType(attribute));
         }
     }
 
@@ -178,6 +185,16 @@ public class ClassWriter {
         return "get" + toTitleCase(name);
     }
 
+    protected static String getComputeMethodName(ConnectorAttribute attribute) {
+        return "compute" + toTitleCase(attribute.name());
+    }
+
+    protected static String getFieldName(ConnectorAttribute attribute) {
+        String titleCase = toTitleCase(attribute.name());
+        // Suffixed to avoid conflicting with the config field
+        return Character.toLowerCase(titleCase.charAt(0)) + titleCase.substring(1) + "Value";
+    }
+
     private static String toTitleCase(String input) {
         if (input == null || input.trim().isEmpty()) {
             throw new IllegalArgumentException("Invalid attribute name");
@@ -251,6 +268,25 @@ public class ClassWriter {
         }
     }
 
+    static void generateFieldForAttribute(ConnectorAttribute ca, PrintWriter out) {
+        out.println(String.format("  private final %s %s;", getValueType(ca), getFieldName(ca)));
+    }
+
+    static void generateFieldInitialization(ConnectorAttribute ca, PrintWriter out) {
+        out.println(String.format("    this.%s = %s();", getFieldName(ca), getComputeMethodName(ca)));
+    }
+
+    /**
+     * Generates the method reading the attribute value from the configuration, called once from the constructor.
+     * It handles the alias, the default value and the mandatory check.
+     */
+    static void generateComputeMethodForAttribute(ConnectorAttribute ca, String connector, PrintWriter out) {
+        out.println(String.format("  private %s %s() {", getValueType(ca), getComputeMethodName(ca)));
+        out.println(ClassWriter.getGetterBody(ca, connector));
+        out.println("  }");
+        out.println();
+    }
+
     static void generateGetterForAttribute(ConnectorAttribute ca, String connector, PrintWriter out) {
         out.println("  /**");
         out.println("  * Gets the " + ca.name() + " value from the configuration.");
@@ -272,8 +308,9 @@ public class ClassWriter {
         }
         out.println("  */");
         out.println(ClassWriter.getGetterSignatureLine(ca));
-        out.println(ClassWriter.getGetterBody(ca, connector));
+        out.println(String.format("    return this.%s;", getFieldName(ca)));
         out.println("  }");
         out.println();
+        generateComputeMethodForAttribute(ca, connector, out);
     }
 }
@@ -56,7 +56,7 @@ public class CommonConfigurationClassWriter {
         out.println("import " + ConnectorFactory.class.getName() + ";");
 
         writeClassDeclaration(simpleName, connector, out);
-        writeConstructorAndConfigAccessor(simpleName, out);
+        writeConstructorAndConfigAccessor(attributes, simpleName, out);
         attributes.forEach(ca -> generateGetterForAttribute(ca, connector, out));
         writeValidateMethod(attributes, out);
 
@@ -71,17 +71,24 @@ public class CommonConfigurationClassWriter {
         out.println(String.format(" public class %s {", simpleName));
     }
 
-    private void writeConstructorAndConfigAccessor(String simpleName, PrintWriter out) {
+    private void writeConstructorAndConfigAccessor(List<ConnectorAttribute> attributes, String simpleName,
+            PrintWriter out) {
         // The Config object
         out.println("  protected final Config config;");
+        out.println("  private final String channel;");
+        attributes.forEach(ca -> generateFieldForAttribute(ca, out));
         out.println();
 
-        // The constructor
+        // The constructor, reading all the attributes once
         out.println("  /**");
         out.println("   * Creates a new " + simpleName + ".");
+        out.println("   * The attributes are read from the configuration when the object is created.");
         out.println("   */");
         out.println(String.format("  public %s(Config config) {", simpleName));
         out.println("    this.config = config;");
+        out.println("    this.channel = config.getOptionalValue(ConnectorFactory.CHANNEL_NAME_ATTRIBUTE, String.class)"
+                + ".orElse(null);");
+        attributes.forEach(ca -> generateFieldInitialization(ca, out));
         out.println("  }");
         out.println();
 
@@ -126,6 +133,9 @@ public class CommonConfigurationClassWriter {
         out.println("   * @return the channel name");
         out.println("   */");
         out.println("  public String getChannel() {");
+        out.println("    if (channel != null) {");
+        out.println("      return channel;");
+        out.println("    }");
         out.println("    return config.getValue(ConnectorFactory.CHANNEL_NAME_ATTRIBUTE, String.class);");
         out.println("  }");
         out.println();
@@ -55,20 +55,24 @@ public class ConfigurationClassWriter {
             writePackageDeclaration(packageName, out);
             writeImportStatements(out);
             writeClassDeclaration(configSimpleClassName, direction, connector, out, parentConfigSimpleClassName);
-            writeConstructor(configSimpleClassName, out);
+            writeConstructor(attributes, configSimpleClassName, out);
             attributes.forEach(ca -> generateGetterForAttribute(ca, connector, out));
             writeValidateMethod(attributes, out);
             out.println("}"); // End of class.
         }
     }
 
-    private void writeConstructor(String configSimpleClassName, PrintWriter out) {
+    private void writeConstructor(List<ConnectorAttribute> attributes, String configSimpleClassName, PrintWriter out) {
+        out.println();
+        attributes.forEach(ca -> generateFieldForAttribute(ca, out));
         out.println();
         out.println("  /**");
         out.println("   * Creates a new " + configSimpleClassName + ".");
+        out.println("   * The attributes are read from the configuration when the object is created.");
         out.println("   */");
         out.println("  public " + configSimpleClassName + "(Config config) {");
         out.println("    super(config);");
+        attributes.forEach(ca -> generateFieldInitialization(ca, out));
         out.println("    validate();");
         out.println("  }");
         out.println();
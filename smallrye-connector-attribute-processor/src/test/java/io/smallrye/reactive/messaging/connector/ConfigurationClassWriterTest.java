@@ -41,6 +41,13 @@ public class ConfigurationClassWriterTest {
         }
         String content = boas.toString("UTF-8");
         assertThat(content).contains("package org.acme;");
+        // The attributes are read once, in the constructor
+        assertThat(content)
+                .contains("private final String aValue;")
+                .contains("private final Optional<Integer> bValue;")
+                .contains("this.bValue = computeB();")
+                .contains("return this.bValue;")
+                .contains("private Optional<Integer> computeB() {");
     }
 
 }
@@ -0,0 +1,109 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Coalesces the acknowledgements of the messages received on a link.
+ * <p>
+ * Instead of switching to the context of the connection for every acknowledgement, the accepted messages are
+ * accumulated and settled together, in a single task executed on that context. The pending messages are settled when
+ * {@code maxCount} messages are pending, or when the oldest pending acknowledgement has waited {@code maxDelay}
+ * milliseconds. The completion stage returned by {@link #accept(io.vertx.amqp.AmqpMessage)} completes once the message
+ * is settled.
+ */
+public class AmqpAckCoalescer {
+
+    private final Vertx vertx;
+    private final Context context;
+    private final int maxCount;
+    private final long maxDelay;
+
+    private List<Pending> pending = new ArrayList<>();
+    private long timer = -1;
+
+    public AmqpAckCoalescer(Vertx vertx, Context context, int maxCount, long maxDelay) {
+        this.vertx = vertx;
+        this.context = context;
+        this.maxCount = maxCount;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Marks the given message as accepted once the pending acknowledgements are settled.
+     *
+     * @param message the message
+     * @return the completion stage completed once the message is settled
+     */
+    public CompletionStage<Void> accept(io.vertx.amqp.AmqpMessage message) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        boolean full;
+        synchronized (this) {
+            pending.add(new Pending(message, future));
+            full = pending.size() >= maxCount;
+            if (full) {
+                cancelTimer();
+            } else if (timer == -1) {
+                timer = vertx.setTimer(maxDelay, id -> context.runOnContext(this::settle));
+            }
+        }
+        if (full) {
+            context.runOnContext(this::settle);
+        }
+        return future;
+    }
+
+    /**
+     * Settles the pending acknowledgements without waiting for the maximum delay.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            cancelTimer();
+        }
+        context.runOnContext(this::settle);
+    }
+
+    private void cancelTimer() {
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+            timer = -1;
+        }
+    }
+
+    /**
+     * Must be called from the context of the connection.
+     */
+    private void settle() {
+        List<Pending> settled;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            settled = pending;
+            pending = new ArrayList<>();
+            cancelTimer();
+        }
+        for (Pending p : settled) {
+            p.message.accepted();
+            p.future.complete(null);
+        }
+    }
+
+    private static class Pending {
+        private final io.vertx.amqp.AmqpMessage message;
+        private final CompletableFuture<Void> future;
+
+        private Pending(io.vertx.amqp.AmqpMessage message, CompletableFuture<Void> future) {
+            this.message = message;
+            this.future = future;
+        }
+    }
+}
@@ -3,6 +3,11 @@ package io.smallrye.reactive.messaging.amqp;
 import static io.smallrye.reactive.messaging.amqp.i18n.AMQPExceptions.ex;
 import static io.smallrye.reactive.messaging.amqp.i18n.AMQPLogging.log;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
 import java.util.Optional;
 
 import javax.enterprise.inject.Instance;
@@ -34,6 +39,44 @@ public class AmqpClientHelper {
         return client;
     }
 
+    /**
+     * Computes the key identifying the connections which can be shared between channels.
+     * Channels using the same client options bean, or configuring the same connection attributes, share the key.
+     * The reconnection attributes are those of the first channel using the connection.
+     *
+     * @param config the channel configuration
+     * @return the key
+     */
+    static String getSharedConnectionKey(AmqpConnectorCommonConfiguration config) {
+        Optional<String> clientOptionsName = config.getClientOptionsName();
+        if (clientOptionsName.isPresent()) {
+            return "client-options:" + clientOptionsName.get();
+        }
+        String containerId = config.getContainerId()
+                .orElseGet(() -> config.config.getOptionalValue("containerId", String.class).orElse(null));
+        // The password is not kept in the key, only its digest is
+        return String.join(":",
+                config.getHost(),
+                Integer.toString(config.getPort()),
+                config.getUsername().orElse(""),
+                config.getPassword().map(AmqpClientHelper::digest).orElse(""),
+                Boolean.toString(config.getUseSsl()),
+                config.getVirtualHost().orElse(""),
+                config.getSniServerName().orElse(""),
+                Objects.toString(containerId, ""),
+                Integer.toString(config.getConnectTimeout()));
+    }
+
+    private static String digest(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     static AmqpClient createClientFromClientOptionsBean(Vertx vertx, Instance<AmqpClientOptions> instance,
             String optionsBeanName) {
         Instance<AmqpClientOptions> options = instance.select(Identifier.Literal.of(optionsBeanName));
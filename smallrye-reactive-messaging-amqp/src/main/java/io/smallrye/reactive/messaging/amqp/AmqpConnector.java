@@ -6,11 +6,13 @@ import static io.smallrye.reactive.messaging.annotations.ConnectorAttribute.Dire
 import static java.time.Duration.ofSeconds;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -23,6 +25,9 @@ import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.spi.Connector;
 import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
@@ -48,10 +53,8 @@ import io.smallrye.reactive.messaging.connectors.ExecutionHolder;
 import io.smallrye.reactive.messaging.health.HealthReport;
 import io.smallrye.reactive.messaging.health.HealthReporter;
 import io.vertx.amqp.AmqpClientOptions;
-import io.vertx.amqp.AmqpReceiverOptions;
 import io.vertx.amqp.AmqpSenderOptions;
 import io.vertx.mutiny.amqp.AmqpClient;
-import io.vertx.mutiny.amqp.AmqpReceiver;
 import io.vertx.mutiny.amqp.AmqpSender;
 import io.vertx.mutiny.core.Vertx;
 
@@ -73,23 +76,34 @@ import io.vertx.mutiny.core.Vertx;
 @ConnectorAttribute(name = "link-name", direction = INCOMING_AND_OUTGOING, description = "The name of the link. If not set, the channel name is used.", type = "string")
 @ConnectorAttribute(name = "client-options-name", direction = INCOMING_AND_OUTGOING, description = "The name of the AMQP Client Option bean used to customize the AMQP client configuration", type = "string", alias = "amqp-client-options-name")
 @ConnectorAttribute(name = "tracing-enabled", direction = INCOMING_AND_OUTGOING, description = "Whether tracing is enabled (default) or disabled", type = "boolean", defaultValue = "true")
+@ConnectorAttribute(name = "shared-connection", direction = INCOMING_AND_OUTGOING, description = "Whether the channel uses a connection shared with the other channels configured with the same connection attributes (host, port, credentials, client options...). Each channel opens its own link on the shared connection, and the shared connection is re-established once for all these channels", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "health-timeout", direction = INCOMING_AND_OUTGOING, description = "The max number of seconds to wait to determine if the connection with the broker is still established for the readiness check. After that threshold, the check is considered as failed.", type = "int", defaultValue = "3")
 
 @ConnectorAttribute(name = "broadcast", direction = INCOMING, description = "Whether the received AMQP messages must be dispatched to multiple _subscribers_", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "durable", direction = INCOMING, description = "Whether AMQP subscription is durable", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "auto-acknowledgement", direction = INCOMING, description = "Whether the received AMQP messages must be acknowledged when received", type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "initial-credit", direction = INCOMING, description = "The number of credits granted to the broker when the receiver link is opened. It is also the maximum number of messages received and not yet dispatched to the application", type = "int", defaultValue = "1000")
+@ConnectorAttribute(name = "credit-mode", direction = INCOMING, description = "How the receiver grants credits to the broker. With `prefetch`, the credits consumed by the messages dispatched to the application are granted again. With `demand`, the credits are granted in proportion to the requests of the application. In both cases, the credits are bounded by the `initial-credit`", type = "string", defaultValue = "prefetch")
+@ConnectorAttribute(name = "ack-coalescing-count", direction = INCOMING, description = "The maximum number of acknowledgements accumulated before settling them together on the connection. `1` settles every acknowledgement individually", type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "ack-coalescing-delay", direction = INCOMING, description = "The maximum time in milliseconds an acknowledgement is accumulated before being settled. Only used when `ack-coalescing-count` is greater than `1`", type = "long", defaultValue = "100")
 @ConnectorAttribute(name = "failure-strategy", type = "string", direction = INCOMING, description = "Specify the failure strategy to apply when a message produced from an AMQP message is nacked. Accepted values are `fail` (default), `accept`, `release`, `reject`, `modified-failed`, `modified-failed-undeliverable-here`", defaultValue = "fail")
 
 @ConnectorAttribute(name = "durable", direction = OUTGOING, description = "Whether sent AMQP messages are marked durable", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "ttl", direction = OUTGOING, description = "The time-to-live of the send AMQP messages. 0 to disable the TTL", type = "long", defaultValue = "0")
 @ConnectorAttribute(name = "credit-retrieval-period", direction = OUTGOING, description = "The period (in milliseconds) between two attempts to retrieve the credits granted by the broker. This time is used when the sender run out of credits.", type = "int", defaultValue = "2000")
 @ConnectorAttribute(name = "use-anonymous-sender", direction = OUTGOING, description = "Whether or not the connector should use an anonymous sender. Default value is `true` if the broker supports it, `false` otherwise. If not supported, it is not possible to dynamically change the destination address.", type = "boolean")
+@ConnectorAttribute(name = "pipelined", direction = OUTGOING, description = "Whether the sender caches its sender links and requests messages when the broker grants credits, instead of retrieving the sender for every message and polling the credits every `credit-retrieval-period`", type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "sender-links", direction = OUTGOING, description = "The number of sender links the messages are striped across. Only used when `pipelined` is `true`", type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "sender-connections", direction = OUTGOING, description = "The number of connections the sender links are distributed over. Only used when `pipelined` is `true`, must not exceed `sender-links`", type = "int", defaultValue = "1")
 @ConnectorAttribute(name = "merge", direction = OUTGOING, description = "Whether the connector should allow multiple upstreams", type = "boolean", defaultValue = "false")
 
 public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnectorFactory, HealthReporter {
 
     static final String CONNECTOR_NAME = "smallrye-amqp";
 
+    static final String LINK_CREDIT = "mp.messaging.amqp.link-credit";
+    static final String BUFFERED_MESSAGES = "mp.messaging.amqp.buffered-messages";
+
     static Tracer TRACER;
 
     @Inject
@@ -99,6 +113,10 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
     @Any
     private Instance<AmqpClientOptions> clientOptions;
 
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.BASE)
+    private Instance<MetricRegistry> registryInstance;
+
     private final List<AmqpClient> clients = new CopyOnWriteArrayList<>();
 
     /**
@@ -127,6 +145,11 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
      */
     private final Map<String, ConnectionHolder> holders = new ConcurrentHashMap<>();
 
+    /**
+     * Tracks the connection holders shared by several channels, keyed by their connection attributes.
+     */
+    private final Map<String, ConnectionHolder> sharedHolders = new ConcurrentHashMap<>();
+
     void setup(ExecutionHolder executionHolder) {
         this.executionHolder = executionHolder;
     }
@@ -141,31 +164,40 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private Multi<? extends Message<?>> getStreamOfMessages(AmqpReceiver receiver,
+    private Multi<? extends Message<?>> getStreamOfMessages(Multi<io.vertx.amqp.AmqpMessage> received,
             ConnectionHolder holder,
             String address,
             AmqpFailureHandler onNack,
-            Boolean tracingEnabled) {
+            AmqpConnectorIncomingConfiguration ic) {
         log.receiverListeningAddress(address);
+        boolean tracingEnabled = ic.getTracingEnabled();
+        int ackCount = ic.getAckCoalescingCount();
 
         // The processor is used to inject AMQP Connection failure in the stream and trigger a retry.
         BroadcastProcessor processor = BroadcastProcessor.create();
-        receiver.exceptionHandler(t -> {
-            log.receiverError(t);
-            processor.onError(t);
-        });
-        holder.onFailure(processor::onError);
+        Consumer<Throwable> onFailure = processor::onError;
+        holder.onFailure(onFailure);
 
         return Multi.createFrom().deferred(
                 () -> {
-                    Multi<AmqpMessage<?>> stream = receiver.toMulti()
-                            .map(m -> new AmqpMessage<>(m, holder.getContext(), onNack, tracingEnabled));
+                    // The acknowledgements are coalesced per link, as they must be settled on the link context
+                    AmqpAckCoalescer onAck = ackCount > 1
+                            ? new AmqpAckCoalescer(getVertx(), holder.getContext(), ackCount, ic.getAckCoalescingDelay())
+                            : null;
+                    Multi<AmqpMessage<?>> stream = received
+                            .onFailure().invoke(log::receiverError)
+                            .map(m -> new AmqpMessage<>(m, holder.getContext(), onNack, onAck, tracingEnabled));
+                    if (onAck != null) {
+                        stream = stream.onTermination().invoke(onAck::flush);
+                    }
 
                     if (tracingEnabled) {
                         stream = stream.onItem().invoke(this::incomingTrace);
                     }
 
-                    return Multi.createBy().merging().streams(stream, processor);
+                    return Multi.createBy().merging().streams(stream, processor)
+                            // The holder may be shared, the processor of the next subscription replaces this one
+                            .onTermination().invoke(() -> holder.removeFailureCallback(onFailure));
                 });
     }
 
@@ -177,23 +209,25 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
         opened.put(ic.getChannel(), false);
 
         boolean broadcast = ic.getBroadcast();
-        boolean durable = ic.getDurable();
-        boolean autoAck = ic.getAutoAcknowledgement();
 
-        AmqpClient client = AmqpClientHelper.createClient(this, ic, clientOptions);
-        String link = ic.getLinkName().orElseGet(ic::getChannel);
-        ConnectionHolder holder = new ConnectionHolder(client, ic, getVertx());
+        if (ic.getAckCoalescingCount() < 1) {
+            throw ex.illegalArgumentInvalidAckCoalescing("ack-coalescing-count", ic.getAckCoalescingCount());
+        }
+        if (ic.getAckCoalescingDelay() < 1) {
+            throw ex.illegalArgumentInvalidAckCoalescing("ack-coalescing-delay", ic.getAckCoalescingDelay());
+        }
+
+        AmqpCreditBasedReceiver receiver = new AmqpCreditBasedReceiver(ic, address);
+        registerReceiverGauges(ic.getChannel(), receiver);
+        ConnectionHolder holder = getConnectionHolder(ic, 0);
         holders.put(ic.getChannel(), holder);
 
         AmqpFailureHandler onNack = createFailureHandler(ic);
 
         Multi<? extends Message<?>> multi = holder.getOrEstablishConnection()
-                .onItem().transformToUni(connection -> connection.createReceiver(address, new AmqpReceiverOptions()
-                        .setAutoAcknowledgement(autoAck)
-                        .setDurable(durable)
-                        .setLinkName(link)))
+                .onItem().transformToUni(connection -> receiver.open(connection, holder.getContext()))
                 .onItem().invoke(r -> opened.put(ic.getChannel(), true))
-                .onItem().transformToMulti(r -> getStreamOfMessages(r, holder, address, onNack, ic.getTracingEnabled()));
+                .onItem().transformToMulti(r -> getStreamOfMessages(r, holder, address, onNack, ic));
 
         Integer interval = ic.getReconnectInterval();
         Integer attempts = ic.getReconnectAttempts();
@@ -220,12 +254,64 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
 
         opened.put(oc.getChannel(), false);
 
-        AtomicReference<AmqpSender> sender = new AtomicReference<>();
-        AmqpClient client = AmqpClientHelper.createClient(this, oc, clientOptions);
         String link = oc.getLinkName().orElseGet(oc::getChannel);
-        ConnectionHolder holder = new ConnectionHolder(client, oc, getVertx());
+        int links = oc.getPipelined() ? oc.getSenderLinks() : 1;
+        int connections = oc.getPipelined() ? oc.getSenderConnections() : 1;
+        if (links < 1 || connections < 1 || connections > links) {
+            throw ex.illegalArgumentInvalidSenderLinks(links, connections);
+        }
+
+        List<ConnectionHolder> holders = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            holders.add(getConnectionHolder(oc, i));
+        }
+        List<Uni<AmqpSender>> senders = new ArrayList<>();
+        for (int i = 0; i < links; i++) {
+            // The link names must be unique when several links are opened
+            String name = links == 1 ? link : link + "-" + i;
+            senders.add(getSender(oc, holders.get(i % connections), configuredAddress, name));
+        }
+
+        AmqpCreditBasedSender processor = new AmqpCreditBasedSender(
+                this,
+                holders,
+                oc,
+                senders);
+        processors.put(oc.getChannel(), processor);
+
+        return ReactiveStreams.<Message<?>> builder()
+                .via(processor)
+                .onError(t -> {
+                    log.failureReported(oc.getChannel(), t);
+                    opened.put(oc.getChannel(), false);
+                })
+                .ignore();
+    }
 
-        Uni<AmqpSender> getSender = Uni.createFrom().item(sender.get())
+    /**
+     * Gets the holder of the connection used by a channel.
+     * When the connection is shared, the holder is shared by the channels having the same connection attributes.
+     * The index distinguishes the connections of a channel using several connections.
+     *
+     * @param config the channel configuration
+     * @param index the index of the connection for this channel
+     * @return the holder
+     */
+    private ConnectionHolder getConnectionHolder(AmqpConnectorCommonConfiguration config, int index) {
+        if (!config.getSharedConnection()) {
+            AmqpClient client = AmqpClientHelper.createClient(this, config, clientOptions);
+            return new ConnectionHolder(client, config, getVertx());
+        }
+        log.sharedConnection(config.getChannel(), config.getHost(), config.getPort());
+        String key = AmqpClientHelper.getSharedConnectionKey(config) + "#" + index;
+        return sharedHolders.computeIfAbsent(key,
+                k -> new ConnectionHolder(AmqpClientHelper.createClient(this, config, clientOptions), config, getVertx()));
+    }
+
+    private Uni<AmqpSender> getSender(AmqpConnectorOutgoingConfiguration oc, ConnectionHolder holder,
+            String configuredAddress, String link) {
+        AtomicReference<AmqpSender> sender = new AtomicReference<>();
+        return Uni.createFrom().item(sender.get())
                 .onItem().ifNull().switchTo(() -> {
 
                     // If we already have a sender, use it.
@@ -260,21 +346,6 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
                     sender.set(null);
                     opened.put(oc.getChannel(), false);
                 });
-
-        AmqpCreditBasedSender processor = new AmqpCreditBasedSender(
-                this,
-                holder,
-                oc,
-                getSender);
-        processors.put(oc.getChannel(), processor);
-
-        return ReactiveStreams.<Message<?>> builder()
-                .via(processor)
-                .onError(t -> {
-                    log.failureReported(oc.getChannel(), t);
-                    opened.put(oc.getChannel(), false);
-                })
-                .ignore();
     }
 
     public void terminate(
@@ -282,6 +353,16 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
         processors.values().forEach(AmqpCreditBasedSender::cancel);
         clients.forEach(AmqpClient::closeAndForget);
         clients.clear();
+        sharedHolders.clear();
+    }
+
+    private void registerReceiverGauges(String channel, AmqpCreditBasedReceiver receiver) {
+        if (registryInstance != null && registryInstance.isResolvable()) {
+            MetricRegistry registry = registryInstance.get();
+            Tag tag = new Tag("channel", channel);
+            registry.gauge(LINK_CREDIT, receiver, AmqpCreditBasedReceiver::getCredit, tag);
+            registry.gauge(BUFFERED_MESSAGES, receiver, AmqpCreditBasedReceiver::getBufferedMessages, tag);
+        }
     }
 
     public Vertx getVertx() {
@@ -0,0 +1,258 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import static io.smallrye.reactive.messaging.amqp.i18n.AMQPExceptions.ex;
+import static io.smallrye.reactive.messaging.amqp.i18n.AMQPLogging.log;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.apache.qpid.proton.amqp.messaging.Source;
+import org.apache.qpid.proton.amqp.messaging.TerminusDurability;
+import org.apache.qpid.proton.amqp.messaging.TerminusExpiryPolicy;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.vertx.amqp.impl.AmqpConnectionImpl;
+import io.vertx.amqp.impl.AmqpMessageImpl;
+import io.vertx.mutiny.amqp.AmqpConnection;
+import io.vertx.mutiny.core.Context;
+import io.vertx.proton.ProtonLinkOptions;
+import io.vertx.proton.ProtonReceiver;
+
+/**
+ * Receives the messages of an AMQP address, managing the link credit.
+ * <p>
+ * The credit is granted according to the {@link CreditMode}, and never exceeds the initial credit, including the
+ * messages received and not yet requested by the downstream. The receiver is created once per channel, and opens a new
+ * link on each subscription, so it can be re-subscribed after a failure.
+ * <p>
+ * The link and the state of the receiver are only accessed from the context of the connection. The link credit and the
+ * number of buffered messages are also exposed for monitoring.
+ */
+public class AmqpCreditBasedReceiver {
+
+    /**
+     * The strategy used to grant credits to the broker.
+     */
+    public enum CreditMode {
+        /**
+         * The credits consumed by the messages dispatched downstream are granted again, so up to the initial credit of
+         * messages are prefetched regardless of the downstream demand.
+         */
+        PREFETCH,
+        /**
+         * The credits are granted in proportion to the downstream requests, up to the initial credit.
+         */
+        DEMAND;
+
+        public static CreditMode from(String mode) {
+            for (CreditMode value : values()) {
+                if (value.name().equalsIgnoreCase(mode)) {
+                    return value;
+                }
+            }
+            throw ex.illegalArgumentInvalidCreditMode(mode);
+        }
+    }
+
+    private final String channel;
+    private final String address;
+    private final String linkName;
+    private final boolean durable;
+    private final boolean autoAck;
+    private final int initialCredit;
+    private final CreditMode mode;
+
+    private volatile int credit;
+    private volatile int buffered;
+
+    public AmqpCreditBasedReceiver(AmqpConnectorIncomingConfiguration configuration, String address) {
+        this.channel = configuration.getChannel();
+        this.address = address;
+        this.linkName = configuration.getLinkName().orElse(channel);
+        this.durable = configuration.getDurable();
+        this.autoAck = configuration.getAutoAcknowledgement();
+        this.initialCredit = configuration.getInitialCredit();
+        this.mode = CreditMode.from(configuration.getCreditMode());
+        if (initialCredit <= 0) {
+            throw ex.illegalArgumentInvalidInitialCredit(initialCredit);
+        }
+    }
+
+    /**
+     * Opens a new link on the given connection, and streams the received messages.
+     * Closing the link cancels the stream, and the stream fails if the link is closed by the broker.
+     *
+     * @param connection the connection
+     * @param context the context of the connection
+     * @return the stream of messages, emitted once the link is opened
+     */
+    public Uni<Multi<io.vertx.amqp.AmqpMessage>> open(AmqpConnection connection, Context context) {
+        return Uni.createFrom().<Link> emitter(e -> context.runOnContext(() -> {
+            AmqpConnectionImpl delegate = (AmqpConnectionImpl) connection.getDelegate();
+            ProtonReceiver receiver = delegate.unwrap()
+                    .createReceiver(address, new ProtonLinkOptions().setLinkName(linkName));
+            if (durable) {
+                Source source = (Source) receiver.getSource();
+                source.setExpiryPolicy(TerminusExpiryPolicy.NEVER);
+                source.setDurable(TerminusDurability.UNSETTLED_STATE);
+            }
+            Link link = new Link(receiver, delegate, context);
+            receiver.setAutoAccept(false)
+                    .setPrefetch(0)
+                    .handler((delivery, message) -> link.onMessage(new AmqpMessageImpl(message, delivery, delegate)));
+            receiver.openHandler(ar -> {
+                if (ar.succeeded()) {
+                    e.complete(link);
+                } else {
+                    e.fail(ar.cause());
+                }
+            });
+            receiver.closeHandler(ar -> link.onClose());
+            receiver.detachHandler(ar -> link.onClose());
+            receiver.open();
+        })).onItem().transform(link -> Multi.createFrom().<io.vertx.amqp.AmqpMessage> publisher(link::subscribe));
+    }
+
+    /**
+     * @return the credit of the current link, {@code 0} if there is no link
+     */
+    public int getCredit() {
+        return credit;
+    }
+
+    /**
+     * @return the number of messages received on the current link and not yet requested by the downstream
+     */
+    public int getBufferedMessages() {
+        return buffered;
+    }
+
+    private class Link implements Subscription {
+
+        private final ProtonReceiver receiver;
+        private final AmqpConnectionImpl connection;
+        private final Context context;
+        private final Queue<io.vertx.amqp.AmqpMessage> queue = new ArrayDeque<>();
+
+        private Subscriber<? super io.vertx.amqp.AmqpMessage> downstream;
+        private long requested;
+        private boolean done;
+
+        private Link(ProtonReceiver receiver, AmqpConnectionImpl connection, Context context) {
+            this.receiver = receiver;
+            this.connection = connection;
+            this.context = context;
+        }
+
+        void subscribe(Subscriber<? super io.vertx.amqp.AmqpMessage> subscriber) {
+            context.runOnContext(() -> {
+                if (downstream != null) {
+                    Subscriptions.fail(subscriber, ex.illegalStateOnlyOneSubscriberAllowed());
+                    return;
+                }
+                downstream = subscriber;
+                subscriber.onSubscribe(this);
+                // Grants the initial credit in the prefetch mode
+                drain();
+            });
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Signalled from the context, as the messages, so the downstream is never called concurrently
+                context.runOnContext(() -> {
+                    if (close()) {
+                        downstream.onError(Subscriptions.getInvalidRequestException());
+                    }
+                });
+                return;
+            }
+            context.runOnContext(() -> {
+                requested = Subscriptions.add(requested, n);
+                drain();
+            });
+        }
+
+        @Override
+        public void cancel() {
+            context.runOnContext(this::close);
+        }
+
+        /**
+         * Closes the link, must be called on the context of the connection.
+         *
+         * @return {@code false} if the link was already closed
+         */
+        private boolean close() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            queue.clear();
+            credit = 0;
+            buffered = 0;
+            // A durable subscription is detached, so it is kept by the broker
+            if (durable) {
+                receiver.detach();
+            } else {
+                receiver.close();
+            }
+            return true;
+        }
+
+        void onMessage(io.vertx.amqp.AmqpMessage message) {
+            if (done) {
+                return;
+            }
+            queue.add(message);
+            drain();
+        }
+
+        void onClose() {
+            if (done) {
+                return;
+            }
+            done = true;
+            queue.clear();
+            credit = 0;
+            buffered = 0;
+            if (connection.isDisconnected()) {
+                // The connection failure is reported by the connection holder
+                return;
+            }
+            log.receiverLinkClosed(channel, address);
+            downstream.onError(ex.illegalStateReceiverLinkClosed(address));
+        }
+
+        /**
+         * Dispatches the queued messages requested by the downstream, and grants the credits according to the mode.
+         */
+        private void drain() {
+            while (!done && requested > 0 && !queue.isEmpty()) {
+                io.vertx.amqp.AmqpMessage message = queue.poll();
+                if (requested != Long.MAX_VALUE) {
+                    requested--;
+                }
+                downstream.onNext(message);
+                if (autoAck) {
+                    message.accepted();
+                }
+            }
+            if (done) {
+                return;
+            }
+            long window = mode == CreditMode.PREFETCH ? initialCredit : Math.min(initialCredit, requested);
+            long missing = window - queue.size() - receiver.getCredit();
+            if (missing > 0) {
+                receiver.flow((int) missing);
+            }
+            credit = receiver.getCredit();
+            buffered = queue.size();
+        }
+    }
+}
@@ -4,11 +4,16 @@ import static io.smallrye.reactive.messaging.amqp.i18n.AMQPExceptions.ex;
 import static io.smallrye.reactive.messaging.amqp.i18n.AMQPLogging.log;
 import static java.time.Duration.ofSeconds;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.reactivestreams.Processor;
@@ -22,6 +27,7 @@ import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.tuples.Tuple2;
@@ -30,11 +36,30 @@ import io.smallrye.reactive.messaging.amqp.tracing.HeaderInjectAdapter;
 import io.vertx.amqp.impl.AmqpMessageImpl;
 import io.vertx.mutiny.amqp.AmqpSender;
 
+/**
+ * Sends the messages to AMQP, requesting the upstream according to the credits granted by the broker.
+ * <p>
+ * By default, the sender is retrieved for every message, and the credits are polled every
+ * {@code credit-retrieval-period} once exhausted. In the pipelined mode, the messages are striped across several
+ * sender links, possibly using several connections. Each link caches its sender, and requests the upstream when the
+ * broker grants credits on the link.
+ */
 public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>, Subscription {
 
     private final ConnectionHolder holder;
+    private final List<ConnectionHolder> holders;
     private final Uni<AmqpSender> retrieveSender;
+    private final boolean pipelined;
+    private final List<SenderLink> links = new ArrayList<>();
+    private int nextLink;
+    private volatile boolean linksOpened;
     private final AtomicLong requested = new AtomicLong();
+    /**
+     * The requests of the links not yet forwarded to the upstream. The links grant credits from the contexts of their
+     * connections, so the requests are serialized, see {@link #requestUpstream(long)}.
+     */
+    private final AtomicLong linkRequests = new AtomicLong();
+    private final AtomicInteger linkRequestsWip = new AtomicInteger();
     private final AmqpConnectorOutgoingConfiguration configuration;
     private final AmqpConnector connector;
 
@@ -50,9 +75,30 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
 
     public AmqpCreditBasedSender(AmqpConnector connector, ConnectionHolder holder,
             AmqpConnectorOutgoingConfiguration configuration, Uni<AmqpSender> retrieveSender) {
+        this(connector, Collections.singletonList(holder), configuration, Collections.singletonList(retrieveSender));
+    }
+
+    /**
+     * Creates a new sender. In the pipelined mode, a sender link is created for each retrieved sender, the i-th link
+     * using the {@code i % holders.size()} connection.
+     *
+     * @param connector the connector
+     * @param holders the connections
+     * @param configuration the configuration
+     * @param retrieveSenders the senders, only the first one is used if the pipelined mode is disabled
+     */
+    public AmqpCreditBasedSender(AmqpConnector connector, List<ConnectionHolder> holders,
+            AmqpConnectorOutgoingConfiguration configuration, List<Uni<AmqpSender>> retrieveSenders) {
         this.connector = connector;
-        this.holder = holder;
-        this.retrieveSender = retrieveSender;
+        this.holder = holders.get(0);
+        this.holders = holders;
+        this.retrieveSender = retrieveSenders.get(0);
+        this.pipelined = configuration.getPipelined();
+        if (pipelined) {
+            for (int i = 0; i < retrieveSenders.size(); i++) {
+                links.add(new SenderLink(holders.get(i % holders.size()), retrieveSenders.get(i)));
+            }
+        }
         this.configuration = configuration;
         this.durable = configuration.getDurable();
         this.ttl = configuration.getTtl();
@@ -95,12 +141,21 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
     }
 
     private Uni<Boolean> isConnected(boolean attemptConnection) {
+        if (holders.size() > 1) {
+            return Uni.combine().all().unis(holders.stream().map(h -> isConnected(h, attemptConnection))
+                    .collect(Collectors.toList()))
+                    .combinedWith(list -> list.stream().allMatch(Boolean.TRUE::equals));
+        }
+        return isConnected(holder, attemptConnection);
+    }
+
+    private Uni<Boolean> isConnected(ConnectionHolder holder, boolean attemptConnection) {
         return holder.isConnected()
                 .chain(ok -> {
                     if (!ok && attemptConnection) {
                         // Retry connection, this normally happen during the "send" call
                         return holder.getOrEstablishConnection()
-                                .chain(x -> isConnected(false));
+                                .chain(x -> isConnected(holder, false));
                     }
                     return Uni.createFrom().item(ok);
                 });
@@ -145,6 +200,11 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
             return;
         }
 
+        if (pipelined) {
+            nextLink().send(message);
+            return;
+        }
+
         Subscriber<? super Message<?>> subscriber = this.downstream.get();
 
         retrieveSender
@@ -171,6 +231,54 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
                         subscriber::onError);
     }
 
+    /**
+     * Selects the link sending the next message, in a round-robin fashion among the links for which the message has
+     * been requested. Called from {@link #onNext(Message)}, so never concurrently.
+     *
+     * @return the link
+     */
+    private SenderLink nextLink() {
+        int size = links.size();
+        int start = nextLink;
+        nextLink = (start + 1) % size;
+        for (int i = 0; i < size; i++) {
+            SenderLink link = links.get((start + i) % size);
+            if (link.reserve()) {
+                return link;
+            }
+        }
+        // More messages than requested, use the next link anyway
+        return links.get(start);
+    }
+
+    /**
+     * Requests the upstream on behalf of a link. The links of different connections call it concurrently, so the
+     * requests are accumulated and forwarded by a single thread at a time.
+     *
+     * @param n the number of messages to request
+     */
+    private void requestUpstream(long n) {
+        Subscriptions.add(linkRequests, n);
+        if (linkRequestsWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            long r = linkRequests.getAndSet(0L);
+            if (r > 0 && !isCancelled()) {
+                upstream.get().request(r);
+            }
+            missed = linkRequestsWip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private synchronized void emit(Message<?> message) {
+        downstream.get().onNext(message);
+    }
+
     private void onNoMoreCredit(AmqpSender sender) {
         log.noMoreCreditsForChannel(configuration.getChannel());
         holder.getContext().runOnContext(() -> {
@@ -217,6 +325,19 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
     public void request(long l) {
         // Delay the retrieval of the sender and the request until we get a request.
         if (!once.getAndSet(true)) {
+            if (pipelined) {
+                // The links are opened one after the other, as the links sharing a connection must not establish it
+                // concurrently. The upstream is requested once all the links are opened, so the first messages are
+                // striped across all of them.
+                Multi.createFrom().iterable(links)
+                        .onItem().transformToUniAndConcatenate(SenderLink::open)
+                        .collect().last()
+                        .subscribe().with(x -> {
+                            linksOpened = true;
+                            links.forEach(link -> link.holder.getContext().runOnContext(link::grant));
+                        }, f -> downstream.get().onError(f));
+                return;
+            }
             getSenderAndCredits()
                     .onItem().ignore().andContinueWithNull()
                     .subscribe().with(s -> {
@@ -232,6 +353,115 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
         }
     }
 
+    /**
+     * A sender link of the pipelined mode.
+     * <p>
+     * The sender is cached once retrieved, and retrieved again when its connection is lost. The upstream is requested
+     * when the broker grants credits on the link, so that the messages requested for the link and not yet sent never
+     * exceed its credits. Except {@code reserved}, the state is only accessed from the context of the connection.
+     */
+    private class SenderLink {
+
+        private final ConnectionHolder holder;
+        private final Uni<AmqpSender> retrieveSender;
+        /**
+         * The messages requested for this link and not yet received from the upstream.
+         */
+        private final AtomicLong reserved = new AtomicLong();
+
+        private volatile AmqpSender sender;
+        /**
+         * Whether the sender of this link is anonymous, each link having its own connection.
+         */
+        private volatile boolean anonymous;
+        /**
+         * The messages requested for this link and not yet sent.
+         */
+        private long pending;
+
+        private SenderLink(ConnectionHolder holder, Uni<AmqpSender> retrieveSender) {
+            this.holder = holder;
+            this.retrieveSender = retrieveSender;
+        }
+
+        Uni<AmqpSender> open() {
+            holder.onFailure(t -> {
+                sender = null;
+                retrieve().subscribe().with(s -> {
+                }, this::onFailure);
+            });
+            return retrieve();
+        }
+
+        private void onFailure(Throwable failure) {
+            Subscriber<? super Message<?>> subscriber = downstream.get();
+            if (!isCancelled() && subscriber != null) {
+                subscriber.onError(failure);
+            }
+        }
+
+        private Uni<AmqpSender> retrieve() {
+            AmqpSender current = sender;
+            if (current != null && !current.connection().isDisconnected()) {
+                return Uni.createFrom().item(current);
+            }
+            return retrieveSender
+                    .onItem().call(s -> Uni.createFrom().completionStage(ConnectionHolder.runOnContext(holder.getContext(),
+                            () -> {
+                                anonymous = configuration.getUseAnonymousSender()
+                                        .orElseGet(() -> ConnectionHolder.supportAnonymousRelay(s.connection()));
+                                sender = s;
+                                // The messages requested for the previous sender are sent with this one
+                                pending = reserved.get();
+                                s.drainHandler(this::grant);
+                                if (linksOpened) {
+                                    grant();
+                                }
+                            })));
+        }
+
+        boolean reserve() {
+            return reserved.getAndUpdate(r -> r > 0 ? r - 1 : r) > 0;
+        }
+
+        /**
+         * Requests the upstream for the credits of the link not covered by the pending messages.
+         * Must be called on the context of the connection.
+         */
+        private void grant() {
+            AmqpSender current = sender;
+            if (current == null || isCancelled()) {
+                return;
+            }
+            long missing = current.remainingCredits() - pending;
+            if (missing > 0) {
+                pending += missing;
+                reserved.addAndGet(missing);
+                log.retrievedCreditsForChannel(configuration.getChannel(), missing);
+                requestUpstream(missing);
+            }
+        }
+
+        void send(Message<?> message) {
+            retrieve().subscribe().with(s -> holder.getContext().runOnContext(() -> {
+                // Subscribing on the context writes the message on the link right away, consuming a credit
+                pending--;
+                Uni<Message<?>> uni;
+                try {
+                    uni = AmqpCreditBasedSender.this.send(s, message, durable, ttl, configuredAddress, anonymous,
+                            configuration);
+                } catch (Exception e) {
+                    // Message can be sent - nacking and skipping.
+                    message.nack(e);
+                    log.serializationFailure(configuration.getChannel(), e);
+                    grant();
+                    return;
+                }
+                uni.subscribe().with(AmqpCreditBasedSender.this::emit, this::onFailure);
+            }), this::onFailure);
+        }
+    }
+
     private Uni<Message<?>> send(AmqpSender sender, Message<?> msg, boolean durable, long ttl, String configuredAddress,
             boolean isAnonymousSender, AmqpConnectorCommonConfiguration configuration) {
         int retryAttempts = configuration.getReconnectAttempts();
@@ -1,5 +1,6 @@
 package io.smallrye.reactive.messaging.amqp;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -15,6 +16,7 @@ import org.apache.qpid.proton.message.Message;
 import org.apache.qpid.proton.message.MessageError;
 import org.eclipse.microprofile.reactive.messaging.Metadata;
 
+import io.netty.buffer.Unpooled;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.smallrye.reactive.messaging.TracingMetadata;
 import io.smallrye.reactive.messaging.amqp.fault.AmqpFailureHandler;
@@ -26,11 +28,14 @@ import io.vertx.mutiny.core.buffer.Buffer;
 public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messaging.Message<T> {
 
     protected static final String APPLICATION_JSON = "application/json";
+    private static final Object NOT_CONVERTED = new Object();
     protected final io.vertx.amqp.AmqpMessage message;
     protected Metadata metadata;
     protected final IncomingAmqpMetadata amqpMetadata;
     private final Context context;
     protected final AmqpFailureHandler onNack;
+    private final AmqpAckCoalescer onAck;
+    private volatile Object payload = NOT_CONVERTED;
 
     @Deprecated
     public static <T> AmqpMessageBuilder<T> builder() {
@@ -43,10 +48,16 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
     }
 
     public AmqpMessage(io.vertx.amqp.AmqpMessage msg, Context context, AmqpFailureHandler onNack, Boolean tracingEnabled) {
+        this(msg, context, onNack, null, tracingEnabled);
+    }
+
+    public AmqpMessage(io.vertx.amqp.AmqpMessage msg, Context context, AmqpFailureHandler onNack, AmqpAckCoalescer onAck,
+            Boolean tracingEnabled) {
         this.message = msg;
         this.context = context;
         this.amqpMetadata = new IncomingAmqpMetadata(this.message);
         this.onNack = onNack;
+        this.onAck = onAck;
 
         ArrayList<Object> meta = new ArrayList<>();
         meta.add(amqpMetadata);
@@ -69,6 +80,9 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
 
     @Override
     public CompletionStage<Void> ack() {
+        if (onAck != null) {
+            return onAck.accept(message);
+        }
         // We must switch to the context having created the message.
         // This context is passed when this instance of message is created.
         // It's more a Vert.x AMQP client issue which should ensure calling `accepted` on the right context.
@@ -88,8 +102,44 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
     @SuppressWarnings("unchecked")
     @Override
     public T getPayload() {
+        // The payload is converted on first access only, messages forwarded without reading it are never decoded.
+        Object converted = payload;
+        if (converted == NOT_CONVERTED) {
+            converted = convert(message);
+            payload = converted;
+        }
         // Throw a class cass exception if it cannot be converted.
-        return (T) convert(message);
+        return (T) converted;
+    }
+
+    /**
+     * Gets a read-only view of the binary content of the message, without copying it.
+     * The binary content is the body of an AMQP Data section, or the value of an AMQP Value section using the
+     * {@code Binary} type.
+     *
+     * @return the view, {@code null} if the body is not binary
+     */
+    public ByteBuffer getPayloadAsByteBuffer() {
+        Binary bin = getBinary(message);
+        if (bin == null) {
+            return null;
+        }
+        return ByteBuffer.wrap(bin.getArray(), bin.getArrayOffset(), bin.getLength()).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets a {@link Buffer} wrapping the binary content of the message, without copying it.
+     * The returned buffer shares the content of the received message, so it must not be modified.
+     *
+     * @return the buffer, {@code null} if the body is not binary
+     * @see #getPayloadAsByteBuffer()
+     */
+    public Buffer getPayloadAsBuffer() {
+        Binary bin = getBinary(message);
+        if (bin == null) {
+            return null;
+        }
+        return wrap(bin);
     }
 
     @Override
@@ -102,10 +152,7 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
         if (body instanceof AmqpValue) {
             Object value = ((AmqpValue) body).getValue();
             if (value instanceof Binary) {
-                Binary bin = (Binary) value;
-                byte[] bytes = new byte[bin.getLength()];
-                System.arraycopy(bin.getArray(), bin.getArrayOffset(), bytes, 0, bin.getLength());
-                return bytes;
+                return toBytes((Binary) value);
             }
             return value;
         }
@@ -116,18 +163,40 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
 
         if (body instanceof Data) {
             Binary bin = ((Data) body).getValue();
-            byte[] bytes = new byte[bin.getLength()];
-            System.arraycopy(bin.getArray(), bin.getArrayOffset(), bytes, 0, bin.getLength());
-
             if (APPLICATION_JSON.equalsIgnoreCase(msg.contentType())) {
-                return Buffer.buffer(bytes).toJson();
+                // Decode from a view of the body, the bytes are not needed
+                return wrap(bin).toJson();
             }
-            return bytes;
+            return toBytes(bin);
         }
 
         return body;
     }
 
+    private static Binary getBinary(io.vertx.amqp.AmqpMessage msg) {
+        Object body = msg.unwrap().getBody();
+        if (body instanceof Data) {
+            return ((Data) body).getValue();
+        }
+        if (body instanceof AmqpValue && ((AmqpValue) body).getValue() instanceof Binary) {
+            return (Binary) ((AmqpValue) body).getValue();
+        }
+        return null;
+    }
+
+    private static byte[] toBytes(Binary bin) {
+        // The payload is owned by the application, so it does not share the received content.
+        // getPayloadAsBuffer() and getPayloadAsByteBuffer() give access to it without copy.
+        byte[] bytes = new byte[bin.getLength()];
+        System.arraycopy(bin.getArray(), bin.getArrayOffset(), bytes, 0, bin.getLength());
+        return bytes;
+    }
+
+    private static Buffer wrap(Binary bin) {
+        return new Buffer(io.vertx.core.buffer.Buffer
+                .buffer(Unpooled.wrappedBuffer(bin.getArray(), bin.getArrayOffset(), bin.getLength())));
+    }
+
     public Message unwrap() {
         return message.unwrap();
     }
@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -28,7 +29,13 @@ public class ConnectionHolder {
     private final AtomicReference<CurrentConnection> holder = new AtomicReference<>();
 
     private final Vertx vertx;
-    private Consumer<Throwable> callback;
+    private final List<Consumer<Throwable>> callbacks = new CopyOnWriteArrayList<>();
+
+    /**
+     * The pending connection attempt, shared by the users of this holder, so that a single connection is established
+     * even if they request it concurrently (for example, when the channels sharing the connection reconnect).
+     */
+    private CompletableFuture<AmqpConnection> connecting;
 
     public ConnectionHolder(AmqpClient client,
             AmqpConnectorCommonConfiguration configuration,
@@ -102,8 +109,18 @@ public class ConnectionHolder {
         }
     }
 
-    public synchronized void onFailure(Consumer<Throwable> callback) {
-        this.callback = callback;
+    /**
+     * Registers a callback notified when the current connection fails.
+     * The callback is kept for the subsequent connections, until it is removed.
+     *
+     * @param callback the callback
+     */
+    public void onFailure(Consumer<Throwable> callback) {
+        callbacks.add(callback);
+    }
+
+    public void removeFailureCallback(Consumer<Throwable> callback) {
+        callbacks.remove(callback);
     }
 
     public Uni<AmqpConnection> getOrEstablishConnection() {
@@ -117,50 +134,73 @@ public class ConnectionHolder {
         })
                 .onItem().ifNull().switchTo(() -> {
                     // we don't have a connection, try to connect.
-                    Integer retryInterval = configuration.getReconnectInterval();
-                    Integer retryAttempts = configuration.getReconnectAttempts();
+                    CompletableFuture<AmqpConnection> attempt;
+                    synchronized (this) {
+                        CurrentConnection reference = holder.get();
+                        if (reference != null && reference.connection != null && !reference.connection.isDisconnected()) {
+                            AmqpConnection connection = reference.connection;
+                            return Uni.createFrom().item(connection);
+                        }
+
+                        // Join the pending attempt if any
+                        if (connecting != null) {
+                            return Uni.createFrom().completionStage(connecting);
+                        }
+                        attempt = new CompletableFuture<>();
+                        connecting = attempt;
+                    }
 
-                    CurrentConnection reference = holder.get();
+                    // The attempt is not cancelled if the requester cancels, as other requesters may wait for it.
+                    connect().subscribe().with(
+                            conn -> {
+                                completeAttempt();
+                                attempt.complete(conn);
+                            },
+                            failure -> {
+                                completeAttempt();
+                                attempt.completeExceptionally(failure);
+                            });
+                    return Uni.createFrom().completionStage(attempt);
+                });
+    }
 
-                    if (reference != null && reference.connection != null && !reference.connection.isDisconnected()) {
-                        AmqpConnection connection = reference.connection;
-                        return Uni.createFrom().item(connection);
-                    }
+    private synchronized void completeAttempt() {
+        connecting = null;
+    }
 
-                    return client.connect()
-                            .onSubscribe().invoke(s -> log.establishingConnection())
-                            .onItem().transform(conn -> {
-                                log.connectionEstablished();
-                                holder.set(new CurrentConnection(conn, Vertx.currentContext()));
-                                conn
-                                        .exceptionHandler(t -> {
-                                            holder.set(null);
-                                            log.connectionFailure(t);
-
-                                            // The callback failure allows propagating the failure downstream,
-                                            // as we are disconnected from the flow.
-                                            Consumer<Throwable> c;
-                                            synchronized (this) {
-                                                c = callback;
-                                            }
-                                            if (c != null) {
-                                                c.accept(t);
-                                            }
-                                        });
-                                // handle the case we are already disconnected.
-                                if (conn.isDisconnected() || holder.get() == null) {
-                                    // Throwing the exception would trigger a retry.
-                                    holder.set(null);
-                                    throw ex.illegalStateConnectionDisconnected();
-                                }
-                                return conn;
-                            })
-                            .onFailure().invoke(log::unableToConnectToBroker)
-                            .onFailure().retry().withBackOff(ofSeconds(1), ofSeconds(retryInterval)).atMost(retryAttempts)
-                            .onFailure().invoke(t -> {
+    private Uni<AmqpConnection> connect() {
+        Integer retryInterval = configuration.getReconnectInterval();
+        Integer retryAttempts = configuration.getReconnectAttempts();
+
+        return client.connect()
+                .onSubscribe().invoke(s -> log.establishingConnection())
+                .onItem().transform(conn -> {
+                    log.connectionEstablished();
+                    holder.set(new CurrentConnection(conn, Vertx.currentContext()));
+                    conn
+                            .exceptionHandler(t -> {
                                 holder.set(null);
-                                log.unableToRecoverFromConnectionDisruption(t);
+                                log.connectionFailure(t);
+
+                                // The callback failure allows propagating the failure downstream,
+                                // as we are disconnected from the flow.
+                                for (Consumer<Throwable> callback : callbacks) {
+                                    callback.accept(t);
+                                }
                             });
+                    // handle the case we are already disconnected.
+                    if (conn.isDisconnected() || holder.get() == null) {
+                        // Throwing the exception would trigger a retry.
+                        holder.set(null);
+                        throw ex.illegalStateConnectionDisconnected();
+                    }
+                    return conn;
+                })
+                .onFailure().invoke(log::unableToConnectToBroker)
+                .onFailure().retry().withBackOff(ofSeconds(1), ofSeconds(retryInterval)).atMost(retryAttempts)
+                .onFailure().invoke(t -> {
+                    holder.set(null);
+                    log.unableToRecoverFromConnectionDisruption(t);
                 });
     }
 
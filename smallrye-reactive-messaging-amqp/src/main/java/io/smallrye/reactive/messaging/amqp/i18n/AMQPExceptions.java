@@ -32,4 +32,19 @@ public interface AMQPExceptions {
     @Message(id = 16005, value = "Only one subscriber allowed")
     IllegalStateException illegalStateOnlyOneSubscriberAllowed();
 
+    @Message(id = 16006, value = "Invalid credit mode: %s, accepted values are `prefetch` and `demand`")
+    IllegalArgumentException illegalArgumentInvalidCreditMode(String mode);
+
+    @Message(id = 16007, value = "Invalid initial credit: %d, the initial credit must be strictly positive")
+    IllegalArgumentException illegalArgumentInvalidInitialCredit(int credit);
+
+    @Message(id = 16008, value = "The receiver link to address `%s` has been closed by the broker")
+    IllegalStateException illegalStateReceiverLinkClosed(String address);
+
+    @Message(id = 16009, value = "Invalid value for the `%s` attribute: %d, the value must be strictly positive")
+    IllegalArgumentException illegalArgumentInvalidAckCoalescing(String attribute, long value);
+
+    @Message(id = 16010, value = "Invalid sender links configuration: %d links over %d connections, both must be strictly positive and the number of connections must not exceed the number of links")
+    IllegalArgumentException illegalArgumentInvalidSenderLinks(int links, int connections);
+
 }
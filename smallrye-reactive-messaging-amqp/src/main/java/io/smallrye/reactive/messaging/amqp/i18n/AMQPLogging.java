@@ -131,4 +131,12 @@ public interface AMQPLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.ERROR)
     @Message(id = 16228, value = "Unable to serialize message on channel `%s`, message has been nacked")
     void serializationFailure(String channel, @Cause Throwable reason);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 16229, value = "The receiver link of channel `%s` to address `%s` has been closed by the broker")
+    void receiverLinkClosed(String channel, String address);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 16230, value = "Channel `%s` uses the shared connection to %s:%d")
+    void sharedConnection(String channel, String host, int port);
 }
@@ -0,0 +1,154 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory.CHANNEL_NAME_ATTRIBUTE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.messaging.Accepted;
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.core.Vertx;
+
+public class AmqpAckCoalescingTest extends AmqpTestBase {
+
+    private AmqpConnector provider;
+    private MockServer server;
+
+    @AfterEach
+    public void cleanup() {
+        if (provider != null) {
+            provider.terminate(null);
+        }
+
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void testAcknowledgementsSettledWhenTheCountIsReached() throws Exception {
+        List<DispositionRecord> dispositions = Collections.synchronizedList(new ArrayList<>());
+        server = setupMockServer(10, dispositions, executionHolder.vertx().getDelegate());
+        List<Message<Integer>> messages = consume(5, 10_000);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 10);
+
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            acks.add(messages.get(i).ack().toCompletableFuture());
+        }
+        // Not settled before the count is reached
+        await().pollDelay(Duration.ofMillis(500)).atMost(5, TimeUnit.SECONDS).until(dispositions::isEmpty);
+        assertThat(acks).noneMatch(CompletableFuture::isDone);
+
+        acks.add(messages.get(4).ack().toCompletableFuture());
+        CompletableFuture.allOf(acks.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == 5);
+        assertThat(dispositions).allSatisfy(record -> {
+            assertThat(record.getState()).isInstanceOf(Accepted.class);
+            assertThat(record.isSettled()).isTrue();
+        });
+        assertThat(dispositions).extracting(DispositionRecord::getMessageNumber).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Timeout(30)
+    public void testAcknowledgementsSettledWhenTheDelayExpires() throws Exception {
+        List<DispositionRecord> dispositions = Collections.synchronizedList(new ArrayList<>());
+        server = setupMockServer(3, dispositions, executionHolder.vertx().getDelegate());
+        List<Message<Integer>> messages = consume(100, 200);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 3);
+        CompletableFuture<Void> acks = CompletableFuture.allOf(messages.stream()
+                .map(m -> m.ack().toCompletableFuture())
+                .toArray(CompletableFuture[]::new));
+
+        acks.get(5, TimeUnit.SECONDS);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == 3);
+        assertThat(dispositions).extracting(DispositionRecord::getMessageNumber).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testInvalidCoalescingConfiguration() {
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+
+        assertThatThrownBy(() -> provider.getPublisherBuilder(getConfig(5672, 0, 100)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> provider.getPublisherBuilder(getConfig(5672, 10, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message<Integer>> consume(int count, long delay) {
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+
+        List<Message<Integer>> messages = new CopyOnWriteArrayList<>();
+        Multi.createFrom().publisher(provider.getPublisherBuilder(getConfig(server.actualPort(), count, delay)).buildRs())
+                .subscribe().with(m -> messages.add((Message<Integer>) m));
+        return messages;
+    }
+
+    private MapBasedConfig getConfig(int port, int count, long delay) {
+        String address = UUID.randomUUID().toString();
+        return new MapBasedConfig()
+                .with(CHANNEL_NAME_ATTRIBUTE, address)
+                .with("address", address)
+                .with("host", "localhost")
+                .with("port", port)
+                .with("ack-coalescing-count", count)
+                .with("ack-coalescing-delay", delay)
+                .with("tracing-enabled", false);
+    }
+
+    private MockServer setupMockServer(int msgCount, List<DispositionRecord> dispositions, Vertx vertx) throws Exception {
+        AtomicInteger sent = new AtomicInteger(1);
+
+        return new MockServer(vertx, serverConnection -> {
+            serverConnection.openHandler(x -> {
+                serverConnection.closeHandler(y -> serverConnection.close());
+                serverConnection.open();
+            });
+
+            serverConnection.sessionOpenHandler(serverSession -> {
+                serverSession.closeHandler(x -> serverSession.close());
+                serverSession.open();
+            });
+
+            serverConnection.senderOpenHandler(serverSender -> {
+                serverSender.sendQueueDrainHandler(x -> {
+                    while (sent.get() <= msgCount && !serverSender.sendQueueFull()) {
+                        org.apache.qpid.proton.message.Message m = Proton.message();
+                        int i = sent.getAndIncrement();
+                        m.setBody(new AmqpValue(i));
+
+                        serverSender.send(m, delivery -> dispositions
+                                .add(new DispositionRecord(i, delivery.getRemoteState(), delivery.remotelySettled())));
+                    }
+                });
+
+                serverSender.open();
+            });
+        });
+    }
+}
@@ -4,17 +4,22 @@ import static io.vertx.proton.ProtonHelper.message;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.messaging.AmqpValue;
 import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
+import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.Footer;
 import org.apache.qpid.proton.message.Message;
 import org.junit.jupiter.api.Test;
 
 import io.vertx.amqp.impl.AmqpMessageImpl;
 import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.core.buffer.Buffer;
 
 public class AmqpMessageTest {
 
@@ -117,4 +122,55 @@ public class AmqpMessageTest {
         assertThat(AmqpMessage.<Long> builder().withLongAsBody(23L).build().getPayload()).isEqualTo(23L);
     }
 
+    @Test
+    public void testPayloadConvertedOnce() {
+        Message message = message();
+        message.setContentType("application/json");
+        message.setBody(new Data(new Binary("{\"hello\":\"world\"}".getBytes(StandardCharsets.UTF_8))));
+
+        AmqpMessage<JsonObject> msg = new AmqpMessage<>(new AmqpMessageImpl(message), null, null, false);
+        JsonObject payload = msg.getPayload();
+        assertThat(payload.getString("hello")).isEqualTo("world");
+        assertThat(msg.getPayload()).isSameAs(payload);
+    }
+
+    @Test
+    public void testBinaryPayloadCopiedAndViewsNotCopied() {
+        byte[] frame = "--hello--".getBytes(StandardCharsets.UTF_8);
+        byte[] whole = "hello".getBytes(StandardCharsets.UTF_8);
+
+        Message message = message();
+        message.setBody(new Data(new Binary(whole)));
+        AmqpMessage<byte[]> msg = new AmqpMessage<>(new AmqpMessageImpl(message), null, null, false);
+        assertThat(msg.getPayload()).isNotSameAs(whole).isEqualTo(whole);
+
+        // The binary only covers a slice of the array
+        message = message();
+        message.setBody(new AmqpValue(new Binary(frame, 2, 5)));
+        msg = new AmqpMessage<>(new AmqpMessageImpl(message), null, null, false);
+        assertThat(msg.getPayload()).isEqualTo(whole);
+
+        ByteBuffer view = msg.getPayloadAsByteBuffer();
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(view.remaining()).isEqualTo(5);
+        assertThat(view.get(0)).isEqualTo((byte) 'h');
+
+        Buffer buffer = msg.getPayloadAsBuffer();
+        assertThat(buffer.toString()).isEqualTo("hello");
+        frame[2] = 'j';
+        assertThat(buffer.toString()).isEqualTo("jello");
+        assertThat(view.get(0)).isEqualTo((byte) 'j');
+        assertThat(msg.getPayload()).isEqualTo(whole);
+    }
+
+    @Test
+    public void testPayloadViewsOfNonBinaryBody() {
+        Message message = message();
+        message.setBody(new AmqpValue("hello"));
+        AmqpMessage<String> msg = new AmqpMessage<>(new AmqpMessageImpl(message), null, null, false);
+        assertThat(msg.getPayloadAsByteBuffer()).isNull();
+        assertThat(msg.getPayloadAsBuffer()).isNull();
+        assertThat(msg.getPayload()).isEqualTo("hello");
+    }
+
 }
@@ -0,0 +1,187 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory.CHANNEL_NAME_ATTRIBUTE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.reactivestreams.Subscriber;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.core.Context;
+import io.vertx.proton.ProtonReceiver;
+
+public class AmqpPipelinedSenderTest extends AmqpTestBase {
+
+    private AmqpConnector provider;
+    private MockServer server;
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger links = new AtomicInteger();
+    private final Map<String, List<Object>> received = new ConcurrentHashMap<>();
+    private final Map<String, ProtonReceiver> receivers = new ConcurrentHashMap<>();
+    private final Map<String, Context> contexts = new ConcurrentHashMap<>();
+
+    @AfterEach
+    public void cleanup() {
+        if (provider != null) {
+            provider.terminate(null);
+        }
+
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void testMessagesStripedAcrossLinksAndConnections() throws Exception {
+        // Each link receives the messages allowed by its credits
+        server = setupMockServer(10);
+
+        SubscriberBuilder<? extends Message<?>, Void> sink = createProviderAndSink(getConfig(server.actualPort())
+                .with("sender-links", 3)
+                .with("sender-connections", 2));
+        //noinspection unchecked
+        Multi.createFrom().range(0, 30)
+                .map(Message::of)
+                .subscribe((Subscriber<? super Message<Integer>>) sink.build());
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> received.values().stream().mapToInt(List::size).sum() == 30);
+        assertThat(connections).hasValue(2);
+        assertThat(received).containsOnlyKeys("link-0", "link-1", "link-2");
+        assertThat(received.values()).allSatisfy(list -> assertThat(list).hasSize(10));
+    }
+
+    @Test
+    @Timeout(30)
+    public void testUpstreamRequestsAreSerialized() throws Exception {
+        server = setupMockServer(10);
+
+        SubscriberBuilder<? extends Message<?>, Void> sink = createProviderAndSink(getConfig(server.actualPort())
+                .with("sender-links", 4)
+                .with("sender-connections", 2));
+        AtomicInteger requesting = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        //noinspection unchecked
+        Multi.createFrom().range(0, 40)
+                .map(Message::of)
+                .onRequest().invoke(n -> {
+                    // The links of both connections grant their credits at the same time
+                    if (requesting.incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    requesting.decrementAndGet();
+                })
+                .subscribe((Subscriber<? super Message<Integer>>) sink.build());
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> received.values().stream().mapToInt(List::size).sum() == 40);
+        assertThat(overlaps).hasValue(0);
+    }
+
+    @Test
+    @Timeout(30)
+    public void testMessagesSentWhenCreditsAreGranted() throws Exception {
+        server = setupMockServer(5);
+
+        SubscriberBuilder<? extends Message<?>, Void> sink = createProviderAndSink(getConfig(server.actualPort())
+                // Would delay the test if the credits were polled
+                .with("credit-retrieval-period", 60_000));
+        //noinspection unchecked
+        Multi.createFrom().range(0, 20)
+                .map(Message::of)
+                .subscribe((Subscriber<? super Message<Integer>>) sink.build());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.containsKey("link-0")
+                && received.get("link-0").size() == 5);
+
+        contexts.get("link-0").runOnContext(x -> receivers.get("link-0").flow(15));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.get("link-0").size() == 20);
+        assertThat(received.get("link-0")).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+                17, 18, 19);
+    }
+
+    @Test
+    public void testInvalidSenderLinksConfiguration() {
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+
+        assertThatThrownBy(() -> provider.getSubscriberBuilder(getConfig(5672)
+                .with("sender-links", 2)
+                .with("sender-connections", 3)))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> provider.getSubscriberBuilder(getConfig(5672)
+                .with("sender-links", 0)))
+                        .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MapBasedConfig getConfig(int port) {
+        String address = UUID.randomUUID().toString();
+        return new MapBasedConfig()
+                .with(CHANNEL_NAME_ATTRIBUTE, address)
+                .with("address", address)
+                .with("host", "localhost")
+                .with("port", port)
+                .with("pipelined", true)
+                .with("tracing-enabled", false);
+    }
+
+    private SubscriberBuilder<? extends Message<?>, Void> createProviderAndSink(MapBasedConfig config) {
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+        return provider.getSubscriberBuilder(config);
+    }
+
+    private MockServer setupMockServer(int credit) throws Exception {
+        return new MockServer(executionHolder.vertx().getDelegate(), serverConnection -> {
+            connections.incrementAndGet();
+            serverConnection.openHandler(x -> {
+                serverConnection.closeHandler(y -> serverConnection.close());
+                serverConnection.open();
+            });
+
+            serverConnection.sessionOpenHandler(serverSession -> {
+                serverSession.closeHandler(x -> serverSession.close());
+                serverSession.open();
+            });
+
+            serverConnection.receiverOpenHandler(serverReceiver -> {
+                // The sender link names are not propagated by the client
+                String name = "link-" + links.getAndIncrement();
+                List<Object> list = new CopyOnWriteArrayList<>();
+                received.put(name, list);
+                receivers.put(name, serverReceiver);
+                contexts.put(name, executionHolder.vertx().getDelegate().getOrCreateContext());
+
+                serverReceiver.setTarget(serverReceiver.getRemoteTarget());
+                serverReceiver.setPrefetch(0);
+                serverReceiver.handler((delivery, message) -> list.add(((AmqpValue) message.getBody()).getValue()));
+                serverReceiver.open();
+                serverReceiver.flow(credit);
+            });
+        });
+    }
+}
@@ -0,0 +1,193 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory.CHANNEL_NAME_ATTRIBUTE;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.core.Context;
+import io.vertx.mutiny.amqp.AmqpClient;
+import io.vertx.proton.ProtonSender;
+
+public class AmqpReceiverCreditTest extends AmqpTestBase {
+
+    private AmqpConnector provider;
+    private AmqpClient client;
+    private MockServer server;
+
+    private final AtomicReference<ProtonSender> senderRef = new AtomicReference<>();
+    private final AtomicReference<Context> contextRef = new AtomicReference<>();
+    private final AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    private volatile boolean failedOnEventLoop;
+
+    @AfterEach
+    public void cleanup() {
+        if (provider != null) {
+            provider.terminate(null);
+        }
+
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void testPrefetchGrantsTheInitialCredit() throws Exception {
+        AmqpCreditBasedReceiver receiver = createReceiver("prefetch", 10);
+        Subscription subscription = subscribe(receiver, new CopyOnWriteArrayList<>());
+
+        // The initial credit is granted without any request
+        await().atMost(5, TimeUnit.SECONDS).until(() -> senderRef.get().getCredit() == 10);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> receiver.getCredit() == 10);
+        assertThat(receiver.getBufferedMessages()).isZero();
+
+        subscription.request(3);
+        send(5);
+
+        // 3 messages are dispatched, and their credits granted again, 2 are buffered
+        await().atMost(5, TimeUnit.SECONDS).until(() -> receiver.getBufferedMessages() == 2);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> receiver.getCredit() == 8);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> senderRef.get().getCredit() == 8);
+    }
+
+    @Test
+    @Timeout(30)
+    public void testDemandGrantsTheRequestedCredit() throws Exception {
+        AmqpCreditBasedReceiver receiver = createReceiver("demand", 10);
+        List<io.vertx.amqp.AmqpMessage> received = new CopyOnWriteArrayList<>();
+        Subscription subscription = subscribe(receiver, received);
+
+        // No credit is granted before the first request
+        await().pollDelay(Duration.ofMillis(500)).atMost(5, TimeUnit.SECONDS)
+                .until(() -> senderRef.get().getCredit() == 0);
+
+        subscription.request(3);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> senderRef.get().getCredit() == 3);
+        assertThat(receiver.getCredit()).isEqualTo(3);
+
+        send(3);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == 3);
+        assertThat(receiver.getCredit()).isZero();
+        assertThat(receiver.getBufferedMessages()).isZero();
+        assertThat(received).extracting(io.vertx.amqp.AmqpMessage::bodyAsInteger).containsExactly(0, 1, 2);
+
+        // The credit is bounded by the initial credit
+        subscription.request(100);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> senderRef.get().getCredit() == 10);
+        assertThat(receiver.getCredit()).isEqualTo(10);
+    }
+
+    @Test
+    @Timeout(30)
+    public void testInvalidRequestFailsTheStreamFromTheContext() throws Exception {
+        AmqpCreditBasedReceiver receiver = createReceiver("demand", 10);
+        Subscription subscription = subscribe(receiver, new CopyOnWriteArrayList<>());
+
+        subscription.request(-1);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> failureRef.get() != null);
+        assertThat(failureRef.get()).isInstanceOf(IllegalArgumentException.class);
+        // Signalled from the context of the connection, as the messages
+        assertThat(failedOnEventLoop).isTrue();
+        assertThat(receiver.getCredit()).isZero();
+    }
+
+    @Test
+    public void testInvalidCreditConfiguration() {
+        assertThatThrownBy(() -> new AmqpCreditBasedReceiver(getConfig("eager", 10), "address"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AmqpCreditBasedReceiver(getConfig("demand", 0), "address"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AmqpConnectorIncomingConfiguration getConfig(String mode, int credit) {
+        String address = UUID.randomUUID().toString();
+        int port = server == null ? 5672 : server.actualPort();
+        return new AmqpConnectorIncomingConfiguration(new MapBasedConfig()
+                .with(CHANNEL_NAME_ATTRIBUTE, address)
+                .with("address", address)
+                .with("host", "localhost")
+                .with("port", port)
+                .with("credit-mode", mode)
+                .with("initial-credit", credit)
+                .with("tracing-enabled", false));
+    }
+
+    private AmqpCreditBasedReceiver createReceiver(String mode, int credit) throws Exception {
+        server = new MockServer(executionHolder.vertx().getDelegate(), serverConnection -> {
+            serverConnection.openHandler(x -> serverConnection.open());
+            serverConnection.sessionOpenHandler(session -> session.open());
+            serverConnection.senderOpenHandler(sender -> {
+                contextRef.set(executionHolder.vertx().getDelegate().getOrCreateContext());
+                sender.open();
+                senderRef.set(sender);
+            });
+        });
+
+        AmqpConnectorIncomingConfiguration configuration = getConfig(mode, credit);
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+        client = AmqpClientHelper.createClient(provider, configuration, null);
+        return new AmqpCreditBasedReceiver(configuration, configuration.getAddress().orElseThrow(IllegalStateException::new));
+    }
+
+    private Subscription subscribe(AmqpCreditBasedReceiver receiver, List<io.vertx.amqp.AmqpMessage> received) {
+        ConnectionHolder holder = new ConnectionHolder(client, getConfig("prefetch", 1), executionHolder.vertx());
+        Multi<io.vertx.amqp.AmqpMessage> stream = holder.getOrEstablishConnection()
+                .onItem().transformToUni(connection -> receiver.open(connection, holder.getContext()))
+                .await().atMost(Duration.ofSeconds(5));
+
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        stream.subscribe().withSubscriber(new Subscriber<io.vertx.amqp.AmqpMessage>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(io.vertx.amqp.AmqpMessage message) {
+                received.add(message);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                failedOnEventLoop = Context.isOnEventLoopThread();
+                failureRef.set(t);
+            }
+
+            @Override
+            public void onComplete() {
+                // ignored
+            }
+        });
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subscription.get() != null && senderRef.get() != null);
+        return subscription.get();
+    }
+
+    private void send(int count) {
+        contextRef.get().runOnContext(x -> {
+            for (int i = 0; i < count; i++) {
+                org.apache.qpid.proton.message.Message message = Proton.message();
+                message.setBody(new AmqpValue(i));
+                senderRef.get().send(message);
+            }
+        });
+    }
+}
@@ -0,0 +1,163 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory.CHANNEL_NAME_ATTRIBUTE;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.core.Context;
+import io.vertx.proton.ProtonConnection;
+
+public class AmqpSharedConnectionTest extends AmqpTestBase {
+
+    private AmqpConnector provider;
+    private MockServer server;
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<ProtonConnection> serverConnections = new CopyOnWriteArrayList<>();
+    private final List<Context> contexts = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void cleanup() {
+        if (provider != null) {
+            provider.terminate(null);
+        }
+
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void testChannelsShareTheConnection() throws Exception {
+        server = setupMockServer();
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+
+        List<Integer> messages1 = consume(getConfig(server.actualPort(), true));
+        List<Integer> messages2 = consume(getConfig(server.actualPort(), true));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages1.size() >= 3 && messages2.size() >= 3);
+        assertThat(connections).hasValue(1);
+        assertThat(provider.getClients()).hasSize(1);
+    }
+
+    @Test
+    @Timeout(30)
+    public void testChannelsUseTheirOwnConnectionByDefault() throws Exception {
+        server = setupMockServer();
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+
+        List<Integer> messages1 = consume(getConfig(server.actualPort(), false));
+        List<Integer> messages2 = consume(getConfig(server.actualPort(), false));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages1.size() >= 3 && messages2.size() >= 3);
+        assertThat(connections).hasValue(2);
+    }
+
+    @Test
+    @Timeout(30)
+    public void testSharedConnectionReestablishedOnce() throws Exception {
+        server = setupMockServer();
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+
+        List<Integer> messages1 = consume(getConfig(server.actualPort(), true));
+        List<Integer> messages2 = consume(getConfig(server.actualPort(), true));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages1.size() >= 3 && messages2.size() >= 3);
+
+        contexts.get(0).runOnContext(x -> serverConnections.get(0).disconnect());
+        messages1.clear();
+        messages2.clear();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> messages1.size() >= 3 && messages2.size() >= 3);
+        await().pollDelay(Duration.ofMillis(500)).atMost(5, TimeUnit.SECONDS).until(() -> connections.get() == 2);
+    }
+
+    @Test
+    public void testSharedConnectionKey() {
+        String key = AmqpClientHelper.getSharedConnectionKey(keyConfig("secret", 1000));
+        assertThat(key).isEqualTo(AmqpClientHelper.getSharedConnectionKey(keyConfig("secret", 1000)))
+                .doesNotContain("secret");
+        assertThat(AmqpClientHelper.getSharedConnectionKey(keyConfig("other", 1000))).isNotEqualTo(key);
+        assertThat(AmqpClientHelper.getSharedConnectionKey(keyConfig("secret", 2000))).isNotEqualTo(key);
+        // Passwords with the same hash code do not share the connection
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(AmqpClientHelper.getSharedConnectionKey(keyConfig("Aa", 1000)))
+                .isNotEqualTo(AmqpClientHelper.getSharedConnectionKey(keyConfig("BB", 1000)));
+    }
+
+    private AmqpConnectorIncomingConfiguration keyConfig(String password, int connectTimeout) {
+        return new AmqpConnectorIncomingConfiguration(getConfig(5672, true)
+                .with("username", "user")
+                .with("password", password)
+                .with("connect-timeout", connectTimeout));
+    }
+
+    private List<Integer> consume(MapBasedConfig config) {
+        List<Integer> messages = new CopyOnWriteArrayList<>();
+        Multi.createFrom().publisher(provider.getPublisherBuilder(config).buildRs())
+                .subscribe().with(m -> messages.add((Integer) m.getPayload()));
+        return messages;
+    }
+
+    private MapBasedConfig getConfig(int port, boolean shared) {
+        String address = UUID.randomUUID().toString();
+        return new MapBasedConfig()
+                .with(CHANNEL_NAME_ATTRIBUTE, address)
+                .with("address", address)
+                .with("host", "localhost")
+                .with("port", port)
+                .with("shared-connection", shared)
+                .with("reconnect-interval", 1)
+                .with("tracing-enabled", false);
+    }
+
+    private MockServer setupMockServer() throws Exception {
+        return new MockServer(executionHolder.vertx().getDelegate(), serverConnection -> {
+            connections.incrementAndGet();
+            serverConnections.add(serverConnection);
+            contexts.add(executionHolder.vertx().getDelegate().getOrCreateContext());
+
+            serverConnection.openHandler(x -> {
+                serverConnection.closeHandler(y -> serverConnection.close());
+                serverConnection.open();
+            });
+
+            serverConnection.sessionOpenHandler(serverSession -> {
+                serverSession.closeHandler(x -> serverSession.close());
+                serverSession.open();
+            });
+
+            serverConnection.senderOpenHandler(serverSender -> {
+                AtomicInteger sent = new AtomicInteger();
+                serverSender.setSource(serverSender.getRemoteSource());
+                serverSender.sendQueueDrainHandler(x -> {
+                    while (sent.get() < 10 && !serverSender.sendQueueFull()) {
+                        org.apache.qpid.proton.message.Message m = Proton.message();
+                        m.setBody(new AmqpValue(sent.getAndIncrement()));
+                        serverSender.send(m);
+                    }
+                });
+
+                serverSender.open();
+            });
+        });
+    }
+}
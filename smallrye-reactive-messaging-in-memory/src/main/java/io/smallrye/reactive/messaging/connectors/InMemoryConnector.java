@@ -2,13 +2,18 @@ package io.smallrye.reactive.messaging.connectors;
 
 import static io.smallrye.reactive.messaging.connectors.i18n.InMemoryExceptions.ex;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -23,7 +28,10 @@ import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
 import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
 import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
 
@@ -31,6 +39,15 @@ import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
  * An implementation of connector used for testing applications without having to use external broker.
  * The idea is to substitute the `connector` of a specific channel to use `smallrye-in-memory`.
  * Then, your test can send message and checked the received messages.
+ * <p>
+ * For throughput and soak tests, the connector can also act as a local stand-in broker:
+ * <ul>
+ * <li>an incoming channel configured with {@code buffer-size} uses a bounded queue, and
+ * {@link InMemorySource#send(Object)} blocks while the queue is full and the channel does not request messages,</li>
+ * <li>an outgoing channel configured with {@code retention} can only count the received messages ({@code none}),
+ * keep the last {@code retention-size} messages ({@code last}), or keep one message every {@code sample-rate}
+ * messages, up to {@code retention-size} ({@code sample}). By default, all the messages are kept ({@code all}).</li>
+ * </ul>
  */
 @ApplicationScoped
 @Connector(InMemoryConnector.CONNECTOR)
@@ -148,14 +165,35 @@ public class InMemoryConnector implements IncomingConnectorFactory, OutgoingConn
 
         boolean broadcast = config.getOptionalValue("broadcast", Boolean.class)
                 .orElse(false);
-        return sources.computeIfAbsent(name, n -> new InMemorySourceImpl<>(n, broadcast)).source;
+        int bufferSize = getPositiveValue(config, "buffer-size", 0);
+        if (broadcast && bufferSize > 0) {
+            throw ex.illegalArgumentBoundedBroadcast(name);
+        }
+        return sources.computeIfAbsent(name, n -> new InMemorySourceImpl<>(n, broadcast, bufferSize)).source;
     }
 
     @Override
     public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config config) {
         String name = config.getOptionalValue("channel-name", String.class)
                 .orElseThrow(ex::illegalArgumentInvalidOutgoingConfig);
-        return sinks.computeIfAbsent(name, InMemorySinkImpl::new).sink;
+        String value = config.getOptionalValue("retention", String.class).orElse(Retention.ALL.name());
+        Retention retention;
+        try {
+            retention = Retention.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw ex.illegalArgumentInvalidRetention(value);
+        }
+        int retentionSize = getPositiveValue(config, "retention-size", 1000);
+        int sampleRate = getPositiveValue(config, "sample-rate", 100);
+        return sinks.computeIfAbsent(name, n -> new InMemorySinkImpl<>(n, retention, retentionSize, sampleRate)).sink;
+    }
+
+    private static int getPositiveValue(Config config, String attribute, int defaultValue) {
+        int value = config.getOptionalValue(attribute, Integer.class).orElse(defaultValue);
+        if (value < 0 || (value == 0 && defaultValue != 0)) {
+            throw ex.illegalArgumentInvalidValue(attribute, value);
+        }
+        return value;
     }
 
     /**
@@ -209,15 +247,39 @@ public class InMemoryConnector implements IncomingConnectorFactory, OutgoingConn
         return (InMemorySink<T>) sink;
     }
 
+    /**
+     * The messages kept by a sink.
+     */
+    private enum Retention {
+        /**
+         * All the messages are kept.
+         */
+        ALL,
+        /**
+         * The messages are only counted.
+         */
+        NONE,
+        /**
+         * The last {@code retention-size} messages are kept.
+         */
+        LAST,
+        /**
+         * One message every {@code sample-rate} messages is kept, up to {@code retention-size} messages.
+         */
+        SAMPLE
+    }
+
     private static class InMemorySourceImpl<T> implements InMemorySource<T> {
         private final Processor<Message<T>, Message<T>> processor;
         private final PublisherBuilder<? extends Message<T>> source;
         private final String name;
 
-        private InMemorySourceImpl(String name, boolean broadcast) {
+        private InMemorySourceImpl(String name, boolean broadcast, int bufferSize) {
             this.name = name;
             if (broadcast) {
                 processor = BroadcastProcessor.create();
+            } else if (bufferSize > 0) {
+                processor = new BoundedProcessor<>(bufferSize);
             } else {
                 processor = UnicastProcessor.create();
             }
@@ -251,18 +313,156 @@ public class InMemoryConnector implements IncomingConnectorFactory, OutgoingConn
         }
     }
 
+    /**
+     * A processor for a single subscriber, buffering the messages in a bounded queue.
+     * {@link #onNext(Message)} blocks while the queue is full, until the subscriber requests messages or cancels.
+     */
+    private static class BoundedProcessor<T> implements Processor<Message<T>, Message<T>>, Subscription {
+        private final BlockingQueue<Message<T>> queue;
+        private final AtomicReference<Subscriber<? super Message<T>>> downstream = new AtomicReference<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private volatile boolean terminated;
+        private volatile Throwable invalidRequest;
+        private Throwable failure;
+
+        private BoundedProcessor(int size) {
+            this.queue = new ArrayBlockingQueue<>(size);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Message<T>> subscriber) {
+            if (!downstream.compareAndSet(null, subscriber)) {
+                Subscriptions.fail(subscriber, ex.illegalStateOnlyOneSubscriber());
+                return;
+            }
+            subscriber.onSubscribe(this);
+            drain();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Message<T> message) {
+            if (done || cancelled) {
+                return;
+            }
+            try {
+                queue.put(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ex.illegalStateInterruptedWhileSending(e);
+            }
+            if (cancelled) {
+                queue.clear();
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Signalled by the drain loop, so the subscriber is never called concurrently
+                invalidRequest = Subscriptions.getInvalidRequestException();
+                drain();
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            // Unblock the senders
+            queue.clear();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                Subscriber<? super Message<T>> subscriber = downstream.get();
+                if (subscriber != null && !terminated && invalidRequest != null) {
+                    cancel();
+                    terminated = true;
+                    subscriber.onError(invalidRequest);
+                } else if (subscriber != null && !terminated) {
+                    long r = requested.get();
+                    long emitted = 0;
+                    while (!cancelled) {
+                        // Read done before polling, so no message is lost on completion
+                        boolean isDone = done;
+                        Message<T> message = emitted != r ? queue.poll() : null;
+                        if (message == null) {
+                            if (isDone && queue.isEmpty()) {
+                                terminate(subscriber);
+                            }
+                            break;
+                        }
+                        subscriber.onNext(message);
+                        emitted++;
+                    }
+                    if (emitted != 0) {
+                        Subscriptions.produced(requested, emitted);
+                    }
+                }
+                if (cancelled) {
+                    queue.clear();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate(Subscriber<? super Message<T>> subscriber) {
+            terminated = true;
+            if (failure != null) {
+                subscriber.onError(failure);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+
     private static class InMemorySinkImpl<T> implements InMemorySink<T> {
         private final SubscriberBuilder<? extends Message<T>, Void> sink;
-        private final List<Message<T>> list = new CopyOnWriteArrayList<>();
+        private final ArrayDeque<Message<T>> list = new ArrayDeque<>();
+        private final AtomicLong count = new AtomicLong();
         private final AtomicReference<Throwable> failure = new AtomicReference<>();
         private final AtomicBoolean completed = new AtomicBoolean();
         private final String name;
+        private final Retention retention;
+        private final int retentionSize;
+        private final int sampleRate;
 
-        private InMemorySinkImpl(String name) {
+        private InMemorySinkImpl(String name, Retention retention, int retentionSize, int sampleRate) {
             this.name = name;
+            this.retention = retention;
+            this.retentionSize = retentionSize;
+            this.sampleRate = sampleRate;
             this.sink = ReactiveStreams.<Message<T>> builder()
                     .flatMapCompletionStage(m -> {
-                        list.add(m);
+                        record(m);
                         return m.ack().thenApply(x -> m);
                     })
                     .onError(err -> failure.compareAndSet(null, err))
@@ -275,16 +475,39 @@ public class InMemoryConnector implements IncomingConnectorFactory, OutgoingConn
             return name;
         }
 
+        private void record(Message<T> message) {
+            long index = count.getAndIncrement();
+            if (retention == Retention.NONE || (retention == Retention.SAMPLE && index % sampleRate != 0)) {
+                return;
+            }
+            synchronized (list) {
+                if (retention != Retention.ALL && list.size() == retentionSize) {
+                    list.removeFirst();
+                }
+                list.addLast(message);
+            }
+        }
+
         @Override
         public List<? extends Message<T>> received() {
-            return new ArrayList<>(list);
+            synchronized (list) {
+                return new ArrayList<>(list);
+            }
+        }
+
+        @Override
+        public long count() {
+            return count.get();
         }
 
         @Override
         public void clear() {
             completed.set(false);
             failure.set(null);
-            list.clear();
+            synchronized (list) {
+                list.clear();
+                count.set(0);
+            }
         }
 
         @Override
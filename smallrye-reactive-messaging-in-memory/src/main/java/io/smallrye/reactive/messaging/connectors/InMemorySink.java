@@ -23,6 +23,14 @@ public interface InMemorySink<T> {
      */
     List<? extends Message<T>> received();
 
+    /**
+     * @return the number of messages received by the channel, including the messages that have not been kept because
+     *         of the {@code retention} of the channel. The {@link #clear()} method resets the count.
+     */
+    default long count() {
+        return received().size();
+    }
+
     /**
      * Clears the list of received messages. It also reset the received failure (if any) and the received completion
      * event.
@@ -15,6 +15,7 @@ public interface InMemorySource<T> {
 
     /**
      * Sends a message or a payload to the channel.
+     * If the channel is configured with a {@code buffer-size}, this method blocks while the buffer is full.
      *
      * @param messageOrPayload the message or payload to send. In the case of a payload, a simple message is created.
      *        Must not be {@code null}
@@ -1,6 +1,7 @@
 package io.smallrye.reactive.messaging.connectors.i18n;
 
 import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
 
@@ -28,4 +29,19 @@ public interface InMemoryExceptions {
     @Message(id = 18304, value = "Unknown channel %s")
     IllegalArgumentException illegalArgumentUnknownChannel(String channel);
 
+    @Message(id = 18305, value = "Invalid configuration of channel %s, `buffer-size` cannot be used with `broadcast`")
+    IllegalArgumentException illegalArgumentBoundedBroadcast(String channel);
+
+    @Message(id = 18306, value = "Invalid `retention` %s, accepted values are `all`, `none`, `last` and `sample`")
+    IllegalArgumentException illegalArgumentInvalidRetention(String retention);
+
+    @Message(id = 18307, value = "Invalid value of `%s`: %d")
+    IllegalArgumentException illegalArgumentInvalidValue(String attribute, int value);
+
+    @Message(id = 18308, value = "Only one subscriber allowed")
+    IllegalStateException illegalStateOnlyOneSubscriber();
+
+    @Message(id = 18309, value = "Interrupted while sending a message")
+    IllegalStateException illegalStateInterruptedWhileSending(@Cause Throwable cause);
+
 }
@@ -0,0 +1,198 @@
+package io.smallrye.reactive.messaging.connectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorLiteral;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+
+public class InMemoryConnectorBoundedTest extends WeldTestBase {
+
+    @AfterEach
+    public void cleanup() {
+        releaseConfig();
+    }
+
+    @Test
+    public void testWithBoundedSourceAndLastRetention() {
+        installConfig(new MapBasedConfig()
+                .with("mp.messaging.incoming.foo.connector", InMemoryConnector.CONNECTOR)
+                .with("mp.messaging.incoming.foo.buffer-size", 4)
+                .with("mp.messaging.outgoing.bar.connector", InMemoryConnector.CONNECTOR)
+                .with("mp.messaging.outgoing.bar.retention", "last")
+                .with("mp.messaging.outgoing.bar.retention-size", 10));
+        addBeanClass(InMemoryConnectorTest.MyBeanReceivingString.class);
+        initialize();
+        InMemoryConnector bean = container.getBeanManager().createInstance()
+                .select(InMemoryConnector.class, ConnectorLiteral.of(InMemoryConnector.CONNECTOR)).get();
+        InMemorySource<String> foo = bean.source("foo");
+        InMemorySink<String> bar = bean.sink("bar");
+
+        for (int i = 0; i < 10_000; i++) {
+            foo.send("hello-" + i);
+        }
+
+        await().until(() -> bar.count() == 10_000);
+        assertThat(bar.received()).hasSize(10).extracting(Message::getPayload)
+                .startsWith("HELLO-9990").endsWith("HELLO-9999");
+
+        bar.clear();
+        assertThat(bar.count()).isZero();
+        assertThat(bar.received()).isEmpty();
+    }
+
+    @Test
+    public void testSampleAndNoneRetention() {
+        installConfig(new MapBasedConfig()
+                .with("mp.messaging.incoming.foo.connector", InMemoryConnector.CONNECTOR)
+                .with("mp.messaging.outgoing.bar.connector", InMemoryConnector.CONNECTOR)
+                .with("mp.messaging.outgoing.bar.retention", "sample")
+                .with("mp.messaging.outgoing.bar.sample-rate", 100));
+        addBeanClass(InMemoryConnectorTest.MyBeanReceivingString.class);
+        initialize();
+        InMemoryConnector bean = container.getBeanManager().createInstance()
+                .select(InMemoryConnector.class, ConnectorLiteral.of(InMemoryConnector.CONNECTOR)).get();
+        InMemorySource<String> foo = bean.source("foo");
+        InMemorySink<String> bar = bean.sink("bar");
+
+        for (int i = 0; i < 1000; i++) {
+            foo.send("hello-" + i);
+        }
+
+        assertThat(bar.count()).isEqualTo(1000);
+        assertThat(bar.received()).hasSize(10).extracting(Message::getPayload)
+                .startsWith("HELLO-0", "HELLO-100").endsWith("HELLO-900");
+
+        InMemoryConnector connector = new InMemoryConnector();
+        connector.getSubscriberBuilder(new MapBasedConfig()
+                .with("channel-name", "counted")
+                .with("retention", "none"));
+        InMemorySink<String> counted = connector.sink("counted");
+        assertThat(counted.received()).isEmpty();
+        assertThat(counted.count()).isZero();
+    }
+
+    @Test
+    public void testSendBlocksWhileTheBufferIsFull() {
+        InMemoryConnector connector = new InMemoryConnector();
+        connector.getPublisherBuilder(new MapBasedConfig()
+                .with("channel-name", "foo")
+                .with("buffer-size", 2));
+        InMemorySource<Integer> source = connector.source("foo");
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        connector.getPublisherBuilder(new MapBasedConfig().with("channel-name", "foo")).buildRs()
+                .subscribe(new Subscriber<Message<?>>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription.set(s);
+                    }
+
+                    @Override
+                    public void onNext(Message<?> message) {
+                        received.add((Integer) message.getPayload());
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        // ignored
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        // ignored
+                    }
+                });
+
+        source.send(1);
+        source.send(2);
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> source.send(3));
+        await().pollDelay(Duration.ofMillis(200)).atMost(1, TimeUnit.SECONDS).until(() -> !third.isDone());
+
+        subscription.get().request(1);
+        await().atMost(5, TimeUnit.SECONDS).until(third::isDone);
+        assertThat(received).containsExactly(1);
+
+        subscription.get().request(10);
+        assertThat(received).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testInvalidRequestFailsTheSubscriber() {
+        InMemoryConnector connector = new InMemoryConnector();
+        connector.getPublisherBuilder(new MapBasedConfig()
+                .with("channel-name", "foo")
+                .with("buffer-size", 2));
+        InMemorySource<Integer> source = connector.source("foo");
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        connector.getPublisherBuilder(new MapBasedConfig().with("channel-name", "foo")).buildRs()
+                .subscribe(new Subscriber<Message<?>>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription.set(s);
+                    }
+
+                    @Override
+                    public void onNext(Message<?> message) {
+                        received.add((Integer) message.getPayload());
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        failure.set(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        // ignored
+                    }
+                });
+
+        source.send(1);
+        subscription.get().request(0);
+        assertThat(failure.get()).isInstanceOf(IllegalArgumentException.class);
+
+        // The processor is cancelled, the senders are not blocked anymore
+        source.send(2);
+        source.send(3);
+        source.send(4);
+        subscription.get().request(10);
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        InMemoryConnector connector = new InMemoryConnector();
+        assertThatThrownBy(() -> connector.getPublisherBuilder(new MapBasedConfig()
+                .with("channel-name", "foo")
+                .with("broadcast", true)
+                .with("buffer-size", 2)))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> connector.getSubscriberBuilder(new MapBasedConfig()
+                .with("channel-name", "bar")
+                .with("retention", "some")))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> connector.getSubscriberBuilder(new MapBasedConfig()
+                .with("channel-name", "bar")
+                .with("retention-size", 0)))
+                        .isInstanceOf(IllegalArgumentException.class);
+    }
+}
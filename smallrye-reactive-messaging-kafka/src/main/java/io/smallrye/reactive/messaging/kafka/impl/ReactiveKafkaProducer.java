@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.MockProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -202,6 +203,13 @@ public class ReactiveKafkaProducer<K, V> implements io.smallrye.reactive.messagi
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public void injectClient(MockProducer<?, ?> producer) {
+        Producer<K, V> prod = this.producer;
+        this.producer = (Producer<K, V>) producer;
+        prod.close();
+    }
+
     boolean isClosed() {
         return closed.get();
     }
@@ -4,7 +4,10 @@ import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
 import static io.smallrye.reactive.messaging.i18n.ProviderLogging.log;
 import static io.smallrye.reactive.messaging.i18n.ProviderMessages.msg;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -23,10 +26,15 @@ import org.reactivestreams.Subscriber;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.reactive.messaging.connectors.WorkerPoolRegistry;
 import io.smallrye.reactive.messaging.extension.HealthCenter;
+import io.smallrye.reactive.messaging.helpers.BatchingPublisher;
 import io.smallrye.reactive.messaging.helpers.BroadcastHelper;
+import io.smallrye.reactive.messaging.helpers.RingBufferBroadcaster.SlowSubscriberPolicy;
 import io.smallrye.reactive.messaging.helpers.TypeUtils;
+import io.smallrye.reactive.messaging.metrics.MessageCompletions;
 
 public abstract class AbstractMediator {
 
@@ -36,6 +44,10 @@ public abstract class AbstractMediator {
     private Instance<PublisherDecorator> decorators;
     protected HealthCenter health;
     private Instance<MessageConverter> converters;
+    private int broadcastRingBufferSize;
+    private SlowSubscriberPolicy slowSubscriberPolicy = SlowSubscriberPolicy.BLOCK;
+    private int batchMaxSize;
+    private Duration batchMaxWait;
 
     public AbstractMediator(MediatorConfiguration configuration) {
         this.configuration = configuration;
@@ -57,6 +69,23 @@ public abstract class AbstractMediator {
         this.workerPoolRegistry = workerPoolRegistry;
     }
 
+    public void setBroadcastRingBuffer(int size, SlowSubscriberPolicy policy) {
+        this.broadcastRingBufferSize = size;
+        this.slowSubscriberPolicy = policy;
+    }
+
+    /**
+     * Makes the mediator consume its upstream in batches, see {@link #batch(Multi)}.
+     * Must be called before {@link #connectToUpstream(Multi)}.
+     *
+     * @param maxSize the maximum number of messages of a batch
+     * @param maxWait the maximum time waited for a batch to be filled
+     */
+    public void setBatching(int maxSize, Duration maxWait) {
+        this.batchMaxSize = maxSize;
+        this.batchMaxWait = maxWait;
+    }
+
     public void run() {
         // Do nothing by default.
     }
@@ -123,8 +152,21 @@ public abstract class AbstractMediator {
         }
     }
 
+    /**
+     * Gets the maximum number of concurrent unordered blocking invocations.
+     * It is bounded by the capacity of the worker pool when the pool has a maximum queue size, so the upstream is
+     * not requested more items than the pool can run or queue. Invocations exceeding the capacity of a shared pool wait
+     * for a slot.
+     *
+     * @return the concurrency
+     */
+    protected int getBlockingConcurrency() {
+        int capacity = workerPoolRegistry.getCapacity(configuration.getWorkerPoolName());
+        return capacity > 0 ? capacity : Queues.BUFFER_S;
+    }
+
     protected CompletionStage<Message<?>> getAckOrCompletion(Message<?> message) {
-        CompletionStage<Void> ack = message.ack();
+        CompletionStage<Void> ack = MessageCompletions.ack(message);
         if (ack != null) {
             return ack.thenApply(x -> message);
         } else {
@@ -167,11 +209,12 @@ public abstract class AbstractMediator {
         }
 
         for (PublisherDecorator decorator : decorators) {
-            input = decorator.decorate(input, getConfiguration().getOutgoing());
+            input = decorator.decorate(input, getConfiguration().getOutgoing(), getConfiguration());
         }
 
         if (configuration.getBroadcast()) {
-            return BroadcastHelper.broadcastPublisher(input, configuration.getNumberOfSubscriberBeforeConnecting());
+            return BroadcastHelper.broadcastPublisher(input, configuration.getNumberOfSubscriberBeforeConnecting(),
+                    broadcastRingBufferSize, slowSubscriberPolicy);
         } else {
             return input;
         }
@@ -181,8 +224,57 @@ public abstract class AbstractMediator {
         this.health = health;
     }
 
+    /**
+     * Groups the messages of the upstream into batches when batching is enabled, see
+     * {@link #setBatching(int, Duration)}. Each batch is a message whose payload is the list of the payloads of the
+     * grouped messages. Acknowledging the batch, positively or negatively, acknowledges all the grouped messages.
+     * When the method consumes a {@code List<T>}, the payloads of the grouped messages are converted to {@code T}.
+     *
+     * @param upstream the upstream
+     * @return the stream of batches, or the upstream when batching is not enabled
+     */
+    public Multi<? extends Message<?>> batch(Multi<? extends Message<?>> upstream) {
+        if (batchMaxSize <= 0) {
+            return upstream;
+        }
+        Type ingested = configuration.getIngestedPayloadType();
+        Multi<? extends Message<?>> members = upstream;
+        if (ingested instanceof ParameterizedType
+                && ((ParameterizedType) ingested).getActualTypeArguments().length == 1) {
+            Type element = ((ParameterizedType) ingested).getActualTypeArguments()[0];
+            if (element instanceof Class || element instanceof ParameterizedType) {
+                members = convert(upstream, element);
+            }
+        }
+        return BatchingPublisher.create(members, batchMaxSize, batchMaxWait, Infrastructure.getDefaultWorkerPool())
+                .map(AbstractMediator::createBatchMessage);
+    }
+
+    private static Message<List<Object>> createBatchMessage(List<? extends Message<?>> messages) {
+        List<Object> payloads = new ArrayList<>(messages.size());
+        for (Message<?> message : messages) {
+            payloads.add(message.getPayload());
+        }
+        return Message.of(payloads,
+                () -> allOf(messages, Message::ack),
+                failure -> allOf(messages, m -> m.nack(failure)));
+    }
+
+    private static CompletableFuture<Void> allOf(List<? extends Message<?>> messages,
+            Function<Message<?>, CompletionStage<Void>> acknowledgement) {
+        CompletableFuture<?>[] futures = new CompletableFuture[messages.size()];
+        for (int i = 0; i < futures.length; i++) {
+            CompletionStage<Void> stage = acknowledgement.apply(messages.get(i));
+            futures[i] = stage == null ? CompletableFuture.completedFuture(null) : stage.toCompletableFuture();
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
     public Multi<? extends Message<?>> convert(Multi<? extends Message<?>> upstream) {
-        final Type injectedPayloadType = configuration.getIngestedPayloadType();
+        return convert(upstream, configuration.getIngestedPayloadType());
+    }
+
+    private Multi<? extends Message<?>> convert(Multi<? extends Message<?>> upstream, Type injectedPayloadType) {
         if (injectedPayloadType != null) {
             return upstream
                     .map(new Function<Message<?>, Message<?>>() {
@@ -99,6 +99,62 @@ public class DefaultMediatorConfiguration implements MediatorConfiguration {
     }
 
     public void compute(List<Incoming> incomings, Outgoing outgoing, Blocking blocking) {
+        incomings = validateAnnotations(incomings, outgoing);
+
+        this.shape = this.mediatorConfigurationSupport.determineShape(incomings, outgoing);
+
+        this.acknowledgment = this.mediatorConfigurationSupport.processSuppliedAcknowledgement(incomings, () -> {
+            Acknowledgment annotation = method.getAnnotation(Acknowledgment.class);
+            return annotation != null ? annotation.value() : null;
+        });
+
+        MediatorConfigurationSupport.ValidationOutput validationOutput = this.mediatorConfigurationSupport.validate(this.shape,
+                this.acknowledgment);
+        if (this.acknowledgment == null) {
+            this.acknowledgment = this.mediatorConfigurationSupport.processDefaultAcknowledgement(this.shape,
+                    validationOutput.getConsumption(), validationOutput.getProduction());
+        }
+
+        computeFromAnnotations(incomings, outgoing, blocking, validationOutput);
+    }
+
+    /**
+     * Computes the configuration using the result of a previous analysis of the method signature, typically persisted
+     * at build time. The annotations are read, but the signature is not analyzed again.
+     * <p>
+     * The given shape and acknowledgment strategy are checked against the annotations of the method. If they do not
+     * match, the persisted analysis is considered stale, and nothing is computed.
+     *
+     * @param incomings the incoming annotations
+     * @param outgoing the outgoing annotation, may be {@code null}
+     * @param blocking the blocking annotation, may be {@code null}
+     * @param shape the persisted shape
+     * @param acknowledgment the persisted acknowledgment strategy, including the default one
+     * @param validationOutput the persisted production, consumption, builder types and ingested payload type
+     * @return {@code true} if the configuration has been computed, {@code false} if the persisted analysis does not
+     *         match the method
+     */
+    public boolean compute(List<Incoming> incomings, Outgoing outgoing, Blocking blocking, Shape shape,
+            Acknowledgment.Strategy acknowledgment, MediatorConfigurationSupport.ValidationOutput validationOutput) {
+        incomings = validateAnnotations(incomings, outgoing);
+
+        Acknowledgment.Strategy supplied = this.mediatorConfigurationSupport.processSuppliedAcknowledgement(incomings,
+                () -> {
+                    Acknowledgment annotation = method.getAnnotation(Acknowledgment.class);
+                    return annotation != null ? annotation.value() : null;
+                });
+        if (shape != this.mediatorConfigurationSupport.determineShape(incomings, outgoing)
+                || (supplied != null && supplied != acknowledgment)) {
+            return false;
+        }
+
+        this.shape = shape;
+        this.acknowledgment = acknowledgment;
+        computeFromAnnotations(incomings, outgoing, blocking, validationOutput);
+        return true;
+    }
+
+    private List<Incoming> validateAnnotations(List<Incoming> incomings, Outgoing outgoing) {
         if (incomings != null) {
             for (Incoming incoming : incomings) {
                 if (Validation.isBlank(incoming.value())) {
@@ -112,14 +168,11 @@ public class DefaultMediatorConfiguration implements MediatorConfiguration {
         if (outgoing != null && Validation.isBlank(outgoing.value())) {
             throw ex.illegalArgumentForAnnotationNullOrBlank("@Outgoing", methodAsString());
         }
+        return incomings;
+    }
 
-        this.shape = this.mediatorConfigurationSupport.determineShape(incomings, outgoing);
-
-        this.acknowledgment = this.mediatorConfigurationSupport.processSuppliedAcknowledgement(incomings, () -> {
-            Acknowledgment annotation = method.getAnnotation(Acknowledgment.class);
-            return annotation != null ? annotation.value() : null;
-        });
-
+    private void computeFromAnnotations(List<Incoming> incomings, Outgoing outgoing, Blocking blocking,
+            MediatorConfigurationSupport.ValidationOutput validationOutput) {
         if (!incomings.isEmpty()) {
             this.incomingValues = incomings.stream().map(Incoming::value).collect(Collectors.toList());
         }
@@ -134,17 +187,11 @@ public class DefaultMediatorConfiguration implements MediatorConfiguration {
             }
         }
 
-        MediatorConfigurationSupport.ValidationOutput validationOutput = this.mediatorConfigurationSupport.validate(this.shape,
-                this.acknowledgment);
         this.production = validationOutput.getProduction();
         this.consumption = validationOutput.getConsumption();
         if (validationOutput.getUseBuilderTypes()) {
             this.useBuilderTypes = validationOutput.getUseBuilderTypes();
         }
-        if (this.acknowledgment == null) {
-            this.acknowledgment = this.mediatorConfigurationSupport.processDefaultAcknowledgement(this.shape, this.consumption,
-                    this.production);
-        }
         this.mergePolicy = this.mediatorConfigurationSupport.processMerge(incomings, () -> {
             Merge annotation = method.getAnnotation(Merge.class);
             return annotation != null ? annotation.value() : null;
@@ -21,6 +21,7 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.helpers.ClassUtils;
 import io.smallrye.reactive.messaging.helpers.MultiUtils;
+import io.smallrye.reactive.messaging.metrics.MessageCompletions;
 
 public class ProcessorMediator extends AbstractMediator {
 
@@ -48,7 +49,7 @@ public class ProcessorMediator extends AbstractMediator {
     @Override
     public void connectToUpstream(Multi<? extends Message<?>> publisher) {
         assert mapper != null;
-        this.publisher = decorate(publisher.plug(m -> mapper.apply(convert(m))));
+        this.publisher = decorate(publisher.plug(m -> mapper.apply(convert(batch(m)))));
 
     }
 
@@ -264,10 +265,11 @@ public class ProcessorMediator extends AbstractMediator {
                 this.mapper = upstream -> {
                     Multi<? extends Message<?>> multi = MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration);
                     return multi
-                            .onItem().transformToMultiAndMerge(message -> invokeBlocking(withPayloadOrMessage(message))
+                            .onItem().transformToMulti(message -> invokeBlocking(withPayloadOrMessage(message))
                                     .onItemOrFailure()
                                     .transformToUni((o, t) -> this.handlePostInvocationWithMessage((Message<?>) o, t))
-                                    .onItem().transformToMulti(this::handleSkip));
+                                    .onItem().transformToMulti(this::handleSkip))
+                            .merge(getBlockingConcurrency());
                 };
             }
 
@@ -298,9 +300,10 @@ public class ProcessorMediator extends AbstractMediator {
                                 .onItem().transformToMulti(this::handleSkip));
             } else {
                 this.mapper = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToMultiAndMerge(message -> invokeBlocking(withPayloadOrMessage(message))
+                        .onItem().transformToMulti(message -> invokeBlocking(withPayloadOrMessage(message))
                                 .onItemOrFailure().transformToUni((r, f) -> handlePostInvocation(message, r, f))
-                                .onItem().transformToMulti(this::handleSkip));
+                                .onItem().transformToMulti(this::handleSkip))
+                        .merge(getBlockingConcurrency());
             }
 
         } else {
@@ -324,22 +327,25 @@ public class ProcessorMediator extends AbstractMediator {
         if (fail != null) {
             if (isPostAck()) {
                 return Uni.createFrom()
-                        .completionStage(message.nack(fail).thenApply(x -> null));
+                        .completionStage(MessageCompletions.nack(message, fail).thenApply(x -> null));
             } else {
+                MessageCompletions.discard(message);
                 throw ex.processingException(getMethodAsString(), fail);
             }
         } else if (res != null) {
             if (isPostAck()) {
-                return Uni.createFrom().item(message.withPayload(res));
+                return Uni.createFrom().item(MessageCompletions.withPayload(message, res));
             } else {
+                MessageCompletions.discard(message);
                 return Uni.createFrom().item(Message.of(res, message.getMetadata()));
             }
         } else {
             // the method returned null, the message is not forwarded, but we ack the message in post ack
             if (isPostAck()) {
                 return Uni.createFrom()
-                        .completionStage(message.ack().thenApply(x -> null));
+                        .completionStage(MessageCompletions.ack(message).thenApply(x -> null));
             } else {
+                MessageCompletions.discard(message);
                 return Uni.createFrom().nullItem();
             }
         }
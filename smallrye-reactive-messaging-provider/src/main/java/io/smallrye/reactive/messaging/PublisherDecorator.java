@@ -18,4 +18,18 @@ public interface PublisherDecorator {
      */
     Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName);
 
+    /**
+     * Decorate a Multi produced by a mediator method.
+     * By default, it delegates to {@link #decorate(Multi, String)}.
+     *
+     * @param publisher the multi to decorate
+     * @param channelName the name of the channel to which this publisher publishes
+     * @param mediator the configuration of the mediator producing the publisher
+     * @return the extended multi
+     */
+    default Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName,
+            MediatorConfiguration mediator) {
+        return decorate(publisher, channelName);
+    }
+
 }
@@ -127,7 +127,7 @@ public class PublisherMediator extends AbstractMediator {
                         .onItem().transform(o -> (Message<?>) o));
             } else {
                 this.publisher = decorate(MultiUtils.createFromGenerator(this::invokeBlocking)
-                        .onItem().transformToUniAndMerge(u -> u)
+                        .onItem().transformToUni(u -> u).merge(getBlockingConcurrency())
                         .onItem().transform(o -> (Message<?>) o));
             }
         } else {
@@ -147,7 +147,7 @@ public class PublisherMediator extends AbstractMediator {
                         .onItem().transform(Message::of));
             } else {
                 this.publisher = decorate(MultiUtils.createFromGenerator(this::invokeBlocking)
-                        .onItem().transformToUniAndMerge(u -> u)
+                        .onItem().transformToUni(u -> u).merge(getBlockingConcurrency())
                         .onItem().transform(Message::of));
             }
         } else {
@@ -41,7 +41,7 @@ public class StreamTransformerMediator extends AbstractMediator {
     @Override
     public void connectToUpstream(Multi<? extends Message<?>> publisher) {
         Objects.requireNonNull(function);
-        Multi<? extends Message<?>> converted = convert(publisher);
+        Multi<? extends Message<?>> converted = convert(batch(publisher));
         this.publisher = decorate(function.apply(converted));
     }
 
@@ -20,6 +20,7 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.helpers.ClassUtils;
 import io.smallrye.reactive.messaging.helpers.IgnoringSubscriber;
 import io.smallrye.reactive.messaging.helpers.MultiUtils;
+import io.smallrye.reactive.messaging.metrics.MessageCompletions;
 
 public class SubscriberMediator extends AbstractMediator {
 
@@ -88,7 +89,7 @@ public class SubscriberMediator extends AbstractMediator {
 
     @Override
     public void connectToUpstream(Multi<? extends Message<?>> publisher) {
-        this.source = convert(publisher);
+        this.source = convert(batch(publisher));
     }
 
     @SuppressWarnings({ "ReactiveStreamsSubscriberImplementation" })
@@ -159,8 +160,9 @@ public class SubscriberMediator extends AbstractMediator {
                         .invoke(failure -> health.reportApplicationFailure(configuration.methodAsString(), failure));
             } else {
                 this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndMerge(msg -> invokeBlocking(msg.getPayload())
+                        .onItem().transformToUni(msg -> invokeBlocking(msg.getPayload())
                                 .onItemOrFailure().transformToUni(handleInvocationResult(msg)))
+                        .merge(getBlockingConcurrency())
                         .onFailure()
                         .invoke(failure -> health.reportApplicationFailure(configuration.methodAsString(), failure));
             }
@@ -177,16 +179,18 @@ public class SubscriberMediator extends AbstractMediator {
         return (success, failure) -> {
             if (failure != null) {
                 if (configuration.getAcknowledgment() == Acknowledgment.Strategy.POST_PROCESSING) {
-                    return Uni.createFrom().completionStage(m.nack(failure).thenApply(x -> m));
+                    return Uni.createFrom().completionStage(MessageCompletions.nack(m, failure).thenApply(x -> m));
                 } else {
                     // Invocation failed, but the message may have been already acknowledged (PRE or MANUAL), so
                     // we cannot nack. We propagate the failure downstream.
+                    MessageCompletions.discard(m);
                     return Uni.createFrom().failure(failure);
                 }
             } else {
                 if (configuration.getAcknowledgment() == Acknowledgment.Strategy.POST_PROCESSING) {
-                    return Uni.createFrom().completionStage(m.ack().thenApply(x -> m));
+                    return Uni.createFrom().completionStage(MessageCompletions.ack(m).thenApply(x -> m));
                 } else {
+                    MessageCompletions.discard(m);
                     return Uni.createFrom().item(m);
                 }
             }
@@ -203,7 +207,8 @@ public class SubscriberMediator extends AbstractMediator {
                         .onFailure().invoke(this::reportFailure);
             } else {
                 this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndMerge(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
+                        .onItem().transformToUni(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
+                        .merge(getBlockingConcurrency())
                         .onFailure().invoke(this::reportFailure);
             }
         } else {
@@ -246,7 +251,8 @@ public class SubscriberMediator extends AbstractMediator {
                         .onFailure().invoke(this::reportFailure);
             } else {
                 this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndMerge(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
+                        .onItem().transformToUni(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
+                        .merge(getBlockingConcurrency())
                         .onFailure().invoke(this::reportFailure);
             }
         } else {
@@ -283,11 +289,12 @@ public class SubscriberMediator extends AbstractMediator {
                     (m, t) -> {
                         if (configuration.getAcknowledgment() == Acknowledgment.Strategy.POST_PROCESSING) {
                             if (t != null) {
-                                return m.nack(t);
+                                return MessageCompletions.nack(m, t);
                             } else {
-                                return m.ack();
+                                return MessageCompletions.ack(m);
                             }
                         } else {
+                            MessageCompletions.discard(m);
                             CompletableFuture<Void> future = new CompletableFuture<>();
                             if (t != null) {
                                 future.completeExceptionally(t);
@@ -0,0 +1,248 @@
+package io.smallrye.reactive.messaging.connectors;
+
+import static io.smallrye.reactive.messaging.i18n.ProviderLogging.log;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.WorkerExecutor;
+
+/**
+ * A named worker pool used to execute {@code @Blocking} methods.
+ * <p>
+ * When a maximum queue size is configured, the pool hands at most {@code concurrency + maxQueueSize} tasks to its
+ * executor. Additional tasks wait in the pool until a slot is released, they are never rejected, so several methods
+ * sharing a pool, or a {@code @Blocking} generator, only slow down when the pool is saturated. Mediators using the pool
+ * also limit their concurrent invocations to this capacity, so a slow consumer propagates backpressure upstream. A task
+ * cancelled while waiting for a slot is removed from the pool.
+ * <p>
+ * The pool also records the number of queued and active tasks, and the time tasks wait before being executed.
+ */
+public class WorkerPool {
+
+    private final String name;
+    private final int concurrency;
+    private final int maxQueueSize;
+
+    private volatile WorkerExecutor executor;
+
+    /**
+     * The slots of the pool, {@code null} if the pool is not bounded.
+     */
+    private final Semaphore slots;
+
+    /**
+     * The tasks of a bounded pool waiting for a slot.
+     */
+    private final Queue<PendingTask<?>> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder waitTime = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+
+    public WorkerPool(String name, int concurrency, int maxQueueSize) {
+        this.name = name;
+        this.concurrency = concurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.slots = maxQueueSize < 0 ? null : new Semaphore(concurrency + maxQueueSize);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return the maximum number of tasks waiting for a worker, {@code -1} if unbounded
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * @return the maximum number of tasks queued or executed concurrently, {@code -1} if unbounded
+     */
+    public int getCapacity() {
+        return maxQueueSize < 0 ? -1 : concurrency + maxQueueSize;
+    }
+
+    /**
+     * @return the number of tasks waiting for a worker
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of tasks being executed
+     */
+    public int getActiveWorkers() {
+        return active.get();
+    }
+
+    /**
+     * @return the number of tasks which started their execution
+     */
+    public long getExecutedTasks() {
+        return executed.sum();
+    }
+
+    /**
+     * @return the cumulated time tasks waited before being executed
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(waitTime.sum());
+    }
+
+    WorkerExecutor getOrCreateExecutor(Vertx vertx) {
+        WorkerExecutor current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    current = vertx.createSharedWorkerExecutor(name, concurrency);
+                    log.workerPoolCreated(name, concurrency);
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    <T> Uni<T> executeBlocking(Vertx vertx, Uni<T> uni, boolean ordered) {
+        WorkerExecutor workerExecutor = getOrCreateExecutor(vertx);
+        if (slots == null) {
+            return Uni.createFrom().deferred(() -> track(workerExecutor, uni, ordered));
+        }
+        return Uni.createFrom().deferred(() -> submit(workerExecutor, uni, ordered));
+    }
+
+    private <T> Uni<T> track(WorkerExecutor workerExecutor, Uni<T> uni, boolean ordered) {
+        queued.incrementAndGet();
+        return workerExecutor.executeBlocking(started(System.nanoTime(), uni), ordered);
+    }
+
+    private <T> Uni<T> submit(WorkerExecutor workerExecutor, Uni<T> uni, boolean ordered) {
+        return Uni.createFrom().emitter(emitter -> {
+            queued.incrementAndGet();
+            PendingTask<T> task = new PendingTask<>(workerExecutor, uni, ordered, emitter);
+            emitter.onTermination(task::cancel);
+            pending.offer(task);
+            dispatch();
+        });
+    }
+
+    /**
+     * Hands the waiting tasks to the executor as long as slots are available.
+     * Called every time a task is added and every time a slot is released, so a waiting task is never left behind.
+     */
+    private void dispatch() {
+        while (!pending.isEmpty() && slots.tryAcquire()) {
+            PendingTask<?> task = pending.poll();
+            if (task == null || !task.submit()) {
+                slots.release();
+            }
+        }
+    }
+
+    private void release() {
+        slots.release();
+        dispatch();
+    }
+
+    private <T> Uni<T> started(long enqueued, Uni<T> uni) {
+        return Uni.createFrom().deferred(() -> {
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            executed.increment();
+            waitTime.add(System.nanoTime() - enqueued);
+            return uni.onTermination().invoke(active::decrementAndGet);
+        });
+    }
+
+    private static final int WAITING = 0;
+    private static final int SUBMITTED = 1;
+    private static final int RUNNING = 2;
+    private static final int CANCELLED = 3;
+
+    /**
+     * A task of a bounded pool, waiting for a slot, submitted to the executor, running, or cancelled.
+     */
+    private class PendingTask<T> {
+        private final WorkerExecutor workerExecutor;
+        private final Uni<T> uni;
+        private final boolean ordered;
+        private final UniEmitter<? super T> emitter;
+        private final long enqueued = System.nanoTime();
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        PendingTask(WorkerExecutor workerExecutor, Uni<T> uni, boolean ordered, UniEmitter<? super T> emitter) {
+            this.workerExecutor = workerExecutor;
+            this.uni = uni;
+            this.ordered = ordered;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Submits the task to the executor, the caller holds a slot.
+         *
+         * @return {@code false} if the task has been cancelled, the caller keeps the slot
+         */
+        boolean submit() {
+            if (!state.compareAndSet(WAITING, SUBMITTED)) {
+                return false;
+            }
+            Uni<T> job = Uni.createFrom().deferred(() -> {
+                if (!state.compareAndSet(SUBMITTED, RUNNING)) {
+                    // Cancelled while waiting for a worker
+                    release();
+                    return Uni.createFrom().nullItem();
+                }
+                return started(enqueued, uni).onTermination().invoke(WorkerPool.this::release);
+            });
+            workerExecutor.executeBlocking(job, ordered)
+                    .subscribe().with(emitter::complete, failure -> {
+                        if (state.compareAndSet(SUBMITTED, CANCELLED)) {
+                            // The executor did not run the task
+                            queued.decrementAndGet();
+                            release();
+                        }
+                        emitter.fail(failure);
+                    });
+            return true;
+        }
+
+        void cancel() {
+            int current = state.get();
+            while (current == WAITING || current == SUBMITTED) {
+                if (state.compareAndSet(current, CANCELLED)) {
+                    queued.decrementAndGet();
+                    if (current == WAITING) {
+                        pending.remove(this);
+                    }
+                    // A submitted task gives its slot back when the executor picks it
+                    return;
+                }
+                current = state.get();
+            }
+        }
+    }
+
+    void close() {
+        WorkerExecutor current = executor;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
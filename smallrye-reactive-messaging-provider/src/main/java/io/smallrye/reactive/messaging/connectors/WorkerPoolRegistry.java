@@ -5,7 +5,7 @@ import static io.smallrye.reactive.messaging.i18n.ProviderLogging.log;
 import static io.smallrye.reactive.messaging.i18n.ProviderMessages.msg;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -30,12 +30,12 @@ import org.eclipse.microprofile.reactive.messaging.Outgoing;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 import io.smallrye.reactive.messaging.helpers.Validation;
-import io.vertx.mutiny.core.WorkerExecutor;
 
 @ApplicationScoped
 public class WorkerPoolRegistry {
     private static final String WORKER_CONFIG_PREFIX = "smallrye.messaging.worker";
     private static final String WORKER_CONCURRENCY = "max-concurrency";
+    private static final String WORKER_QUEUE_SIZE = "max-queue-size";
 
     @Inject
     private Instance<ExecutionHolder> executionHolder;
@@ -43,16 +43,13 @@ public class WorkerPoolRegistry {
     @Inject
     private Instance<Config> configInstance;
 
-    private final Map<String, Integer> workerConcurrency = new HashMap<>();
-    private final Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
+    private final Map<String, WorkerPool> workerPools = new ConcurrentHashMap<>();
     private ExecutionHolder holder;
 
     public void terminate(
             @Observes(notifyObserver = Reception.IF_EXISTS) @Priority(100) @BeforeDestroyed(ApplicationScoped.class) Object event) {
-        if (!workerExecutors.isEmpty()) {
-            for (WorkerExecutor executor : workerExecutors.values()) {
-                executor.close();
-            }
+        for (WorkerPool pool : workerPools.values()) {
+            pool.close();
         }
     }
 
@@ -74,38 +71,42 @@ public class WorkerPoolRegistry {
         if (workerName == null) {
             return holder.vertx().executeBlocking(uni, ordered);
         } else {
-            return getWorker(workerName).executeBlocking(uni, ordered);
+            return executeOnWorker(uni, workerName, ordered);
         }
     }
 
-    private WorkerExecutor getWorker(String workerName) {
+    private <T> Uni<T> executeOnWorker(Uni<T> uni, String workerName, boolean ordered) {
         Objects.requireNonNull(workerName, msg.workerNameNotSpecified());
 
-        if (workerExecutors.containsKey(workerName)) {
-            return workerExecutors.get(workerName);
+        WorkerPool pool = workerPools.get(workerName);
+        if (pool == null) {
+            // Shouldn't get here
+            throw ex.illegalArgumentForFailedWorker();
         }
-        if (workerConcurrency.containsKey(workerName)) {
-            WorkerExecutor executor = workerExecutors.get(workerName);
-            if (executor == null) {
-                synchronized (this) {
-                    executor = workerExecutors.get(workerName);
-                    if (executor == null) {
-                        executor = holder.vertx().createSharedWorkerExecutor(workerName,
-                                workerConcurrency.get(workerName));
-                        log.workerPoolCreated(workerName, workerConcurrency.get(workerName));
-                        workerExecutors.put(workerName, executor);
-                    }
-                }
-            }
-            if (executor != null) {
-                return executor;
-            } else {
-                throw ex.runtimeForFailedWorker(workerName);
-            }
+        return pool.executeBlocking(holder.vertx(), uni, ordered);
+    }
+
+    /**
+     * Gets the maximum number of tasks a worker pool accepts concurrently, queued or running.
+     * Mediators limit the number of concurrent blocking invocations to this capacity, so the bound propagates
+     * as backpressure to the upstream.
+     *
+     * @param workerName the name of the worker pool, {@code null} for the default worker pool
+     * @return the capacity of the pool, {@code -1} if unbounded
+     */
+    public int getCapacity(String workerName) {
+        if (workerName == null) {
+            return -1;
         }
+        WorkerPool pool = workerPools.get(workerName);
+        return pool == null ? -1 : pool.getCapacity();
+    }
 
-        // Shouldn't get here
-        throw ex.illegalArgumentForFailedWorker();
+    /**
+     * @return the defined worker pools, indexed by name
+     */
+    public Map<String, WorkerPool> getWorkerPools() {
+        return Collections.unmodifiableMap(workerPools);
     }
 
     public <T> void analyzeWorker(AnnotatedType<T> annotatedType) {
@@ -136,7 +137,9 @@ public class WorkerPoolRegistry {
                         workerConfigKey);
             }
 
-            workerConcurrency.put(poolName, concurrency.get());
+            String queueSizeConfigKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_QUEUE_SIZE;
+            int queueSize = configInstance.get().getOptionalValue(queueSizeConfigKey, Integer.class).orElse(-1);
+            workerPools.computeIfAbsent(poolName, name -> new WorkerPool(name, concurrency.get(), queueSize));
         }
     }
 
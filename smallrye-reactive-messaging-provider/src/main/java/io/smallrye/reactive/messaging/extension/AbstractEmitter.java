@@ -2,10 +2,13 @@ package io.smallrye.reactive.messaging.extension;
 
 import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
 import org.eclipse.microprofile.reactive.messaging.OnOverflow;
 import org.reactivestreams.Publisher;
 
@@ -26,10 +29,21 @@ public abstract class AbstractEmitter<T> {
     protected final AtomicReference<Throwable> synchronousFailure = new AtomicReference<>();
     private final OnOverflow.Strategy overflow;
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Whether the emitter is backed by a {@link LockFreeEmitter}. In this case, the emission methods do not acquire
+     * the emitter monitor, and concurrent senders only contend on the underlying queue.
+     */
+    protected final boolean lockFree;
+
     public AbstractEmitter(EmitterConfiguration config, long defaultBufferSize) {
+        this(config, defaultBufferSize, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public AbstractEmitter(EmitterConfiguration config, long defaultBufferSize, boolean lockFree) {
         this.name = config.name;
         this.overflow = config.overflowBufferStrategy;
+        this.lockFree = lockFree;
         if (defaultBufferSize <= 0) {
             throw ex.illegalArgumentForDefaultBuffer();
         }
@@ -42,7 +56,10 @@ public abstract class AbstractEmitter<T> {
         };
 
         Multi<Message<? extends T>> tempPublisher;
-        if (config.overflowBufferStrategy == null) {
+        if (lockFree) {
+            tempPublisher = getLockFreePublisher(config.overflowBufferStrategy, config.overflowBufferSize,
+                    defaultBufferSize, deferred);
+        } else if (config.overflowBufferStrategy == null) {
             Multi<Message<? extends T>> multi = Multi.createFrom().emitter(deferred, BackPressureStrategy.BUFFER);
             tempPublisher = getPublisherUsingBufferStrategy(defaultBufferSize, multi);
         } else {
@@ -52,30 +69,51 @@ public abstract class AbstractEmitter<T> {
 
         if (config.broadcast) {
             publisher = (Multi<Message<? extends T>>) BroadcastHelper
-                    .broadcastPublisher(tempPublisher, config.numberOfSubscriberBeforeConnecting);
+                    .broadcastPublisher(tempPublisher, config.numberOfSubscriberBeforeConnecting,
+                            config.broadcastRingBufferSize, config.slowSubscriberPolicy);
         } else {
             publisher = tempPublisher;
         }
     }
 
-    public synchronized void complete() {
+    public void complete() {
+        if (lockFree) {
+            doComplete();
+        } else {
+            synchronized (this) {
+                doComplete();
+            }
+        }
+    }
+
+    private void doComplete() {
         MultiEmitter<? super Message<? extends T>> emitter = verify();
         if (emitter != null) {
             emitter.complete();
         }
     }
 
-    public synchronized void error(Exception e) {
+    public void error(Exception e) {
         if (e == null) {
             throw ex.illegalArgumentForException("null");
         }
+        if (lockFree) {
+            doError(e);
+        } else {
+            synchronized (this) {
+                doError(e);
+            }
+        }
+    }
+
+    private void doError(Exception e) {
         MultiEmitter<? super Message<? extends T>> emitter = verify();
         if (emitter != null) {
             emitter.fail(e);
         }
     }
 
-    public synchronized boolean isCancelled() {
+    public boolean isCancelled() {
         MultiEmitter<? super Message<? extends T>> emitter = internal.get();
         return emitter == null || emitter.isCancelled();
     }
@@ -119,6 +157,29 @@ public abstract class AbstractEmitter<T> {
         }
     }
 
+    /**
+     * Creates the stream backed by a {@link LockFreeEmitter}, applying the same overflow strategies as
+     * {@link #getPublisherForStrategy(OnOverflow.Strategy, long, long, Consumer)}.
+     *
+     * @param overFlowStrategy the overflow strategy, {@code null} to use the default buffer
+     * @param bufferSize the configured buffer size
+     * @param defaultBufferSize the default buffer size
+     * @param deferred the callback receiving the emitter on subscription
+     * @return the stream.
+     */
+    Multi<Message<? extends T>> getLockFreePublisher(OnOverflow.Strategy overFlowStrategy, long bufferSize,
+            long defaultBufferSize,
+            Consumer<MultiEmitter<? super Message<? extends T>>> deferred) {
+        if (overFlowStrategy == null) {
+            return getPublisherUsingBufferStrategy(defaultBufferSize,
+                    LockFreeEmitter.create(deferred, OnOverflow.Strategy.UNBOUNDED_BUFFER, 0));
+        }
+        if (overFlowStrategy == OnOverflow.Strategy.BUFFER) {
+            return LockFreeEmitter.create(deferred, overFlowStrategy, bufferSize > 0 ? bufferSize : defaultBufferSize);
+        }
+        return LockFreeEmitter.create(deferred, overFlowStrategy, 0);
+    }
+
     /**
      * Creates the stream when using the default buffer size.
      *
@@ -138,11 +199,20 @@ public abstract class AbstractEmitter<T> {
         return publisher;
     }
 
-    protected synchronized void emit(Message<? extends T> message) {
+    protected void emit(Message<? extends T> message) {
         if (message == null) {
             throw ex.illegalArgumentForNullValue();
         }
+        if (lockFree) {
+            doEmit(message);
+        } else {
+            synchronized (this) {
+                doEmit(message);
+            }
+        }
+    }
 
+    private void doEmit(Message<? extends T> message) {
         MultiEmitter<? super Message<? extends T>> emitter = verify();
         if (emitter == null) {
             if (overflow == OnOverflow.Strategy.DROP) {
@@ -164,6 +234,110 @@ public abstract class AbstractEmitter<T> {
         }
     }
 
+    /**
+     * Emits a batch of messages, checking the emitter state and the overflow once for the whole batch.
+     *
+     * @param messages the messages, must not contain {@code null} values
+     */
+    protected void emitAll(List<? extends Message<? extends T>> messages) {
+        for (Message<? extends T> message : messages) {
+            if (message == null) {
+                throw ex.illegalArgumentForNullValue();
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        if (lockFree) {
+            doEmitAll(messages);
+        } else {
+            synchronized (this) {
+                doEmitAll(messages);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void doEmitAll(List<? extends Message<? extends T>> messages) {
+        MultiEmitter<? super Message<? extends T>> emitter = verify();
+        if (emitter == null) {
+            if (overflow == OnOverflow.Strategy.DROP) {
+                // Same as for a single message, nack all the messages of the batch.
+                messages.forEach(m -> m.nack(NO_SUBSCRIBER_EXCEPTION));
+            }
+            return;
+        }
+        if (synchronousFailure.get() != null) {
+            throw ex.incomingNotFoundForEmitter(synchronousFailure.get());
+        }
+        if (emitter.isCancelled()) {
+            throw ex.illegalStateForDownstreamCancel();
+        }
+        if (emitter instanceof BatchEmitter) {
+            ((BatchEmitter) emitter).emitAll(messages);
+        } else {
+            for (Message<? extends T> message : messages) {
+                emitter.emit(message);
+            }
+        }
+        if (synchronousFailure.get() != null) {
+            throw ex.illegalStateForEmitterWhileEmitting(synchronousFailure.get());
+        }
+    }
+
+    /**
+     * Creates the messages of a batch of payloads.
+     * {@code onAck} is invoked once all the messages are acknowledged (immediately if there are no payloads), and
+     * {@code onNack} on the first negative-acknowledgement.
+     *
+     * @param payloads the payloads
+     * @param onAck the callback invoked when the whole batch is acknowledged
+     * @param onNack the callback invoked when a message of the batch is negatively acknowledged
+     * @return the list of messages
+     */
+    protected List<Message<? extends T>> createBatch(Iterable<? extends T> payloads, Runnable onAck,
+            Consumer<Throwable> onNack) {
+        List<T> list = new ArrayList<>();
+        for (T payload : payloads) {
+            if (payload == null) {
+                throw ex.illegalArgumentForNullValue();
+            }
+            list.add(payload);
+        }
+        BatchAcknowledgement acknowledgement = new BatchAcknowledgement(list.size(), onAck, onNack);
+        List<Message<? extends T>> messages = new ArrayList<>(list.size());
+        for (T payload : list) {
+            messages.add(Message.of(payload, Metadata.empty(), acknowledgement::ack, acknowledgement::nack));
+        }
+        return messages;
+    }
+
+    /**
+     * Wraps the messages of a batch so that acknowledging them also tracks the acknowledgement of the batch.
+     * The acknowledgement functions of the original messages are still invoked.
+     *
+     * @param batch the messages
+     * @param onAck the callback invoked when the whole batch is acknowledged
+     * @param onNack the callback invoked when a message of the batch is negatively acknowledged
+     * @return the list of wrapped messages
+     */
+    protected List<Message<? extends T>> wrapBatch(List<? extends Message<? extends T>> batch, Runnable onAck,
+            Consumer<Throwable> onNack) {
+        for (Message<? extends T> message : batch) {
+            if (message == null) {
+                throw ex.illegalArgumentForNullValue();
+            }
+        }
+        BatchAcknowledgement acknowledgement = new BatchAcknowledgement(batch.size(), onAck, onNack);
+        List<Message<? extends T>> messages = new ArrayList<>(batch.size());
+        for (Message<? extends T> message : batch) {
+            messages.add(message
+                    .withAck(() -> message.ack().thenCompose(x -> acknowledgement.ack()))
+                    .withNack(reason -> message.nack(reason).thenCompose(x -> acknowledgement.nack(reason))));
+        }
+        return messages;
+    }
+
     protected MultiEmitter<? super Message<? extends T>> verify() {
         MultiEmitter<? super Message<? extends T>> emitter = internal.get();
         if (emitter == null) {
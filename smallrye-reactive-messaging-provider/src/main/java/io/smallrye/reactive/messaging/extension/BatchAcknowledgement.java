@@ -0,0 +1,44 @@
+package io.smallrye.reactive.messaging.extension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the acknowledgement of the messages of a batch sent using an emitter.
+ * <p>
+ * The {@code onAck} callback is invoked once all the messages have been acknowledged, and the {@code onNack} callback
+ * on the first negative-acknowledgement. Only one of them is invoked, at most once.
+ */
+class BatchAcknowledgement {
+
+    private final AtomicInteger remaining;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private final Runnable onAck;
+    private final Consumer<Throwable> onNack;
+
+    BatchAcknowledgement(int size, Runnable onAck, Consumer<Throwable> onNack) {
+        this.remaining = new AtomicInteger(size);
+        this.onAck = onAck;
+        this.onNack = onNack;
+        if (size == 0 && done.compareAndSet(false, true)) {
+            onAck.run();
+        }
+    }
+
+    CompletionStage<Void> ack() {
+        if (remaining.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+            onAck.run();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    CompletionStage<Void> nack(Throwable reason) {
+        if (done.compareAndSet(false, true)) {
+            onNack.accept(reason);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,22 @@
+package io.smallrye.reactive.messaging.extension;
+
+import java.util.List;
+
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * A {@link MultiEmitter} able to emit a batch of items, checking the overflow once for the whole batch.
+ *
+ * @param <T> the type to emit
+ */
+interface BatchEmitter<T> extends MultiEmitter<T> {
+
+    /**
+     * Emits all the given items.
+     * Unless the overflow strategy drops items, either all the items are emitted or none of them.
+     *
+     * @param items the items, must not be {@code null} nor contain {@code null} values
+     * @return this emitter
+     */
+    MultiEmitter<T> emitAll(List<? extends T> items);
+}
@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.extension;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -22,10 +23,20 @@ class CollectedMediatorMetadata {
 
     boolean strict = false;
 
+    private PersistedMediatorMetadata persisted;
+
     void strict() {
         strict = true;
     }
 
+    /**
+     * Sets the metadata computed at build time.
+     * The methods having an entry in the persisted metadata are not analyzed, unless the strict mode is enabled.
+     */
+    void persisted(PersistedMediatorMetadata persisted) {
+        this.persisted = persisted;
+    }
+
     void add(Method method, Bean<?> bean) {
         mediators.add(createMediatorConfiguration(method, bean));
     }
@@ -40,6 +51,13 @@ class CollectedMediatorMetadata {
         Incoming incoming = met.getAnnotation(Incoming.class);
         Outgoing outgoing = met.getAnnotation(Outgoing.class);
         Blocking blocking = met.getAnnotation(Blocking.class);
+        if (!strict && persisted != null && (incomings == null || incomings.value().length > 0)) {
+            List<Incoming> list = incomings != null ? Arrays.asList(incomings.value())
+                    : incoming != null ? Collections.singletonList(incoming) : Collections.emptyList();
+            if (persisted.apply(configuration, met, list, outgoing, blocking)) {
+                return configuration;
+            }
+        }
         if (incomings != null) {
             configuration.compute(incomings, outgoing, blocking);
         } else if (incoming != null) {
@@ -3,6 +3,7 @@ package io.smallrye.reactive.messaging.extension;
 import org.eclipse.microprofile.reactive.messaging.OnOverflow;
 
 import io.smallrye.reactive.messaging.annotations.Broadcast;
+import io.smallrye.reactive.messaging.helpers.RingBufferBroadcaster.SlowSubscriberPolicy;
 
 /**
  * Emitter configuration.
@@ -16,6 +17,8 @@ public class EmitterConfiguration {
     public long overflowBufferSize;
     public boolean broadcast;
     public int numberOfSubscriberBeforeConnecting;
+    public int broadcastRingBufferSize;
+    public SlowSubscriberPolicy slowSubscriberPolicy = SlowSubscriberPolicy.BLOCK;
 
     public EmitterConfiguration() {
         // Used for proxies.
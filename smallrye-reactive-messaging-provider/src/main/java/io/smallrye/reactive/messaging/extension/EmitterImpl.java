@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.extension;
 
 import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -20,8 +21,12 @@ public class EmitterImpl<T> extends AbstractEmitter<T> implements Emitter<T> {
         super(config, defaultBufferSize);
     }
 
+    public EmitterImpl(EmitterConfiguration config, long defaultBufferSize, boolean lockFree) {
+        super(config, defaultBufferSize, lockFree);
+    }
+
     @Override
-    public synchronized CompletionStage<Void> send(T payload) {
+    public CompletionStage<Void> send(T payload) {
         if (payload == null) {
             throw ex.illegalArgumentForNullValue();
         }
@@ -38,11 +43,47 @@ public class EmitterImpl<T> extends AbstractEmitter<T> implements Emitter<T> {
     }
 
     @Override
-    public synchronized <M extends Message<? extends T>> void send(M msg) {
+    public <M extends Message<? extends T>> void send(M msg) {
         if (msg == null) {
             throw ex.illegalArgumentForNullValue();
         }
         emit(msg);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole batch is enqueued at once. With the {@code BUFFER} and {@code THROW_EXCEPTION} overflow strategies, and
+     * the {@code FAIL} strategy of lock-free emitters, the overflow is checked for the whole batch: either the whole
+     * batch is sent or none of its messages. With the other strategies, including the default one, the overflow is
+     * checked for each message, so an overflow in the middle of the batch does not withdraw the messages before it.
+     */
+    @Override
+    public CompletionStage<Void> sendAll(Iterable<? extends T> payloads) {
+        if (payloads == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        emitAll(createBatch(payloads, () -> future.complete(null), future::completeExceptionally));
+        return future;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole batch is enqueued at once. With the {@code BUFFER} and {@code THROW_EXCEPTION} overflow strategies, and
+     * the {@code FAIL} strategy of lock-free emitters, the overflow is checked for the whole batch: either the whole
+     * batch is sent or none of its messages. With the other strategies, including the default one, the overflow is
+     * checked for each message, so an overflow in the middle of the batch does not withdraw the messages before it.
+     */
+    @Override
+    public CompletionStage<Void> sendMessages(List<? extends Message<? extends T>> messages) {
+        if (messages == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        emitAll(wrapBatch(messages, () -> future.complete(null), future::completeExceptionally));
+        return future;
+    }
+
 }
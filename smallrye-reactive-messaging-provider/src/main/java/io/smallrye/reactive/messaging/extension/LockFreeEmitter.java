@@ -0,0 +1,347 @@
+package io.smallrye.reactive.messaging.extension;
+
+import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.reactive.messaging.helpers.NoStackTraceException;
+
+/**
+ * A {@link MultiEmitter} accepting items from multiple threads without locking.
+ * <p>
+ * Emitted items are offered to a multi-producer single-consumer queue and drained to the downstream subscriber by
+ * whichever thread wins the work-in-progress counter. Producers never block each other: they only contend on atomic
+ * counters. The overflow strategies mirror the ones provided by {@link AbstractEmitter#getPublisherForStrategy}.
+ *
+ * @param <T> the type to emit
+ */
+class LockFreeEmitter<T> implements BatchEmitter<T>, Subscription {
+
+    private static final Throwable COMPLETED = new NoStackTraceException("completed");
+
+    private final Subscriber<? super T> downstream;
+    private final OnOverflow.Strategy strategy;
+    private final boolean bounded;
+
+    private final Queue<T> queue;
+    private final AtomicReference<T> latest = new AtomicReference<>();
+
+    /**
+     * The number of items that can still be enqueued without overflowing: the buffer size plus the requests not yet
+     * consumed by an emission. Only used by the bounded strategies.
+     */
+    private final AtomicLong credits;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<Throwable> terminal = new AtomicReference<>();
+    private final AtomicReference<Runnable> onTermination = new AtomicReference<>();
+    private volatile boolean cancelled;
+    /**
+     * The failure of an invalid request, signalled by the drain loop so the downstream is never called concurrently.
+     */
+    private volatile Throwable invalidRequest;
+
+    /**
+     * Creates a new {@link Multi} backed by a {@link LockFreeEmitter}.
+     *
+     * @param deferred the callback receiving the emitter on subscription
+     * @param strategy the overflow strategy, {@code null} is equivalent to {@code UNBOUNDED_BUFFER}
+     * @param bufferSize the size of the buffer, only used by the {@code BUFFER} strategy
+     * @param <T> the type of item
+     * @return the multi
+     */
+    public static <T> Multi<T> create(Consumer<MultiEmitter<? super T>> deferred, OnOverflow.Strategy strategy,
+            long bufferSize) {
+        OnOverflow.Strategy actual = strategy == null ? OnOverflow.Strategy.UNBOUNDED_BUFFER : strategy;
+        if (actual == OnOverflow.Strategy.BUFFER && bufferSize <= 0) {
+            throw ex.illegalArgumentForDefaultBuffer();
+        }
+        return Multi.createFrom().publisher(subscriber -> {
+            LockFreeEmitter<T> emitter = new LockFreeEmitter<>(subscriber, actual, bufferSize);
+            subscriber.onSubscribe(emitter);
+            deferred.accept(emitter);
+        });
+    }
+
+    LockFreeEmitter(Subscriber<? super T> downstream, OnOverflow.Strategy strategy, long bufferSize) {
+        this.downstream = downstream;
+        this.strategy = strategy;
+        switch (strategy) {
+            case BUFFER:
+                this.bounded = true;
+                this.credits = new AtomicLong(bufferSize);
+                break;
+            case THROW_EXCEPTION:
+            case DROP:
+            case FAIL:
+                this.bounded = true;
+                this.credits = new AtomicLong();
+                break;
+            case UNBOUNDED_BUFFER:
+            case LATEST:
+            case NONE:
+                this.bounded = false;
+                this.credits = null;
+                break;
+            default:
+                throw ex.illegalArgumentForBackPressure(strategy);
+        }
+        this.queue = strategy == OnOverflow.Strategy.LATEST ? null : Queues.createMpscQueue();
+    }
+
+    @Override
+    public MultiEmitter<T> emit(T item) {
+        if (item == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        if (cancelled || terminal.get() != null) {
+            return this;
+        }
+        if (strategy == OnOverflow.Strategy.LATEST) {
+            latest.set(item);
+        } else if (!bounded || acquireCredits(1, false) == 1) {
+            queue.offer(item);
+        } else {
+            onOverflow();
+            return this;
+        }
+        drain();
+        return this;
+    }
+
+    @Override
+    public MultiEmitter<T> emitAll(List<? extends T> items) {
+        for (T item : items) {
+            if (item == null) {
+                throw ex.illegalArgumentForNullValue();
+            }
+        }
+        if (items.isEmpty() || cancelled || terminal.get() != null) {
+            return this;
+        }
+        int size = items.size();
+        if (strategy == OnOverflow.Strategy.LATEST) {
+            latest.set(items.get(size - 1));
+        } else if (!bounded) {
+            for (T item : items) {
+                queue.offer(item);
+            }
+        } else {
+            // With the DROP strategy, enqueue as many items as possible and drop the others.
+            long granted = acquireCredits(size, strategy == OnOverflow.Strategy.DROP);
+            if (granted == 0) {
+                onOverflow();
+                return this;
+            }
+            for (int i = 0; i < granted; i++) {
+                queue.offer(items.get(i));
+            }
+        }
+        drain();
+        return this;
+    }
+
+    /**
+     * Acquires credits to enqueue items.
+     *
+     * @param n the number of credits to acquire
+     * @param partial whether fewer credits than {@code n} can be acquired
+     * @return the number of acquired credits, {@code 0} if none could be acquired
+     */
+    private long acquireCredits(long n, boolean partial) {
+        long current;
+        long granted;
+        do {
+            current = credits.get();
+            granted = Math.min(current, n);
+            if (granted <= 0 || (!partial && granted < n)) {
+                return 0;
+            }
+        } while (!credits.compareAndSet(current, current - granted));
+        return granted;
+    }
+
+    private void onOverflow() {
+        switch (strategy) {
+            case DROP:
+                // Ignore the item, the downstream cannot keep up.
+                break;
+            case FAIL:
+                fail(new BackPressureFailure("Could not emit item downstream due to lack of requests"));
+                break;
+            default:
+                throw ex.illegalStateInsufficientDownstreamRequests();
+        }
+    }
+
+    @Override
+    public void fail(Throwable failure) {
+        if (failure == null) {
+            failure = new NullPointerException("`failure` must not be `null`");
+        }
+        if (terminal.compareAndSet(null, failure)) {
+            drain();
+        }
+    }
+
+    @Override
+    public void complete() {
+        if (terminal.compareAndSet(null, COMPLETED)) {
+            drain();
+        }
+    }
+
+    @Override
+    public MultiEmitter<T> onTermination(Runnable onTermination) {
+        this.onTermination.set(onTermination);
+        return this;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public long requested() {
+        return requested.get();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            invalidRequest = Subscriptions.getInvalidRequestException();
+            drain();
+            return;
+        }
+        Subscriptions.add(requested, n);
+        if (bounded) {
+            Subscriptions.add(credits, n);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            runOnTermination();
+            if (wip.getAndIncrement() == 0) {
+                clear();
+            }
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        boolean ignoreRequests = strategy == OnOverflow.Strategy.NONE;
+        int missed = 1;
+        for (;;) {
+            long r = requested.get();
+            long e = 0L;
+
+            while (e != r || ignoreRequests) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    terminate(invalidRequest);
+                    return;
+                }
+                // Read the terminal state before polling, so items enqueued before the termination are delivered.
+                Throwable done = terminal.get();
+                T item = poll();
+                if (item == null) {
+                    if (done != null) {
+                        terminate(done);
+                        return;
+                    }
+                    break;
+                }
+                downstream.onNext(item);
+                e++;
+            }
+
+            if (e == r) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    terminate(invalidRequest);
+                    return;
+                }
+                Throwable done = terminal.get();
+                if (done != null && isEmpty()) {
+                    terminate(done);
+                    return;
+                }
+            }
+
+            if (e != 0 && !ignoreRequests) {
+                Subscriptions.produced(requested, e);
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void terminate(Throwable done) {
+        cancelled = true;
+        clear();
+        runOnTermination();
+        if (done == COMPLETED) {
+            downstream.onComplete();
+        } else {
+            downstream.onError(done);
+        }
+    }
+
+    private void runOnTermination() {
+        Runnable action = onTermination.getAndSet(null);
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    private T poll() {
+        if (queue == null) {
+            return latest.getAndSet(null);
+        }
+        return queue.poll();
+    }
+
+    private boolean isEmpty() {
+        if (queue == null) {
+            return latest.get() == null;
+        }
+        return queue.isEmpty();
+    }
+
+    private void clear() {
+        // Only called by the thread owning the drain loop, so it's safe to poll.
+        while (poll() != null) {
+            // Discard the item.
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package io.smallrye.reactive.messaging.extension;
 
+import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
 import static io.smallrye.reactive.messaging.i18n.ProviderLogging.log;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.*;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -11,6 +15,7 @@ import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.*;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.eclipse.microprofile.reactive.messaging.Outgoing;
@@ -18,6 +23,7 @@ import org.eclipse.microprofile.reactive.messaging.Outgoing;
 import io.smallrye.reactive.messaging.*;
 import io.smallrye.reactive.messaging.annotations.Incomings;
 import io.smallrye.reactive.messaging.connectors.WorkerPoolRegistry;
+import io.smallrye.reactive.messaging.helpers.BroadcastHelper;
 import io.smallrye.reactive.messaging.wiring.Graph;
 import io.smallrye.reactive.messaging.wiring.Wiring;
 
@@ -29,6 +35,13 @@ public class MediatorManager {
 
     public static final String STRICT_MODE_PROPERTY = "smallrye-messaging-strict-binding";
 
+    /**
+     * The prefix of the batch attributes of a channel: {@code max-size} enables the batching of the methods
+     * consuming the channel, and {@code max-wait} is the maximum time in milliseconds waited for a batch to be filled.
+     */
+    public static final String BATCH_CONFIG_PREFIX = "smallrye.messaging.batch.";
+    static final long DEFAULT_BATCH_MAX_WAIT = 1000L;
+
     private final CollectedMediatorMetadata collected = new CollectedMediatorMetadata();
 
     @Inject
@@ -61,10 +74,21 @@ public class MediatorManager {
     // @Any would only be needed if we wanted to allow implementations with qualifiers
     Instance<ChannelRegistar> registars;
 
+    @Inject
+    Instance<Config> config;
+
     @Inject
     @ConfigProperty(name = STRICT_MODE_PROPERTY, defaultValue = "false")
     boolean strictMode;
 
+    @Inject
+    @ConfigProperty(name = BroadcastHelper.RING_BUFFER_SIZE_PROPERTY, defaultValue = "0")
+    int broadcastRingBufferSize;
+
+    @Inject
+    @ConfigProperty(name = BroadcastHelper.SLOW_SUBSCRIBER_POLICY_PROPERTY, defaultValue = "block")
+    String slowSubscriberPolicy;
+
     public <T> void analyze(AnnotatedType<T> annotatedType, Bean<T> bean) {
 
         if (strictMode) {
@@ -98,6 +122,17 @@ public class MediatorManager {
         }
     }
 
+    /**
+     * Uses the mediator metadata computed at build time instead of analyzing the methods having an entry in the
+     * persisted metadata.
+     */
+    void usePersistedMetadata(PersistedMediatorMetadata persisted) {
+        if (persisted.size() > 0) {
+            log.persistedMediatorMetadataLoaded(persisted.size());
+            collected.persisted(persisted);
+        }
+    }
+
     @SuppressWarnings("unused")
     public void addAnalyzed(Collection<? extends MediatorConfiguration> mediators) {
         collected.addAll(mediators);
@@ -154,6 +189,11 @@ public class MediatorManager {
         mediator.setConverters(converters);
         mediator.setHealth(health);
         mediator.setWorkerPoolRegistry(workerPoolRegistry);
+        if (broadcastRingBufferSize > 0) {
+            mediator.setBroadcastRingBuffer(broadcastRingBufferSize,
+                    BroadcastHelper.getSlowSubscriberPolicy(slowSubscriberPolicy));
+        }
+        configureBatching(mediator, configuration);
 
         try {
             Object beanInstance = beanManager.getReference(configuration.getBean(), Object.class,
@@ -204,4 +244,35 @@ public class MediatorManager {
         health.markInitialized();
     }
 
+    /**
+     * Enables the batching of the mediator if one of its incoming channels has a batch {@code max-size}. When the
+     * method consumes several channels, the attributes of the first configured channel apply to the merged stream.
+     */
+    private void configureBatching(AbstractMediator mediator, MediatorConfiguration configuration) {
+        if (config.isUnsatisfied() || configuration.getIncoming() == null) {
+            return;
+        }
+        for (String channel : configuration.getIncoming()) {
+            String prefix = BATCH_CONFIG_PREFIX + channel + ".";
+            Optional<Integer> maxSize = config.get().getOptionalValue(prefix + "max-size", Integer.class);
+            if (!maxSize.isPresent()) {
+                continue;
+            }
+            if (maxSize.get() <= 0) {
+                throw ex.illegalArgumentForBatch(channel, prefix + "max-size", maxSize.get().toString());
+            }
+            long maxWait = config.get().getOptionalValue(prefix + "max-wait", Long.class).orElse(DEFAULT_BATCH_MAX_WAIT);
+            if (maxWait <= 0) {
+                throw ex.illegalArgumentForBatch(channel, prefix + "max-wait", Long.toString(maxWait));
+            }
+            Type ingested = configuration.getIngestedPayloadType();
+            Type raw = ingested instanceof ParameterizedType ? ((ParameterizedType) ingested).getRawType() : ingested;
+            if (raw instanceof Class && !((Class<?>) raw).isAssignableFrom(List.class)) {
+                throw ex.definitionBatchConsumption(configuration.methodAsString(), channel, ingested.getTypeName());
+            }
+            log.batchingChannel(configuration.methodAsString(), channel, maxSize.get(), maxWait);
+            mediator.setBatching(maxSize.get(), Duration.ofMillis(maxWait));
+            return;
+        }
+    }
 }
@@ -0,0 +1,221 @@
+package io.smallrye.reactive.messaging.extension;
+
+import static io.smallrye.reactive.messaging.i18n.ProviderLogging.log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.annotations.Incomings;
+
+/**
+ * Build step analyzing the mediator methods of the compiled classes, and writing the result to the
+ * {@link PersistedMediatorMetadata#LOCATION} resource. At startup, the methods having an entry in this resource are not
+ * analyzed again.
+ * <p>
+ * Usage: {@code MediatorMetadataGenerator <classes directory> [<output directory>]}. The output directory defaults to
+ * the classes directory. The classes are loaded, without being initialized, from the thread context class loader, which
+ * must contain the application classes and their dependencies, as with the {@code java} goal of the
+ * {@code exec-maven-plugin}.
+ */
+public class MediatorMetadataGenerator {
+
+    private MediatorMetadataGenerator() {
+        // Avoid direct instantiation.
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException(
+                    "Usage: MediatorMetadataGenerator <classes directory> [<output directory>]");
+        }
+        Path classes = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1]) : classes;
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = MediatorMetadataGenerator.class.getClassLoader();
+        }
+
+        Map<String, String> entries = generate(classes, classLoader);
+        Path file = output.resolve(PersistedMediatorMetadata.LOCATION);
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            PersistedMediatorMetadata.write(entries, writer);
+        }
+        log.persistedMediatorMetadataWritten(entries.size(), file.toString());
+    }
+
+    /**
+     * Analyzes the mediator methods of the classes from the given directory.
+     *
+     * @param classes the directory containing the compiled classes
+     * @param classLoader the class loader used to load the classes
+     * @return the entries of the persisted metadata
+     */
+    static Map<String, String> generate(Path classes, ClassLoader classLoader) throws IOException {
+        List<String> names;
+        try (Stream<Path> files = Files.walk(classes)) {
+            names = files
+                    .filter(path -> path.toString().endsWith(".class"))
+                    .map(path -> classes.relativize(path).toString())
+                    .filter(path -> !path.endsWith("module-info.class") && !path.endsWith("package-info.class"))
+                    .map(path -> path.substring(0, path.length() - ".class".length())
+                            .replace(File.separatorChar, '.'))
+                    .collect(Collectors.toList());
+        }
+
+        Map<String, String> entries = new TreeMap<>();
+        for (String name : names) {
+            try {
+                entries.putAll(generate(Class.forName(name, false, classLoader)));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Not loadable from the given class loader, the methods will be analyzed at startup
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Analyzes the mediator methods declared by the given class.
+     *
+     * @param clazz the class
+     * @return the entries of the persisted metadata
+     */
+    static Map<String, String> generate(Class<?> clazz) {
+        Map<String, String> entries = new TreeMap<>();
+        Bean<?> bean = bean(clazz);
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.isBridge() || !isMediatorMethod(method)) {
+                continue;
+            }
+            // Always analyze in the default mode, the strict mode does not use the persisted metadata
+            CollectedMediatorMetadata collected = new CollectedMediatorMetadata();
+            try {
+                collected.add(method, bean);
+            } catch (RuntimeException e) {
+                log.unableToPersistMediatorMetadata(clazz.getName() + "#" + method.getName(), e.getMessage());
+                continue;
+            }
+            MediatorConfiguration configuration = collected.mediators().get(0);
+            String value = PersistedMediatorMetadata.encode(method, configuration);
+            if (value == null) {
+                log.unableToPersistMediatorMetadata(configuration.methodAsString(),
+                        "the ingested payload type is not part of the method signature");
+            } else {
+                entries.put(PersistedMediatorMetadata.key(method), value);
+            }
+        }
+        return entries;
+    }
+
+    private static boolean isMediatorMethod(Method method) {
+        return method.isAnnotationPresent(Incomings.class) || method.isAnnotationPresent(Incoming.class)
+                || method.isAnnotationPresent(Outgoing.class);
+    }
+
+    private static Bean<?> bean(Class<?> clazz) {
+        return new AnalyzedBean<>(clazz);
+    }
+
+    /**
+     * The bean declaring the analyzed methods. The analysis only uses the bean class, to report errors, so the bean
+     * describes a {@code @Dependent} bean with the default qualifiers, and cannot create instances.
+     *
+     * @param <T> the type of the bean
+     */
+    static final class AnalyzedBean<T> implements Bean<T> {
+
+        private final Class<T> clazz;
+
+        AnalyzedBean(Class<T> clazz) {
+            this.clazz = clazz;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return clazz;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isNullable() {
+            return false;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return new HashSet<>(Arrays.asList(clazz, Object.class));
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return new HashSet<>(Arrays.asList(Default.Literal.INSTANCE, Any.Literal.INSTANCE));
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return Dependent.class;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getStereotypes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isAlternative() {
+            return false;
+        }
+
+        @Override
+        public T create(CreationalContext<T> creationalContext) {
+            throw new UnsupportedOperationException("The bean " + clazz.getName() + " is only analyzed at build time");
+        }
+
+        @Override
+        public void destroy(T instance, CreationalContext<T> creationalContext) {
+            // Never created
+        }
+
+        @Override
+        public String toString() {
+            return "AnalyzedBean[" + clazz.getName() + "]";
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.extension;
 
 import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
@@ -19,6 +20,10 @@ public class MutinyEmitterImpl<T> extends AbstractEmitter<T> implements MutinyEm
         super(config, defaultBufferSize);
     }
 
+    public MutinyEmitterImpl(EmitterConfiguration config, long defaultBufferSize, boolean lockFree) {
+        super(config, defaultBufferSize, lockFree);
+    }
+
     @Override
     public Uni<Void> send(T payload) {
         if (payload == null) {
@@ -71,4 +76,47 @@ public class MutinyEmitterImpl<T> extends AbstractEmitter<T> implements MutinyEm
             // Do nothing.
         }, ProviderLogging.log::failureEmittingMessage);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole batch is enqueued at once. With the {@code BUFFER} and {@code THROW_EXCEPTION} overflow strategies, and
+     * the {@code FAIL} strategy of lock-free emitters, the overflow is checked for the whole batch: either the whole
+     * batch is sent or none of its messages. With the other strategies, including the default one, the overflow is
+     * checked for each message, so an overflow in the middle of the batch does not withdraw the messages before it.
+     */
+    @Override
+    public Uni<Void> sendAll(Iterable<? extends T> payloads) {
+        if (payloads == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        // Same as for a single payload, capture the context to switch back during the emission.
+        Context context = Vertx.currentContext();
+        Uni<Void> uni = Uni.createFrom().emitter(e -> emitAll(createBatch(payloads, () -> e.complete(null), e::fail)));
+        if (context != null) {
+            uni = uni.emitOn(runnable -> context.runOnContext(x -> runnable.run()));
+        }
+        return uni;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole batch is enqueued at once. With the {@code BUFFER} and {@code THROW_EXCEPTION} overflow strategies, and
+     * the {@code FAIL} strategy of lock-free emitters, the overflow is checked for the whole batch: either the whole
+     * batch is sent or none of its messages. With the other strategies, including the default one, the overflow is
+     * checked for each message, so an overflow in the middle of the batch does not withdraw the messages before it.
+     */
+    @Override
+    public Uni<Void> sendMessages(List<? extends Message<? extends T>> messages) {
+        if (messages == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        Context context = Vertx.currentContext();
+        Uni<Void> uni = Uni.createFrom().emitter(e -> emitAll(wrapBatch(messages, () -> e.complete(null), e::fail)));
+        if (context != null) {
+            uni = uni.emitOn(runnable -> context.runOnContext(x -> runnable.run()));
+        }
+        return uni;
+    }
 }
@@ -0,0 +1,249 @@
+package io.smallrye.reactive.messaging.extension;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.reactive.messaging.DefaultMediatorConfiguration;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.MediatorConfigurationSupport;
+import io.smallrye.reactive.messaging.Shape;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+/**
+ * The analysis of the mediator method signatures, computed at build time by {@link MediatorMetadataGenerator} and
+ * stored in the {@link #LOCATION} resource.
+ * <p>
+ * Each entry is keyed by the method (declaring class, name, generic parameter types and generic return type), so an
+ * entry does not match a method whose type arguments have changed since the build. It contains the shape,
+ * the production, the consumption, the acknowledgment strategy, whether the method uses the builder types and the
+ * location of the ingested payload type in the method signature. Using an entry avoids the analysis of the generic
+ * types of the method at startup.
+ */
+class PersistedMediatorMetadata {
+
+    static final String LOCATION = "META-INF/smallrye-reactive-messaging/mediators.properties";
+
+    private static final String NO_PAYLOAD_TYPE = "-";
+    private static final String RAW_PARAMETER = "c";
+    private static final char GENERIC_PARAMETER = 'p';
+    private static final char GENERIC_RETURN_TYPE = 'r';
+    private static final int MAX_DEPTH = 2;
+
+    private final Map<String, String> entries;
+
+    PersistedMediatorMetadata(Map<String, String> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the persisted metadata from all the {@link #LOCATION} resources visible from the given class loader.
+     *
+     * @param classLoader the class loader
+     * @return the persisted metadata, empty if there are no resources
+     */
+    static PersistedMediatorMetadata load(ClassLoader classLoader) {
+        Map<String, String> entries = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                try (Reader reader = new BufferedReader(
+                        new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    entries.putAll(read(reader));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PersistedMediatorMetadata(entries);
+    }
+
+    static Map<String, String> read(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        Map<String, String> entries = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            entries.put(name, properties.getProperty(name));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the given entries, sorted by key so the output is reproducible.
+     *
+     * @param entries the entries, keyed by {@link #key(Method)}
+     * @param writer the writer
+     */
+    static void write(Map<String, String> entries, Writer writer) throws IOException {
+        for (Map.Entry<String, String> entry : new TreeMap<>(entries).entrySet()) {
+            writer.write(escapeKey(entry.getKey()));
+            writer.write('=');
+            writer.write(entry.getValue());
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Escapes the characters of a key that are special in the properties format, such as the spaces of the generic
+     * type names.
+     */
+    private static String escapeKey(String key) {
+        StringBuilder escaped = new StringBuilder(key.length());
+        for (char c : key.toCharArray()) {
+            if (c == ' ' || c == '=' || c == ':' || c == '#' || c == '!' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    Map<String, String> entries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Computes the given configuration from the persisted entry of the method.
+     *
+     * @return {@code true} if the configuration has been computed, {@code false} if there is no entry for the method,
+     *         or if the entry does not match the method anymore, in which case the method must be analyzed.
+     */
+    boolean apply(DefaultMediatorConfiguration configuration, Method method, List<Incoming> incomings,
+            Outgoing outgoing, Blocking blocking) {
+        String value = entries.get(key(method));
+        if (value == null) {
+            return false;
+        }
+        String[] segments = value.split(",");
+        if (segments.length != 6) {
+            return false;
+        }
+        try {
+            Shape shape = Shape.valueOf(segments[0]);
+            MediatorConfiguration.Production production = MediatorConfiguration.Production.valueOf(segments[1]);
+            MediatorConfiguration.Consumption consumption = MediatorConfiguration.Consumption.valueOf(segments[2]);
+            Acknowledgment.Strategy acknowledgment = Acknowledgment.Strategy.valueOf(segments[3]);
+            boolean useBuilderTypes = Boolean.parseBoolean(segments[4]);
+            Type payloadType = locate(method, segments[5]);
+            return configuration.compute(incomings, outgoing, blocking, shape, acknowledgment,
+                    new MediatorConfigurationSupport.ValidationOutput(production, consumption, useBuilderTypes,
+                            payloadType));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | ClassCastException e) {
+            // Stale entry
+            return false;
+        }
+    }
+
+    /**
+     * @return the key identifying the method in the persisted metadata
+     */
+    static String key(Method method) {
+        StringBuilder key = new StringBuilder(method.getDeclaringClass().getName())
+                .append('#').append(method.getName()).append('(');
+        Type[] parameterTypes = method.getGenericParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getTypeName());
+        }
+        return key.append(')').append(method.getGenericReturnType().getTypeName()).toString();
+    }
+
+    /**
+     * Encodes the analysis of the given method.
+     *
+     * @return the encoded value, {@code null} if the ingested payload type cannot be located in the method signature
+     */
+    static String encode(Method method, MediatorConfiguration configuration) {
+        String payloadType = locator(method, configuration.getIngestedPayloadType());
+        if (payloadType == null) {
+            return null;
+        }
+        return configuration.shape() + "," + configuration.production() + "," + configuration.consumption() + ","
+                + configuration.getAcknowledgment() + "," + configuration.usesBuilderTypes() + "," + payloadType;
+    }
+
+    private static String locator(Method method, Type payloadType) {
+        if (payloadType == null) {
+            return NO_PAYLOAD_TYPE;
+        }
+        if (method.getParameterCount() > 0) {
+            String found = find(method.getGenericParameterTypes()[0], payloadType,
+                    String.valueOf(GENERIC_PARAMETER), 0);
+            if (found != null) {
+                return found;
+            }
+        }
+        String found = find(method.getGenericReturnType(), payloadType, String.valueOf(GENERIC_RETURN_TYPE), 0);
+        if (found != null) {
+            return found;
+        }
+        if (method.getParameterCount() > 0 && method.getParameterTypes()[0].equals(payloadType)) {
+            return RAW_PARAMETER;
+        }
+        return null;
+    }
+
+    private static String find(Type type, Type target, String path, int depth) {
+        if (type.equals(target)) {
+            return path;
+        }
+        if (depth < MAX_DEPTH && type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            for (int i = 0; i < arguments.length; i++) {
+                String found = find(arguments[i], target, path + "." + i, depth + 1);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Type locate(Method method, String locator) {
+        if (NO_PAYLOAD_TYPE.equals(locator)) {
+            return null;
+        }
+        if (RAW_PARAMETER.equals(locator)) {
+            return method.getParameterTypes()[0];
+        }
+        String[] path = locator.split("\\.");
+        Type type;
+        if (path[0].equals(String.valueOf(GENERIC_PARAMETER))) {
+            type = method.getGenericParameterTypes()[0];
+        } else if (path[0].equals(String.valueOf(GENERIC_RETURN_TYPE))) {
+            type = method.getGenericReturnType();
+        } else {
+            throw new IllegalArgumentException("Invalid payload type location " + locator);
+        }
+        for (int i = 1; i < path.length; i++) {
+            type = ((ParameterizedType) type).getActualTypeArguments()[Integer.parseInt(path[i])];
+        }
+        return type;
+    }
+}
@@ -100,6 +100,7 @@ public class ReactiveMessagingExtension implements Extension {
             mediatorManager.addChannel(channel);
         }
 
+        mediatorManager.usePersistedMetadata(PersistedMediatorMetadata.load(getClassLoader()));
         for (MediatorBean mediatorBean : mediatorBeans) {
             log.analyzingMediatorBean(mediatorBean.bean);
             mediatorManager.analyze(mediatorBean.annotatedType, mediatorBean.bean);
@@ -112,6 +113,11 @@ public class ReactiveMessagingExtension implements Extension {
         mediatorManager.start();
     }
 
+    private ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ReactiveMessagingExtension.class.getClassLoader();
+    }
+
     private List<ChannelConfiguration> createChannelConfigurations() {
         List<ChannelConfiguration> channels = new ArrayList<>();
         for (InjectionPoint ip : streamInjectionPoints) {
@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.extension;
 
 import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
@@ -17,7 +18,7 @@ import io.smallrye.mutiny.subscription.MultiEmitter;
  *
  * @param <T> the type to emit
  */
-class ThrowingEmitter<T> implements MultiEmitter<T> {
+class ThrowingEmitter<T> implements BatchEmitter<T> {
 
     private MultiEmitter<? super T> delegate;
     private final AtomicLong requested;
@@ -64,6 +65,24 @@ class ThrowingEmitter<T> implements MultiEmitter<T> {
         return this;
     }
 
+    @Override
+    public MultiEmitter<T> emitAll(List<? extends T> items) {
+        // Reserve the requests for the whole batch, or fail without emitting anything
+        int size = items.size();
+        long requests;
+        do {
+            requests = requested.get();
+            if (requests < size) {
+                throw ex.illegalStateInsufficientDownstreamRequests();
+            }
+        } while (!requested.compareAndSet(requests, requests - size));
+
+        for (T item : items) {
+            delegate.emit(item);
+        }
+        return this;
+    }
+
     public void fail(Throwable failure) {
         delegate.fail(failure);
     }
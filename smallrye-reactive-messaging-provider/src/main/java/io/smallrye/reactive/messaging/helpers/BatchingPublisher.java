@@ -0,0 +1,292 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * Groups the items of an upstream publisher into lists, emitted when they reach a maximum size or when the first item
+ * of the list has waited for a maximum duration.
+ * <p>
+ * Unlike {@code Multi.group().intoLists().of(size, duration)}, the batches are emitted only when the downstream
+ * requests them: a batch closed while there is no demand is kept until the next request. For each requested batch,
+ * the upstream is requested at most the maximum size, so at most one batch of items is requested and not yet emitted.
+ * The batch being filled is emitted before the completion, it is dropped on failure and cancellation.
+ * <p>
+ * The state is guarded by the monitor lock of the subscriber. The signals, to the downstream and the requests to the
+ * upstream, are sent outside of the lock by a single thread at a time, so a subscriber calling back synchronously
+ * never runs while the lock is held.
+ *
+ * @param <T> the type of item
+ */
+public class BatchingPublisher<T> implements Publisher<List<T>> {
+
+    private final Publisher<? extends T> upstream;
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a new {@link Multi} grouping the items of the given upstream.
+     *
+     * @param upstream the upstream
+     * @param maxSize the maximum number of items of a batch, must be strictly positive
+     * @param maxWait the maximum time waited for the batch to be filled, must be strictly positive
+     * @param scheduler the executor used to close the batches when the maximum wait expires
+     * @param <T> the type of item
+     * @return the multi
+     */
+    public static <T> Multi<List<T>> create(Publisher<? extends T> upstream, int maxSize, Duration maxWait,
+            ScheduledExecutorService scheduler) {
+        return Multi.createFrom().publisher(new BatchingPublisher<>(upstream, maxSize, maxWait, scheduler));
+    }
+
+    public BatchingPublisher(Publisher<? extends T> upstream, int maxSize, Duration maxWait,
+            ScheduledExecutorService scheduler) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of a batch must be strictly positive");
+        }
+        if (maxWait.isZero() || maxWait.isNegative()) {
+            throw new IllegalArgumentException("The maximum wait of a batch must be strictly positive");
+        }
+        this.upstream = upstream;
+        this.maxSize = maxSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super List<T>> subscriber) {
+        upstream.subscribe(new BatchingSubscriber(subscriber));
+    }
+
+    private class BatchingSubscriber implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super List<T>> downstream;
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        private List<T> batch = new ArrayList<>();
+        /**
+         * The batches requested by the downstream and not yet emitted.
+         */
+        private long requested;
+        /**
+         * The items requested from the upstream and not yet received.
+         */
+        private long outstanding;
+        /**
+         * Whether the current batch has waited for the maximum duration, it is emitted on the next request.
+         */
+        private boolean expired;
+        private boolean completed;
+        private boolean cancelled;
+        /**
+         * When the first item of the current batch was received.
+         */
+        private long batchStart;
+        /**
+         * Whether an expiration check is scheduled. A single check is scheduled at a time, and rescheduled for the
+         * current batch when it runs, instead of scheduling and cancelling a check for every batch.
+         */
+        private boolean scheduled;
+        /**
+         * The failure to propagate to the downstream, set by the upstream or an invalid request.
+         */
+        private Throwable failure;
+        /**
+         * Serializes the signals, only the thread incrementing it from 0 runs {@link #drain()}, the other threads
+         * only flag a new iteration.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        BatchingSubscriber(Subscriber<? super List<T>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription.compareAndSet(null, s)) {
+                downstream.onSubscribe(this);
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            synchronized (this) {
+                if (cancelled || failure != null) {
+                    return;
+                }
+                outstanding--;
+                batch.add(item);
+                if (batch.size() == 1) {
+                    batchStart = System.nanoTime();
+                    schedule(maxWaitNanos);
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            synchronized (this) {
+                if (cancelled || this.failure != null) {
+                    return;
+                }
+                this.failure = failure;
+                batch = new ArrayList<>();
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (cancelled || failure != null) {
+                    return;
+                }
+                completed = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                synchronized (this) {
+                    if (failure == null) {
+                        failure = Subscriptions.getInvalidRequestException();
+                    }
+                    batch = new ArrayList<>();
+                }
+                cancelUpstream();
+            } else {
+                synchronized (this) {
+                    requested = Subscriptions.add(requested, n);
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                batch = new ArrayList<>();
+            }
+            cancelUpstream();
+        }
+
+        private void cancelUpstream() {
+            Subscription s = subscription.getAndSet(Subscriptions.CANCELLED);
+            if (s != null && s != Subscriptions.CANCELLED) {
+                s.cancel();
+            }
+        }
+
+        /**
+         * Emits the current batch if it is closed and requested, completes the downstream once the last batch is
+         * emitted, and requests the items missing to fill the current batch if a batch is requested.
+         * <p>
+         * Each step is decided under the lock, and the corresponding signal is sent once the lock is released. A signal
+         * sent by a reentrant call (from the emission or the request) is processed by the next iteration, avoiding a
+         * recursion per batch.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                boolean progress = true;
+                while (progress) {
+                    List<T> emitted = null;
+                    Throwable error = null;
+                    boolean complete = false;
+                    long missing = 0;
+                    synchronized (this) {
+                        if (cancelled) {
+                            break;
+                        }
+                        boolean closed = batch.size() >= maxSize || ((expired || completed) && !batch.isEmpty());
+                        if (failure != null) {
+                            cancelled = true;
+                            error = failure;
+                        } else if (closed && requested > 0) {
+                            emitted = batch;
+                            batch = new ArrayList<>();
+                            expired = false;
+                            if (requested != Long.MAX_VALUE) {
+                                requested--;
+                            }
+                        } else if (completed) {
+                            if (batch.isEmpty()) {
+                                cancelled = true;
+                                complete = true;
+                            }
+                        } else if (requested > 0) {
+                            missing = Math.max(0, maxSize - batch.size() - outstanding);
+                            outstanding += missing;
+                        }
+                    }
+                    if (emitted != null) {
+                        downstream.onNext(emitted);
+                    } else if (error != null) {
+                        downstream.onError(error);
+                    } else if (complete) {
+                        downstream.onComplete();
+                    } else if (missing > 0) {
+                        subscription.get().request(missing);
+                    }
+                    progress = emitted != null;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void schedule(long delay) {
+            if (scheduled) {
+                return;
+            }
+            try {
+                scheduler.schedule(this::onTimeout, delay, TimeUnit.NANOSECONDS);
+                scheduled = true;
+            } catch (RejectedExecutionException e) {
+                // The scheduler is shutting down, the batches are only closed by their size or the completion
+            }
+        }
+
+        private void onTimeout() {
+            synchronized (this) {
+                scheduled = false;
+                if (cancelled || completed || failure != null || batch.isEmpty()) {
+                    return;
+                }
+                long remaining = maxWaitNanos - (System.nanoTime() - batchStart);
+                if (remaining > 0) {
+                    // The check was scheduled for a previous batch
+                    schedule(remaining);
+                    return;
+                }
+                expired = true;
+            }
+            drain();
+        }
+    }
+}
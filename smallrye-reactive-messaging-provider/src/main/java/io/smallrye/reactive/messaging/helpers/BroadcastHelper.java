@@ -1,13 +1,28 @@
 package io.smallrye.reactive.messaging.helpers;
 
+import java.util.Locale;
+
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.helpers.RingBufferBroadcaster.SlowSubscriberPolicy;
 
 public class BroadcastHelper {
 
+    /**
+     * The size of the ring buffer used to broadcast the messages of {@code @Broadcast} channels.
+     * {@code 0}, the default, broadcasts the messages using the Mutiny broadcast operator.
+     * With the ring buffer, the subscribers are drained on the Mutiny worker pool instead of the upstream thread.
+     */
+    public static final String RING_BUFFER_SIZE_PROPERTY = "smallrye.messaging.broadcast.ring-buffer-size";
+
+    /**
+     * The {@link SlowSubscriberPolicy} applied when broadcasting using a ring buffer, {@code block} by default.
+     */
+    public static final String SLOW_SUBSCRIBER_POLICY_PROPERTY = "smallrye.messaging.broadcast.slow-subscriber-policy";
+
     private BroadcastHelper() {
         // Avoid direct instantiation.
     }
@@ -31,4 +46,35 @@ public class BroadcastHelper {
             return publisher.broadcast().toAllSubscribers();
         }
     }
+
+    /**
+     * <p>
+     * Wraps an existing {@code Publisher} for broadcasting, using a {@link RingBufferBroadcaster} if
+     * {@code ringBufferSize} is strictly positive.
+     * </p>
+     *
+     * @param publisher The publisher to be wrapped
+     * @param numberOfSubscriberBeforeConnecting Number of subscribers that must be present before broadcast occurs.
+     *        A value of 0 means any number of subscribers will trigger the broadcast.
+     * @param ringBufferSize The size of the ring buffer, {@code 0} to use the Mutiny broadcast operator
+     * @param policy The policy applied to the slow subscribers when using the ring buffer
+     * @return The wrapped {@code Publisher}
+     */
+    public static Multi<? extends Message<?>> broadcastPublisher(Multi<? extends Message<?>> publisher,
+            int numberOfSubscriberBeforeConnecting, int ringBufferSize, SlowSubscriberPolicy policy) {
+        if (ringBufferSize <= 0) {
+            return broadcastPublisher(publisher, numberOfSubscriberBeforeConnecting);
+        }
+        return RingBufferBroadcaster.create(publisher, numberOfSubscriberBeforeConnecting, ringBufferSize, policy);
+    }
+
+    /**
+     * Parses the value of the {@link #SLOW_SUBSCRIBER_POLICY_PROPERTY} attribute.
+     *
+     * @param value the value, case insensitive
+     * @return the policy
+     */
+    public static SlowSubscriberPolicy getSlowSubscriberPolicy(String value) {
+        return SlowSubscriberPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
 }
@@ -10,6 +10,7 @@ import org.eclipse.microprofile.reactive.messaging.Message;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.metrics.MessageCompletions;
 
 public class MultiUtils {
 
@@ -25,7 +26,7 @@ public class MultiUtils {
         }
         return multi.plug(stream -> (Multi) stream
                 .onItem().transformToUniAndConcatenate(message -> {
-                    CompletionStage<Void> ack = message.ack();
+                    CompletionStage<Void> ack = MessageCompletions.ack(message);
                     if (ack != null) {
                         return Uni.createFrom().completionStage(ack).map(x -> message);
                     } else {
@@ -0,0 +1,170 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * Limits the rate at which the items of an upstream publisher are emitted, using a {@link TokenBucket}.
+ * <p>
+ * The rate is enforced on the demand: the downstream requests are forwarded to the upstream only when the bucket
+ * grants permits for them, so the items are not buffered. When no permit is available, the pending requests are
+ * forwarded once the bucket refills. At most {@link TokenBucket#getBurst()} items are requested from the upstream and
+ * not yet received, so an upstream idle for a while cannot exceed the burst when it resumes. An upstream ignoring the
+ * requests is not slowed down.
+ *
+ * @param <T> the type of item
+ */
+public class RateLimitedPublisher<T> implements Publisher<T> {
+
+    private final Publisher<? extends T> upstream;
+    private final TokenBucket bucket;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a new {@link Multi} limiting the rate of the given upstream.
+     *
+     * @param upstream the upstream
+     * @param bucket the bucket granting the permits, may be shared by several publishers to limit their combined rate
+     * @param scheduler the executor used to forward the pending requests once the bucket refills
+     * @param <T> the type of item
+     * @return the multi
+     */
+    public static <T> Multi<T> create(Publisher<? extends T> upstream, TokenBucket bucket,
+            ScheduledExecutorService scheduler) {
+        return Multi.createFrom().publisher(new RateLimitedPublisher<>(upstream, bucket, scheduler));
+    }
+
+    public RateLimitedPublisher(Publisher<? extends T> upstream, TokenBucket bucket,
+            ScheduledExecutorService scheduler) {
+        this.upstream = upstream;
+        this.bucket = bucket;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        upstream.subscribe(new RateLimitedSubscriber(subscriber));
+    }
+
+    private class RateLimitedSubscriber implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super T> downstream;
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        /**
+         * The downstream requests not yet forwarded to the upstream.
+         */
+        private final AtomicLong pending = new AtomicLong();
+        /**
+         * The items requested from the upstream and not yet received.
+         */
+        private final AtomicLong outstanding = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean cancelled;
+
+        RateLimitedSubscriber(Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription.compareAndSet(null, s)) {
+                downstream.onSubscribe(this);
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            outstanding.decrementAndGet();
+            downstream.onNext(item);
+            if (pending.get() > 0) {
+                forward();
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            downstream.onError(failure);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(pending, n);
+            forward();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Subscription s = subscription.getAndSet(Subscriptions.CANCELLED);
+            if (s != null && s != Subscriptions.CANCELLED) {
+                s.cancel();
+            }
+        }
+
+        /**
+         * Forwards the pending requests for which the bucket grants permits, and schedules the next attempt if the
+         * bucket is empty. When the outstanding requests reach the burst, the next attempt happens on the reception of
+         * an item. Only one thread forwards at a time.
+         */
+        private void forward() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long wanted = Math.min(pending.get(), bucket.getBurst() - outstanding.get());
+                if (wanted > 0 && !cancelled) {
+                    long granted = bucket.tryAcquire(wanted);
+                    if (granted > 0) {
+                        // An unbounded demand stays unbounded, the upstream is requested at the pace of the bucket
+                        Subscriptions.produced(pending, granted);
+                        outstanding.addAndGet(granted);
+                        subscription.get().request(granted);
+                    }
+                    if (granted < wanted) {
+                        schedule();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                long delay = Math.max(1, bucket.nanosUntilNextPermit());
+                scheduler.schedule(() -> {
+                    scheduled.set(false);
+                    forward();
+                }, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
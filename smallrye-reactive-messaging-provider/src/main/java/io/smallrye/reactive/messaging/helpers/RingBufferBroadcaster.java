@@ -0,0 +1,462 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+
+/**
+ * Broadcasts the items of an upstream publisher to several subscribers using a ring buffer.
+ * <p>
+ * The upstream writes each item once in the ring, and each subscriber reads the ring at its own pace using its own
+ * cursor. A slot is cleared once all the subscribers have read it, so the ring does not retain consumed items.
+ * <p>
+ * Subscribers drain independently. A subscriber requesting items drains its cursor on the requesting thread. When the
+ * upstream publishes an item, the upstream thread does not deliver it: the drain of each idle subscriber is handed to
+ * an executor, so the subscribers receive the items in parallel. The {@link SlowSubscriberPolicy} decides what happens
+ * when a subscriber lags more than the size of the ring behind the upstream:
+ * <ul>
+ * <li>{@link SlowSubscriberPolicy#BLOCK}: the upstream is not requested more items until the slowest subscriber
+ * consumes from the ring,</li>
+ * <li>{@link SlowSubscriberPolicy#DROP}: the slow subscriber misses the overwritten items,</li>
+ * <li>{@link SlowSubscriberPolicy#DETACH}: the slow subscriber receives a {@link BackPressureFailure} and is
+ * removed.</li>
+ * </ul>
+ * With the {@code DROP} and {@code DETACH} policies, the upstream is requested at the pace of the fastest subscriber.
+ *
+ * @param <T> the type of item
+ */
+public class RingBufferBroadcaster<T> implements Publisher<T> {
+
+    public enum SlowSubscriberPolicy {
+        BLOCK,
+        DROP,
+        DETACH
+    }
+
+    private final Publisher<? extends T> upstream;
+    private final int numberOfSubscriberBeforeConnecting;
+    private final SlowSubscriberPolicy policy;
+    private final Executor executor;
+
+    private final AtomicReferenceArray<Slot<T>> ring;
+    private final int mask;
+    private final int capacity;
+    private final int replenishThreshold;
+
+    /**
+     * The number of items readable from the ring, incremented after writing the slot.
+     */
+    private volatile long published;
+    private volatile boolean done;
+    private volatile Throwable failure;
+
+    private final List<Cursor> cursors = new CopyOnWriteArrayList<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final AtomicReference<Subscription> upstreamSubscription = new AtomicReference<>();
+
+    /**
+     * The number of items requested from the upstream since the beginning.
+     */
+    private final AtomicLong upstreamRequested = new AtomicLong();
+    private final AtomicInteger requestWip = new AtomicInteger();
+
+    /**
+     * The sequence below which the slots have been cleared, only written while holding {@link #clearWip}.
+     */
+    private long cleared;
+    private final AtomicInteger clearWip = new AtomicInteger();
+
+    /**
+     * Creates a new {@link Multi} broadcasting the items from the given upstream, the subscribers being drained on the
+     * default Mutiny worker pool.
+     *
+     * @param upstream the upstream
+     * @param numberOfSubscriberBeforeConnecting the number of subscribers required before subscribing to the upstream,
+     *        {@code 0} to subscribe on the first subscriber
+     * @param bufferSize the size of the ring, rounded up to the next power of 2
+     * @param policy the policy applied to the slow subscribers
+     * @param <T> the type of item
+     * @return the multi
+     */
+    public static <T> Multi<T> create(Publisher<? extends T> upstream, int numberOfSubscriberBeforeConnecting,
+            int bufferSize, SlowSubscriberPolicy policy) {
+        return create(upstream, numberOfSubscriberBeforeConnecting, bufferSize, policy,
+                Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * Creates a new {@link Multi} broadcasting the items from the given upstream.
+     *
+     * @param upstream the upstream
+     * @param numberOfSubscriberBeforeConnecting the number of subscribers required before subscribing to the upstream,
+     *        {@code 0} to subscribe on the first subscriber
+     * @param bufferSize the size of the ring, rounded up to the next power of 2
+     * @param policy the policy applied to the slow subscribers
+     * @param executor the executor draining the subscribers when the upstream publishes
+     * @param <T> the type of item
+     * @return the multi
+     */
+    public static <T> Multi<T> create(Publisher<? extends T> upstream, int numberOfSubscriberBeforeConnecting,
+            int bufferSize, SlowSubscriberPolicy policy, Executor executor) {
+        return Multi.createFrom().publisher(
+                new RingBufferBroadcaster<>(upstream, numberOfSubscriberBeforeConnecting, bufferSize, policy, executor));
+    }
+
+    public RingBufferBroadcaster(Publisher<? extends T> upstream, int numberOfSubscriberBeforeConnecting,
+            int bufferSize, SlowSubscriberPolicy policy, Executor executor) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The ring buffer size must be strictly positive");
+        }
+        this.upstream = upstream;
+        this.numberOfSubscriberBeforeConnecting = Math.max(1, numberOfSubscriberBeforeConnecting);
+        this.policy = policy;
+        this.executor = executor;
+        this.capacity = roundToPowerOfTwo(bufferSize);
+        this.mask = capacity - 1;
+        this.replenishThreshold = capacity / 2;
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Cursor cursor = new Cursor(subscriber);
+        // The cursor is registered before reading its start position, so the slots from this position are not
+        // cleared by the other subscribers in the meantime
+        cursors.add(cursor);
+        cursor.consumed = published;
+        subscriber.onSubscribe(cursor);
+        if (subscriberCount.incrementAndGet() >= numberOfSubscriberBeforeConnecting
+                && connected.compareAndSet(false, true)) {
+            upstream.subscribe(new UpstreamSubscriber());
+        }
+        // The requests computed while the position was not set ignored the other subscribers
+        requestUpstream();
+        cursor.drain();
+    }
+
+    private void remove(Cursor cursor) {
+        if (cursors.remove(cursor)) {
+            // The removed subscriber may have been gating the upstream, or the last one to read some slots
+            requestUpstream();
+            clear();
+        }
+    }
+
+    /**
+     * Clears the slots read by all the subscribers.
+     * A slot is only cleared if it still holds the item of the cleared sequence, as the upstream may already be
+     * writing a later item in it.
+     */
+    private void clear() {
+        if (clearWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            long upTo = slowestSequence();
+            if (upTo > cleared) {
+                // The slots of the sequences more than a lap behind have been overwritten already
+                for (long sequence = Math.max(cleared, upTo - capacity); sequence < upTo; sequence++) {
+                    int index = (int) sequence & mask;
+                    Slot<T> slot = ring.get(index);
+                    if (slot != null && slot.sequence == sequence) {
+                        ring.compareAndSet(index, slot, null);
+                    }
+                }
+                cleared = upTo;
+            }
+            missed = clearWip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the number of items held by the ring
+     */
+    int retained() {
+        int count = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (ring.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long slowestSequence() {
+        long slowest = published;
+        for (Cursor cursor : cursors) {
+            slowest = Math.min(slowest, cursor.consumed);
+        }
+        return slowest;
+    }
+
+    /**
+     * Requests items from the upstream as long as the ring has free slots.
+     * The free slots are computed from the slowest subscriber with the {@code BLOCK} policy, and from the fastest one
+     * otherwise.
+     */
+    private void requestUpstream() {
+        // Computing the gating sequence iterates over the subscribers, so only do it once half of the upstream
+        // requests have been consumed
+        if (upstreamRequested.get() - published > replenishThreshold) {
+            return;
+        }
+        if (requestWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            Subscription subscription = upstreamSubscription.get();
+            if (subscription != null && !done) {
+                long gate = gatingSequence();
+                long requested = upstreamRequested.get();
+                long toRequest = gate + capacity - requested;
+                if (toRequest > 0) {
+                    upstreamRequested.addAndGet(toRequest);
+                    subscription.request(toRequest);
+                }
+            }
+            missed = requestWip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private long gatingSequence() {
+        long current = published;
+        if (cursors.isEmpty()) {
+            return current;
+        }
+        long gate = policy == SlowSubscriberPolicy.BLOCK ? Long.MAX_VALUE : Long.MIN_VALUE;
+        for (Cursor cursor : cursors) {
+            long consumed = cursor.consumed;
+            gate = policy == SlowSubscriberPolicy.BLOCK ? Math.min(gate, consumed) : Math.max(gate, consumed);
+        }
+        return gate;
+    }
+
+    private void signalAll() {
+        for (Cursor cursor : cursors) {
+            cursor.signal();
+        }
+    }
+
+    private class UpstreamSubscriber implements Subscriber<T> {
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstreamSubscription.compareAndSet(null, subscription)) {
+                requestUpstream();
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            // Only called by the upstream, one item at a time
+            long sequence = published;
+            ring.set((int) sequence & mask, new Slot<>(sequence, item));
+            published = sequence + 1;
+            signalAll();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure = throwable;
+            done = true;
+            signalAll();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            signalAll();
+        }
+    }
+
+    private class Cursor implements Subscription {
+
+        private final Subscriber<? super T> downstream;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        /**
+         * The sequence of the next item to read, only written by the thread draining this cursor once the subscription
+         * has set the start position. {@link Long#MIN_VALUE} until then, so the cursor gates the clearing of the ring
+         * and the upstream requests with the {@code BLOCK} policy.
+         */
+        volatile long consumed = Long.MIN_VALUE;
+
+        Cursor(Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                remove(this);
+            }
+        }
+
+        /**
+         * Drains the cursor on the calling thread, unless it is already being drained.
+         */
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            drainLoop();
+        }
+
+        /**
+         * Hands the drain of the cursor to the executor, unless it is already being drained. A cursor without demand is
+         * drained on its next request, except with the {@code DETACH} policy, which must detect the lag.
+         */
+        void signal() {
+            if (requested.get() == 0 && !done && policy != SlowSubscriberPolicy.DETACH) {
+                return;
+            }
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this::drainLoop);
+            } catch (RejectedExecutionException e) {
+                // The executor is shutting down, drain on the upstream thread
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                long position = consumed;
+
+                for (;;) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (position == Long.MIN_VALUE) {
+                        // The start position is not set yet, the subscription drains the cursor once it is
+                        break;
+                    }
+                    boolean terminated = done;
+                    long available = published;
+                    if (policy != SlowSubscriberPolicy.BLOCK && available - position > capacity) {
+                        if (policy == SlowSubscriberPolicy.DETACH) {
+                            detach();
+                            return;
+                        }
+                        // Skip the overwritten items
+                        position = available - capacity;
+                        consumed = position;
+                    }
+                    if (position == available) {
+                        if (terminated) {
+                            terminate();
+                            return;
+                        }
+                        break;
+                    }
+                    if (e == r) {
+                        break;
+                    }
+                    Slot<T> slot = ring.get((int) position & mask);
+                    if (slot == null || slot.sequence != position) {
+                        // The slot has been overwritten by a later item while reading it (DROP and DETACH only),
+                        // re-evaluate the position
+                        continue;
+                    }
+                    position++;
+                    consumed = position;
+                    downstream.onNext(slot.item);
+                    e++;
+                }
+
+                if (e != 0) {
+                    Subscriptions.produced(requested, e);
+                    requestUpstream();
+                    clear();
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void detach() {
+            cancelled = true;
+            remove(this);
+            downstream.onError(new BackPressureFailure(
+                    "The subscriber is too slow, it lagged more than " + capacity + " items behind the broadcast"));
+        }
+
+        private void terminate() {
+            cancelled = true;
+            if (cursors.remove(this)) {
+                clear();
+            }
+            Throwable error = failure;
+            if (error != null) {
+                downstream.onError(error);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+
+    /**
+     * An item written in the ring, with its sequence so a slot is never confused with the item of another lap.
+     */
+    private static final class Slot<T> {
+        final long sequence;
+        final T item;
+
+        Slot(long sequence, T item) {
+            this.sequence = sequence;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket: permits are added continuously at a fixed rate, up to a maximum number of stored permits (the burst).
+ * <p>
+ * The bucket starts full, so up to {@code burst} permits can be acquired at once after a quiet period. It also
+ * measures the number of permits granted during the last completed second, exposed by {@link #getPermitRate()}.
+ * <p>
+ * The access is guarded by the monitor lock.
+ */
+public class TokenBucket {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerNano;
+    private final long burst;
+    private final LongSupplier clock;
+
+    private double available;
+    private long lastRefill;
+
+    private long windowStart;
+    private long grantedInWindow;
+    private volatile long grantedInLastWindow;
+
+    /**
+     * Creates a new bucket.
+     *
+     * @param permitsPerSecond the number of permits added per second, must be strictly positive
+     * @param burst the maximum number of stored permits, must be strictly positive
+     */
+    public TokenBucket(double permitsPerSecond, long burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, long burst, LongSupplier clock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("The number of permits per second must be strictly positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("The burst must be strictly positive");
+        }
+        this.permitsPerNano = permitsPerSecond / ONE_SECOND;
+        this.burst = burst;
+        this.clock = clock;
+        this.available = burst;
+        this.lastRefill = clock.getAsLong();
+        this.windowStart = lastRefill;
+    }
+
+    /**
+     * Acquires up to {@code permits} permits, without waiting.
+     *
+     * @param permits the number of permits wanted
+     * @return the number of permits acquired, between {@code 0} and {@code permits}
+     */
+    public synchronized long tryAcquire(long permits) {
+        long now = clock.getAsLong();
+        refill(now);
+        long granted = Math.min(permits, (long) available);
+        if (granted > 0) {
+            available -= granted;
+            grantedInWindow += granted;
+        }
+        return granted;
+    }
+
+    /**
+     * @return the delay in nanoseconds before a permit is available, {@code 0} if a permit is available now
+     */
+    public synchronized long nanosUntilNextPermit() {
+        refill(clock.getAsLong());
+        if (available >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - available) / permitsPerNano);
+    }
+
+    /**
+     * @return the maximum number of stored permits
+     */
+    public long getBurst() {
+        return burst;
+    }
+
+    /**
+     * @return the number of permits currently available
+     */
+    public synchronized long getAvailablePermits() {
+        refill(clock.getAsLong());
+        return (long) available;
+    }
+
+    /**
+     * @return the number of permits granted during the last completed second
+     */
+    public long getPermitRate() {
+        synchronized (this) {
+            rollWindow(clock.getAsLong());
+        }
+        return grantedInLastWindow;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            available = Math.min(burst, available + elapsed * permitsPerNano);
+            lastRefill = now;
+        }
+        rollWindow(now);
+    }
+
+    private void rollWindow(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed >= ONE_SECOND) {
+            // Nothing was granted in the last window if more than one window elapsed since the current one started
+            grantedInLastWindow = elapsed < 2 * ONE_SECOND ? grantedInWindow : 0;
+            grantedInWindow = 0;
+            windowStart = now - elapsed % ONE_SECOND;
+        }
+    }
+}
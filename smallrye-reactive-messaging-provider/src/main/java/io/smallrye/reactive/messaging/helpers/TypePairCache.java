@@ -0,0 +1,66 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Caches the results computed from a pair of types, such as the assignability checks of {@link TypeUtils}.
+ * <p>
+ * The entries are grouped by the raw class of the first type, using a {@link ClassValue}, so they are discarded with
+ * the class. Within a group, both types are weakly referenced, so the cache does not prevent classes from other class
+ * loaders to be unloaded, for example on redeploy. A collected entry is computed again on the next lookup.
+ *
+ * @param <V> the type of result, {@code null} results are cached too
+ */
+final class TypePairCache<V> {
+
+    private static final Object NULL = new Object();
+
+    private final ClassValue<Map<Type, Map<Type, Object>>> entries = new ClassValue<Map<Type, Map<Type, Object>>>() {
+        @Override
+        protected Map<Type, Map<Type, Object>> computeValue(Class<?> type) {
+            return new WeakHashMap<>();
+        }
+    };
+
+    /**
+     * Gets the cached result for the given types, or computes and caches it.
+     *
+     * @param type the first type, must not be {@code null}
+     * @param toType the second type, must not be {@code null}
+     * @param function the function computing the result when it is not cached
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(Type type, Type toType, BiFunction<Type, Type, V> function) {
+        Map<Type, Map<Type, Object>> group = entries.get(group(type));
+        Object result;
+        synchronized (group) {
+            Map<Type, Object> results = group.get(type);
+            result = results == null ? null : results.get(toType);
+        }
+        if (result == null) {
+            // Computed outside of the lock, concurrent lookups may compute the same result
+            V computed = function.apply(type, toType);
+            synchronized (group) {
+                group.computeIfAbsent(type, k -> new WeakHashMap<>()).put(toType, computed == null ? NULL : computed);
+            }
+            return computed;
+        }
+        return result == NULL ? null : (V) result;
+    }
+
+    private static Class<?> group(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        // Arrays, wildcards and type variables
+        return Object.class;
+    }
+}
@@ -14,6 +14,17 @@ import java.util.*;
  */
 public class TypeUtils {
 
+    /**
+     * Caches the results of {@link #isAssignable(Type, Type)} when the target type is generic.
+     */
+    private static final TypePairCache<Boolean> ASSIGNABILITY = new TypePairCache<>();
+
+    /**
+     * Caches the type arguments of a class in the context of one of its super types.
+     * The results only reference types from the hierarchy of the class, so they do not retain other classes.
+     */
+    private static final TypePairCache<Map<TypeVariable<?>, Type>> TYPE_ARGUMENTS = new TypePairCache<>();
+
     private TypeUtils() {
         // Avoid direct instantiation.
     }
@@ -28,7 +39,11 @@ public class TypeUtils {
      * @return {@code true} if {@code type} is assignable to {@code toType}.
      */
     public static boolean isAssignable(final Type type, final Type toType) {
-        return isAssignable(type, toType, null);
+        if (type == null || toType == null || toType instanceof Class) {
+            // Checking against a class does not resolve type variables, it is cheaper than the cache lookup
+            return isAssignable(type, toType, null);
+        }
+        return ASSIGNABILITY.computeIfAbsent(type, toType, (t, to) -> isAssignable(t, to, null));
     }
 
     /**
@@ -164,7 +179,7 @@ public class TypeUtils {
         final Class<?> toClass = getRawType(toParameterizedType);
         // get the subject type's type arguments including owner type arguments
         // and supertype arguments up to and including the target class.
-        final Map<TypeVariable<?>, Type> fromTypeVarAssigns = getTypeArguments(type, toClass, null);
+        final Map<TypeVariable<?>, Type> fromTypeVarAssigns = getTypeArguments(type, toClass);
 
         // null means the two types are not compatible
         if (fromTypeVarAssigns == null) {
@@ -512,6 +527,12 @@ public class TypeUtils {
      *         {@code toClass} inclusive.
      */
     static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, final Class<?> toClass) {
+        if (type instanceof Class && toClass != null) {
+            return TYPE_ARGUMENTS.computeIfAbsent(type, toClass, (t, to) -> {
+                Map<TypeVariable<?>, Type> arguments = getTypeArguments(t, (Class<?>) to, null);
+                return arguments == null ? null : Collections.unmodifiableMap(arguments);
+            });
+        }
         return getTypeArguments(type, toClass, null);
     }
 
@@ -278,4 +278,13 @@ public interface ProviderExceptions {
 
     @Message(id = 87, value = "The bean %s implements a connector interface but does not use the @Connector qualifier")
     DefinitionException missingConnectorQualifier(String clazz);
+
+    @Message(id = 88, value = "Invalid rate limit configuration for channel `%s`: `%s` must be strictly positive, found %s")
+    IllegalArgumentException illegalArgumentForRateLimit(String channel, String attribute, String value);
+
+    @Message(id = 89, value = "Invalid batch configuration for channel `%s`: `%s` must be strictly positive, found %s")
+    IllegalArgumentException illegalArgumentForBatch(String channel, String attribute, String value);
+
+    @Message(id = 90, value = "Invalid method annotated with @Incoming: %s - the channel `%s` is consumed in batches, so the method must consume a `List`, found %s")
+    DefinitionException definitionBatchConsumption(String methodAsString, String channel, String type);
 }
@@ -129,4 +129,24 @@ public interface ProviderLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.INFO)
     @Message(id = 238, value = "No ExecutionHolder, disabling @Blocking support")
     void noExecutionHolderDisablingBlockingSupport();
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 239, value = "Loaded the build-time metadata of %d mediator method(s)")
+    void persistedMediatorMetadataLoaded(int count);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 240, value = "Unable to compute the build-time metadata of the mediator method `%s`, it will be analyzed at startup: %s")
+    void unableToPersistMediatorMetadata(String method, String reason);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 241, value = "Wrote the metadata of %d mediator method(s) to %s")
+    void persistedMediatorMetadataWritten(int count, String location);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 242, value = "Limiting the rate of channel `%s` to %s permit(s) per second, with a burst of %d")
+    void rateLimitingChannel(String channel, double permitsPerSecond, long burst);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 243, value = "The method `%s` consumes the channel `%s` in batches of up to %d message(s), waiting up to %d ms")
+    void batchingChannel(String method, String channel, int maxSize, long maxWait);
 }
@@ -72,22 +72,25 @@ public class ConfiguredChannelFactory implements ChannelRegistar {
     }
 
     static Map<String, ConnectorConfig> extractConfigurationFor(String prefix, Config root) {
-        Iterable<String> names = root.getPropertyNames();
+        return extractConfigurationFor(prefix, root, new PropertyNamesIndex(root));
+    }
+
+    static Map<String, ConnectorConfig> extractConfigurationFor(String prefix, Config root, PropertyNamesIndex index) {
         Map<String, ConnectorConfig> configs = new HashMap<>();
-        names.forEach(key -> {
+        for (String key : index.startingWith(prefix)) {
             // $prefix$name.key=value (the prefix ends with a .)
-            if (key.startsWith(prefix)) {
-                // Extract the name
-                String name = key.substring(prefix.length());
-                if (name.charAt(0) == '"') { // Check if the name is enclosed by double quotes
-                    name = name.substring(1, name.lastIndexOf('"'));
-                } else if (name.contains(".")) { // We must remove the part after the first dot
-                    String tmp = name;
-                    name = tmp.substring(0, tmp.indexOf('.'));
-                }
-                configs.put(name, new ConnectorConfig(prefix, root, name));
+            // Extract the name
+            String name = key.substring(prefix.length());
+            if (name.charAt(0) == '"') { // Check if the name is enclosed by double quotes
+                name = name.substring(1, name.lastIndexOf('"'));
+            } else if (name.contains(".")) { // We must remove the part after the first dot
+                String tmp = name;
+                name = tmp.substring(0, tmp.indexOf('.'));
             }
-        });
+            if (!configs.containsKey(name)) {
+                configs.put(name, new ConnectorConfig(prefix, root, name, index));
+            }
+        }
         return configs;
     }
 
@@ -100,8 +103,12 @@ public class ConfiguredChannelFactory implements ChannelRegistar {
 
         log.channelManagerInitializing();
 
-        Map<String, ConnectorConfig> sourceConfiguration = extractConfigurationFor(ConnectorFactory.INCOMING_PREFIX, config);
-        Map<String, ConnectorConfig> sinkConfiguration = extractConfigurationFor(ConnectorFactory.OUTGOING_PREFIX, config);
+        // Index the property names once, and share the index between all the channels
+        PropertyNamesIndex index = new PropertyNamesIndex(config);
+        Map<String, ConnectorConfig> sourceConfiguration = extractConfigurationFor(ConnectorFactory.INCOMING_PREFIX, config,
+                index);
+        Map<String, ConnectorConfig> sinkConfiguration = extractConfigurationFor(ConnectorFactory.OUTGOING_PREFIX, config,
+                index);
 
         detectNameConflict(sourceConfiguration, sinkConfiguration);
 
@@ -39,10 +39,21 @@ public class ConnectorConfig implements Config {
     private final String name;
     private final String connector;
 
+    /**
+     * The index of the property names, shared between the channels when created by the
+     * {@link ConfiguredChannelFactory}, or lazily created on the first call to {@link #getPropertyNames()}.
+     */
+    private PropertyNamesIndex index;
+
     protected ConnectorConfig(String prefix, Config overall, String channel) {
+        this(prefix, overall, channel, null);
+    }
+
+    ConnectorConfig(String prefix, Config overall, String channel, PropertyNamesIndex index) {
         this.prefix = Objects.requireNonNull(prefix, msg.prefixMustNotBeSet());
         this.overall = Objects.requireNonNull(overall, msg.configMustNotBeSet());
         this.name = Objects.requireNonNull(channel, msg.channelMustNotBeSet());
+        this.index = index;
 
         Optional<String> value = overall.getOptionalValue(channelKey(CONNECTOR_ATTRIBUTE), String.class);
         this.connector = value
@@ -50,10 +61,16 @@ public class ConnectorConfig implements Config {
                         .orElseThrow(() -> ex.illegalArgumentChannelConnectorConfiguration(name)));
 
         // Detect invalid channel-name attribute
-        for (String key : overall.getPropertyNames()) {
-            if ((channelKey(CHANNEL_NAME_ATTRIBUTE)).equalsIgnoreCase(key)) {
+        if (index != null) {
+            if (index.containsIgnoreCase(channelKey(CHANNEL_NAME_ATTRIBUTE))) {
                 throw ex.illegalArgumentInvalidChannelConfiguration(name);
             }
+        } else {
+            for (String key : overall.getPropertyNames()) {
+                if ((channelKey(CHANNEL_NAME_ATTRIBUTE)).equalsIgnoreCase(key)) {
+                    throw ex.illegalArgumentInvalidChannelConfiguration(name);
+                }
+            }
         }
     }
 
@@ -170,8 +187,18 @@ public class ConnectorConfig implements Config {
         String connectorPrefixAlpha = toAlpha(connectorPrefix);
         String connectorPrefixAlphaUpper = connectorPrefixAlpha.toUpperCase();
 
+        if (index == null) {
+            index = new PropertyNamesIndex(overall);
+        }
+        // Only look at the property names starting with one of the prefixes
+        Set<String> candidates = new LinkedHashSet<>();
+        for (String p : Arrays.asList(connectorPrefix, connectorPrefixAlpha, connectorPrefixAlphaUpper, prefix,
+                prefixAlpha, prefixAlphaUpper)) {
+            candidates.addAll(index.startingWith(p));
+        }
+
         Set<String> names = new HashSet<>();
-        for (String name : overall.getPropertyNames()) {
+        for (String name : candidates) {
             if (name.startsWith(connectorPrefix)) {
                 String computed = name.substring(connectorPrefix.length());
                 names.add(computed);
@@ -0,0 +1,58 @@
+package io.smallrye.reactive.messaging.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.config.Config;
+
+/**
+ * Snapshot of the property names of a {@link Config}, taken in a single pass over {@link Config#getPropertyNames()}.
+ * <p>
+ * The names are sorted, so the names starting with a given prefix are found without iterating over all the
+ * property names. This index is built once and shared by the channel configurations, instead of having each channel
+ * configuration iterating over all the property names.
+ */
+class PropertyNamesIndex {
+
+    private final NavigableSet<String> names = new TreeSet<>();
+    private final Set<String> lowerCaseNames = new HashSet<>();
+
+    PropertyNamesIndex(Config config) {
+        for (String name : config.getPropertyNames()) {
+            names.add(name);
+            lowerCaseNames.add(name.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Gets the property names starting with the given prefix.
+     *
+     * @param prefix the prefix
+     * @return the names, in lexicographic order
+     */
+    List<String> startingWith(String prefix) {
+        List<String> result = new ArrayList<>();
+        for (String name : names.tailSet(prefix, true)) {
+            if (!name.startsWith(prefix)) {
+                break;
+            }
+            result.add(name);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a property name matches the given name, ignoring the case.
+     *
+     * @param name the name
+     * @return {@code true} if the index contains the name, ignoring the case
+     */
+    boolean containsIgnoreCase(String name) {
+        return lowerCaseNames.contains(name.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,96 @@
+package io.smallrye.reactive.messaging.impl;
+
+import static io.smallrye.reactive.messaging.i18n.ProviderExceptions.ex;
+import static io.smallrye.reactive.messaging.i18n.ProviderLogging.log;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricRegistry.Type;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+import io.smallrye.reactive.messaging.helpers.RateLimitedPublisher;
+import io.smallrye.reactive.messaging.helpers.TokenBucket;
+
+/**
+ * Limits the rate of the channels configured with
+ * {@code smallrye.messaging.rate-limit.<channel>.permits-per-second}, using a token bucket holding up to
+ * {@code smallrye.messaging.rate-limit.<channel>.burst} permits (defaults to one second of permits).
+ * <p>
+ * The rate is enforced by shaping the demand sent upstream, see {@link RateLimitedPublisher}. All the publishers of a
+ * channel share the same bucket. When a metric registry is available, the number of permits granted during the last
+ * second and the number of available permits are exposed as gauges tagged with the channel name.
+ */
+@ApplicationScoped
+public class RateLimitDecorator implements PublisherDecorator {
+
+    static final String RATE_LIMIT_CONFIG_PREFIX = "smallrye.messaging.rate-limit.";
+    static final String PERMITS_PER_SECOND = "permits-per-second";
+    static final String BURST = "burst";
+
+    static final String PERMIT_RATE = "mp.messaging.channel.permit-rate";
+    static final String AVAILABLE_PERMITS = "mp.messaging.channel.available-permits";
+
+    @Inject
+    Instance<Config> configInstance;
+
+    @Inject
+    @RegistryType(type = Type.BASE)
+    Instance<MetricRegistry> registryInstance;
+
+    private final Map<String, Optional<TokenBucket>> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName) {
+        if (channelName == null) {
+            return publisher;
+        }
+        Optional<TokenBucket> bucket = buckets.computeIfAbsent(channelName, this::createBucket);
+        if (!bucket.isPresent()) {
+            return publisher;
+        }
+        return RateLimitedPublisher.create(publisher, bucket.get(), Infrastructure.getDefaultWorkerPool());
+    }
+
+    private Optional<TokenBucket> createBucket(String channel) {
+        if (configInstance.isUnsatisfied()) {
+            return Optional.empty();
+        }
+        Config config = configInstance.get();
+        String prefix = RATE_LIMIT_CONFIG_PREFIX + channel + ".";
+        Optional<Double> rate = config.getOptionalValue(prefix + PERMITS_PER_SECOND, Double.class);
+        if (!rate.isPresent()) {
+            return Optional.empty();
+        }
+        if (rate.get() <= 0) {
+            throw ex.illegalArgumentForRateLimit(channel, prefix + PERMITS_PER_SECOND, rate.get().toString());
+        }
+        long burst = config.getOptionalValue(prefix + BURST, Long.class)
+                .orElse(Math.max(1L, (long) Math.ceil(rate.get())));
+        if (burst <= 0) {
+            throw ex.illegalArgumentForRateLimit(channel, prefix + BURST, Long.toString(burst));
+        }
+
+        TokenBucket bucket = new TokenBucket(rate.get(), burst);
+        log.rateLimitingChannel(channel, rate.get(), burst);
+        if (registryInstance.isResolvable()) {
+            MetricRegistry registry = registryInstance.get();
+            Tag tag = new Tag("channel", channel);
+            registry.gauge(PERMIT_RATE, bucket, TokenBucket::getPermitRate, tag);
+            registry.gauge(AVAILABLE_PERMITS, bucket, TokenBucket::getAvailablePermits, tag);
+        }
+        return Optional.of(bucket);
+    }
+}
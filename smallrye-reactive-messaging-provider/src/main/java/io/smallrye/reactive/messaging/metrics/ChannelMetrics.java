@@ -0,0 +1,157 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * The detailed metrics of a channel, or of the part of a channel produced by a mediator method.
+ * <p>
+ * Recording only touches striped counters ({@link LongAdder} based) and a single atomic for the demand, so messages
+ * acknowledged concurrently do not contend on a lock.
+ * <p>
+ * The acknowledgement of a message is intercepted using {@link Message#withAck} and {@link Message#withNack}, only if
+ * the resulting message keeps the type of the original message. Otherwise, such as for most connector-specific
+ * messages, the original message is dispatched unchanged, and the mediator receiving it reports its acknowledgement
+ * through {@link MessageCompletions}.
+ */
+class ChannelMetrics {
+
+    static final String ACKED = "mp.messaging.message.acked";
+    static final String NACKED = "mp.messaging.message.nacked";
+    static final String FAILURES = "mp.messaging.channel.failures";
+    static final String LATENCY = "mp.messaging.message.latency";
+    static final String IN_FLIGHT = "mp.messaging.message.in-flight";
+    static final String DEMAND = "mp.messaging.channel.demand";
+
+    private final Counter acked;
+    private final Counter nacked;
+    private final Counter failures;
+    private final Timer latency;
+
+    /**
+     * The number of messages dispatched downstream and not yet acknowledged (positively or negatively).
+     */
+    private final LongAdder inFlight = new LongAdder();
+
+    /**
+     * The outstanding downstream requests, {@code Long.MAX_VALUE} when the downstream requested an unbounded amount.
+     */
+    private final AtomicLong demand = new AtomicLong();
+
+    ChannelMetrics(MetricRegistry registry, Tag... tags) {
+        this.acked = registry.counter(ACKED, tags);
+        this.nacked = registry.counter(NACKED, tags);
+        this.failures = registry.counter(FAILURES, tags);
+        this.latency = registry.timer(LATENCY, tags);
+        registry.gauge(IN_FLIGHT, inFlight, LongAdder::sum, tags);
+        registry.gauge(DEMAND, demand, AtomicLong::get, tags);
+    }
+
+    Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher) {
+        return publisher
+                .onItem().transform(this::track)
+                .onFailure().invoke(failure -> failures.inc())
+                .onRequest().invoke(n -> Subscriptions.add(demand, n));
+    }
+
+    private Message<?> track(Message<?> message) {
+        Subscriptions.produced(demand, 1);
+        Completion completion = new Completion(this, System.nanoTime());
+        inFlight.increment();
+        Message<?> tracked = message
+                .withAck(() -> {
+                    completion.acked();
+                    return message.ack();
+                })
+                .withNack(reason -> {
+                    completion.nacked();
+                    return message.nack(reason);
+                });
+        if (!keepsType(message, tracked)) {
+            // Replacing the message would break the methods expecting its specific type, the mediator receiving it
+            // reports its completion instead
+            MessageCompletions.observe(message, completion);
+            return message;
+        }
+        return tracked;
+    }
+
+    /**
+     * Checks whether a message can be replaced by another one. Messages created by the {@link Message} factory methods
+     * are anonymous classes or lambdas, so only the interfaces they implement are checked.
+     *
+     * @param original the original message
+     * @param replacement the replacement
+     * @return {@code true} if the replacement is an instance of the type of the original message
+     */
+    private static boolean keepsType(Message<?> original, Message<?> replacement) {
+        Class<?> type = original.getClass();
+        if (!type.isAnonymousClass() && !type.isSynthetic()) {
+            return type.isInstance(replacement);
+        }
+        for (Class<?> itf : type.getInterfaces()) {
+            if (!itf.isInstance(replacement)) {
+                return false;
+            }
+        }
+        return type.getSuperclass().isInstance(replacement);
+    }
+
+    /**
+     * Records the completion of a message, only the first acknowledgement of a message is recorded so acknowledging
+     * twice does not skew the metrics.
+     *
+     * @param completion the completion tracker of the message
+     * @param counter the counter to increment, {@code null} if the acknowledgement is unknown
+     */
+    private void complete(Completion completion, Counter counter) {
+        if (Completion.DONE.compareAndSet(completion, 0, 1)) {
+            inFlight.decrement();
+            if (counter != null) {
+                latency.update(Duration.ofNanos(System.nanoTime() - completion.start));
+                counter.inc();
+            }
+        }
+    }
+
+    private static final class Completion implements MessageCompletions.Observer {
+
+        static final AtomicIntegerFieldUpdater<Completion> DONE = AtomicIntegerFieldUpdater
+                .newUpdater(Completion.class, "done");
+
+        final ChannelMetrics metrics;
+        final long start;
+        volatile int done;
+
+        Completion(ChannelMetrics metrics, long start) {
+            this.metrics = metrics;
+            this.start = start;
+        }
+
+        @Override
+        public void acked() {
+            metrics.complete(this, metrics.acked);
+        }
+
+        @Override
+        public void nacked() {
+            metrics.complete(this, metrics.nacked);
+        }
+
+        @Override
+        public void discarded() {
+            metrics.complete(this, null);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * Records the completion of the messages whose acknowledgement cannot be intercepted, such as connector-specific
+ * messages, which cannot be replaced without breaking the methods expecting their type.
+ * <p>
+ * Instead of acknowledging the messages they receive directly, the mediators acknowledge them through this class,
+ * which notifies the observer registered for the message, if any. The messages acknowledged by the application
+ * ({@code MANUAL} acknowledgement) are discarded once processed: they are no longer in flight, but their
+ * acknowledgement is not recorded.
+ * <p>
+ * The messages are weakly referenced, so a message which never reaches a mediator is not retained.
+ */
+public final class MessageCompletions {
+
+    private static final Map<Message<?>, Observer> OBSERVERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Whether an observer has ever been registered, so the lookups are skipped when the detailed metrics are disabled.
+     */
+    private static volatile boolean observing;
+
+    private MessageCompletions() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * Observes the completion of a message.
+     */
+    interface Observer {
+
+        void acked();
+
+        void nacked();
+
+        /**
+         * The message is no longer tracked, without knowing whether it has been acknowledged.
+         */
+        void discarded();
+    }
+
+    static void observe(Message<?> message, Observer observer) {
+        observing = true;
+        OBSERVERS.put(message, observer);
+    }
+
+    private static Observer remove(Message<?> message) {
+        if (!observing) {
+            return null;
+        }
+        return OBSERVERS.remove(message);
+    }
+
+    /**
+     * Acknowledges a message, recording its completion.
+     *
+     * @param message the message
+     * @return the acknowledgement of the message
+     */
+    public static CompletionStage<Void> ack(Message<?> message) {
+        Observer observer = remove(message);
+        if (observer != null) {
+            observer.acked();
+        }
+        return message.ack();
+    }
+
+    /**
+     * Negatively acknowledges a message, recording its completion.
+     *
+     * @param message the message
+     * @param reason the reason of the nack
+     * @return the negative acknowledgement of the message
+     */
+    public static CompletionStage<Void> nack(Message<?> message, Throwable reason) {
+        Observer observer = remove(message);
+        if (observer != null) {
+            observer.nacked();
+        }
+        return message.nack(reason);
+    }
+
+    /**
+     * Stops tracking a message acknowledged, or not, by the application.
+     *
+     * @param message the message
+     */
+    public static void discard(Message<?> message) {
+        Observer observer = remove(message);
+        if (observer != null) {
+            observer.discarded();
+        }
+    }
+
+    /**
+     * Creates the message forwarding the result of the processing of a message, see {@link Message#withPayload}.
+     * The completion of the original message is recorded when the returned message is acknowledged.
+     *
+     * @param message the processed message
+     * @param payload the result
+     * @param <P> the type of the result
+     * @return the message to forward
+     */
+    public static <P> Message<P> withPayload(Message<?> message, P payload) {
+        Message<P> result = message.withPayload(payload);
+        Observer observer = remove(message);
+        if (observer == null) {
+            return result;
+        }
+        return result
+                .withAck(() -> {
+                    observer.acked();
+                    return result.ack();
+                })
+                .withNack(reason -> {
+                    observer.nacked();
+                    return result.nack(reason);
+                });
+    }
+}
@@ -1,11 +1,19 @@
 package io.smallrye.reactive.messaging.metrics;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.metrics.Counter;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricRegistry.Type;
@@ -14,13 +22,26 @@ import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.eclipse.microprofile.reactive.messaging.Message;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
 import io.smallrye.reactive.messaging.PublisherDecorator;
 
 @ApplicationScoped
 public class MetricDecorator implements PublisherDecorator {
 
+    /**
+     * Comma-separated list of the channels recording detailed metrics (acknowledgements, latency, in-flight messages
+     * and demand), {@code *} enables them for every channel.
+     */
+    public static final String DETAILED_CHANNELS_PROPERTY = "smallrye.messaging.metrics.detailed-channels";
+
+    private static final String ALL_CHANNELS = "*";
+
     private MetricRegistry registry;
 
+    private Set<String> detailedChannels = Collections.emptySet();
+
+    private final Map<String, ChannelMetrics> channelMetrics = new ConcurrentHashMap<>();
+
     @Inject
     private void setMetricRegistry(@RegistryType(type = Type.BASE) Instance<MetricRegistry> registryInstance) {
         if (registryInstance.isResolvable()) {
@@ -28,14 +49,53 @@ public class MetricDecorator implements PublisherDecorator {
         }
     }
 
+    @Inject
+    private void setDetailedChannels(@ConfigProperty(name = DETAILED_CHANNELS_PROPERTY) Optional<String> channels) {
+        detailedChannels = channels
+                .map(list -> Arrays.stream(list.split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .collect(Collectors.toSet()))
+                .orElse(Collections.emptySet());
+    }
+
     @Override
     public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher,
             String channelName) {
-        if (registry != null) {
-            return publisher.invoke(incrementCount(channelName));
-        } else {
+        return decorate(publisher, channelName, (String) null);
+    }
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName,
+            MediatorConfiguration mediator) {
+        return decorate(publisher, channelName, mediator.methodAsString());
+    }
+
+    private Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName,
+            String method) {
+        if (registry == null) {
             return publisher;
         }
+        Multi<? extends Message<?>> counted = publisher.invoke(incrementCount(channelName));
+        if (isDetailed(channelName)) {
+            return getChannelMetrics(channelName, method).decorate(counted);
+        }
+        return counted;
+    }
+
+    private boolean isDetailed(String channelName) {
+        return detailedChannels.contains(channelName) || detailedChannels.contains(ALL_CHANNELS);
+    }
+
+    private ChannelMetrics getChannelMetrics(String channelName, String method) {
+        String key = method == null ? channelName : channelName + "/" + method;
+        return channelMetrics.computeIfAbsent(key, k -> {
+            Tag channel = new Tag("channel", channelName);
+            if (method == null) {
+                return new ChannelMetrics(registry, channel);
+            }
+            return new ChannelMetrics(registry, channel, new Tag("method", method));
+        });
     }
 
     private Consumer<Message<?>> incrementCount(String channelName) {
@@ -0,0 +1,49 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricRegistry.Type;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+
+import io.smallrye.reactive.messaging.connectors.WorkerPool;
+import io.smallrye.reactive.messaging.connectors.WorkerPoolRegistry;
+
+/**
+ * Exposes the state of the named worker pools used by {@code @Blocking} methods as gauges tagged with the pool name.
+ */
+@ApplicationScoped
+public class WorkerPoolMetrics {
+
+    static final String QUEUE_DEPTH = "mp.messaging.worker.queue-depth";
+    static final String ACTIVE = "mp.messaging.worker.active";
+    static final String TASKS = "mp.messaging.worker.tasks";
+    static final String WAIT_TIME = "mp.messaging.worker.wait-time";
+
+    @Inject
+    @RegistryType(type = Type.BASE)
+    Instance<MetricRegistry> registryInstance;
+
+    @Inject
+    Instance<WorkerPoolRegistry> workerPoolRegistry;
+
+    void register(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!registryInstance.isResolvable() || !workerPoolRegistry.isResolvable()) {
+            return;
+        }
+        MetricRegistry registry = registryInstance.get();
+        for (WorkerPool pool : workerPoolRegistry.get().getWorkerPools().values()) {
+            Tag tag = new Tag("worker", pool.getName());
+            registry.gauge(QUEUE_DEPTH, pool, WorkerPool::getQueueDepth, tag);
+            registry.gauge(ACTIVE, pool, WorkerPool::getActiveWorkers, tag);
+            registry.gauge(TASKS, pool, WorkerPool::getExecutedTasks, tag);
+            registry.gauge(WAIT_TIME, pool, p -> p.getTotalWaitTime().toMillis(), tag);
+        }
+    }
+
+}
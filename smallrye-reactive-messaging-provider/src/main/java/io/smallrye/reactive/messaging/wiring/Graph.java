@@ -3,6 +3,8 @@ package io.smallrye.reactive.messaging.wiring;
 import static io.smallrye.reactive.messaging.i18n.ProviderLogging.log;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import io.smallrye.reactive.messaging.ChannelRegistry;
@@ -51,13 +53,19 @@ public class Graph {
             ProviderLogging.log.reportWiringFailures(message.toString());
         }
 
+        Map<Wiring.Component, Boolean> upstreamFullyResolved = new HashMap<>();
+        Map<Wiring.Component, Boolean> downstreamFullyResolved = new HashMap<>();
         this.inbound = this.resolved.stream()
-                .filter(c -> c.isUpstreamResolved() && c.upstreams().isEmpty() && isDownstreamFullyResolved(c))
+                .filter(c -> c.isUpstreamResolved() && c.upstreams().isEmpty()
+                        && isFullyResolved(c, downstreamFullyResolved, Wiring.Component::isDownstreamResolved,
+                                Wiring.Component::downstreams))
                 .map(c -> (Wiring.PublishingComponent) c)
                 .collect(Collectors.toSet());
         // Verify that the full chain is ok
         this.outbound = this.resolved.stream()
-                .filter(c -> c.isDownstreamResolved() && c.downstreams().isEmpty() && isUpstreamFullyResolved(c))
+                .filter(c -> c.isDownstreamResolved() && c.downstreams().isEmpty()
+                        && isFullyResolved(c, upstreamFullyResolved, Wiring.Component::isUpstreamResolved,
+                                Wiring.Component::upstreams))
                 .map(c -> (Wiring.ConsumingComponent) c)
                 .collect(Collectors.toSet());
 
@@ -78,51 +86,35 @@ public class Graph {
     public void materialize(ChannelRegistry registry) {
         log.startMaterialization();
         long begin = System.nanoTime();
-        Set<Wiring.Component> materialized = new HashSet<>();
-        List<Wiring.Component> current = new ArrayList<>(inbound);
-        while (!current.isEmpty()) {
-            List<Wiring.Component> downstreams = new ArrayList<>();
-            List<Wiring.Component> toBeMaterialized = new ArrayList<>();
-            for (Wiring.Component cmp : current) {
-                if (!materialized.contains(cmp) && !toBeMaterialized.contains(cmp)
-                        && allUpstreamsMaterialized(cmp, materialized)) {
-                    toBeMaterialized.add(cmp);
-                }
-            }
 
-            // Sort the component that can be materialized during this iteration
-            // Emitter connector first.
-            toBeMaterialized.sort((o1, o2) -> {
-                if (o1.equals(o2)) {
-                    return 0;
-                }
-                if (o1 instanceof Wiring.EmitterComponent) {
-                    return -1;
+        // Materialize the components in topological order: a component is materialized once all its upstreams are.
+        // Emitter connector first.
+        Deque<Wiring.Component> ready = new ArrayDeque<>();
+        for (Wiring.Component component : inbound) {
+            if (component instanceof Wiring.EmitterComponent) {
+                ready.addFirst(component);
+            } else {
+                ready.addLast(component);
+            }
+        }
+        Map<Wiring.Component, Integer> remainingUpstreams = new HashMap<>();
+        while (!ready.isEmpty()) {
+            Wiring.Component component = ready.poll();
+            component.materialize(registry);
+            for (Wiring.Component downstream : component.downstreams()) {
+                int remaining = remainingUpstreams.getOrDefault(downstream, downstream.upstreams().size()) - 1;
+                if (remaining == 0) {
+                    remainingUpstreams.remove(downstream);
+                    ready.add(downstream);
+                } else {
+                    remainingUpstreams.put(downstream, remaining);
                 }
-                return 1;
-            });
-            toBeMaterialized.forEach(c -> {
-                c.materialize(registry);
-                downstreams.addAll(c.downstreams());
-                materialized.add(c);
-            });
-
-            current.removeAll(materialized);
-            current.addAll(downstreams);
+            }
         }
         long duration = System.nanoTime() - begin;
         log.materializationCompleted(duration);
     }
 
-    private boolean allUpstreamsMaterialized(Wiring.Component cmp, Set<Wiring.Component> materialized) {
-        for (Wiring.Component upstream : cmp.upstreams()) {
-            if (!materialized.contains(upstream)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     public Set<Wiring.Component> getResolvedComponents() {
         return resolved;
     }
@@ -139,28 +131,38 @@ public class Graph {
         return outbound;
     }
 
-    private boolean isUpstreamFullyResolved(Wiring.Component component) {
-        if (!component.isUpstreamResolved()) {
-            return false;
-        }
-        for (Wiring.Component upstream : component.upstreams()) {
-            if (!isUpstreamFullyResolved(upstream)) {
-                return false;
+    /**
+     * Checks whether the given component and all the components reachable from it are resolved.
+     * The graph is explored iteratively, and the result of each component is memoized in {@code results}, so each
+     * component is only checked once.
+     */
+    private static boolean isFullyResolved(Wiring.Component component, Map<Wiring.Component, Boolean> results,
+            Predicate<Wiring.Component> resolved, Function<Wiring.Component, Set<Wiring.Component>> next) {
+        Deque<Wiring.Component> stack = new ArrayDeque<>();
+        stack.push(component);
+        while (!stack.isEmpty()) {
+            Wiring.Component current = stack.peek();
+            if (results.containsKey(current)) {
+                stack.pop();
+                continue;
             }
-        }
-        return true;
-    }
-
-    private boolean isDownstreamFullyResolved(Wiring.Component component) {
-        if (!component.isDownstreamResolved()) {
-            return false;
-        }
-        for (Wiring.Component downstream : component.downstreams()) {
-            if (!isDownstreamFullyResolved(downstream)) {
-                return false;
+            boolean pending = false;
+            boolean fullyResolved = resolved.test(current);
+            for (Wiring.Component c : next.apply(current)) {
+                Boolean result = results.get(c);
+                if (result == null) {
+                    stack.push(c);
+                    pending = true;
+                } else {
+                    fullyResolved = fullyResolved && result;
+                }
+            }
+            if (!pending) {
+                results.put(current, fullyResolved);
+                stack.pop();
             }
         }
-        return true;
+        return results.get(component);
     }
 
     public Set<Wiring.ConsumingComponent> getUnresolvedComponents() {
@@ -193,20 +195,35 @@ public class Graph {
     }
 
     private void detectCycles() throws CycleException {
+        // Depth-first traversal, a downstream still being visited closes a cycle
+        Set<Wiring.Component> visited = new HashSet<>();
+        Set<Wiring.Component> visiting = new HashSet<>();
         for (Wiring.Component component : resolved) {
-            Set<Wiring.Component> traces = new HashSet<>();
-            detectCycles(traces, component);
-        }
-    }
-
-    private void detectCycles(Set<Wiring.Component> traces, Wiring.Component component) throws CycleException {
-        traces.add(component);
-        for (Wiring.Component downstream : component.downstreams()) {
-            if (traces.contains(downstream)) {
-                throw new CycleException(component, downstream);
-            } else {
-                traces.add(downstream);
-                detectCycles(new HashSet<>(traces), downstream);
+            if (visited.contains(component)) {
+                continue;
+            }
+            Deque<Wiring.Component> path = new ArrayDeque<>();
+            Deque<Iterator<Wiring.Component>> iterators = new ArrayDeque<>();
+            path.push(component);
+            iterators.push(component.downstreams().iterator());
+            visiting.add(component);
+            while (!path.isEmpty()) {
+                Iterator<Wiring.Component> iterator = iterators.peek();
+                if (iterator.hasNext()) {
+                    Wiring.Component downstream = iterator.next();
+                    if (visiting.contains(downstream)) {
+                        throw new CycleException(path.peek(), downstream);
+                    } else if (!visited.contains(downstream)) {
+                        path.push(downstream);
+                        iterators.push(downstream.downstreams().iterator());
+                        visiting.add(downstream);
+                    }
+                } else {
+                    Wiring.Component done = path.pop();
+                    iterators.pop();
+                    visiting.remove(done);
+                    visited.add(done);
+                }
             }
         }
     }
@@ -17,6 +17,7 @@ import io.smallrye.reactive.messaging.ChannelRegistry;
 import io.smallrye.reactive.messaging.MediatorConfiguration;
 import io.smallrye.reactive.messaging.annotations.Merge;
 import io.smallrye.reactive.messaging.extension.*;
+import io.smallrye.reactive.messaging.helpers.BroadcastHelper;
 import io.smallrye.reactive.messaging.i18n.ProviderLogging;
 
 @ApplicationScoped
@@ -33,6 +34,18 @@ public class Wiring {
     @Deprecated // Use mp.messaging.emitter.default-buffer-size instead
     int defaultBufferSizeLegacy;
 
+    @Inject
+    @ConfigProperty(name = "smallrye.messaging.emitter.lock-free", defaultValue = "false")
+    boolean lockFreeEmitters;
+
+    @Inject
+    @ConfigProperty(name = BroadcastHelper.RING_BUFFER_SIZE_PROPERTY, defaultValue = "0")
+    int broadcastRingBufferSize;
+
+    @Inject
+    @ConfigProperty(name = BroadcastHelper.SLOW_SUBSCRIBER_POLICY_PROPERTY, defaultValue = "block")
+    String slowSubscriberPolicy;
+
     @Inject
     MediatorManager manager;
 
@@ -66,7 +79,11 @@ public class Wiring {
         }
 
         for (EmitterConfiguration emitter : emitters) {
-            components.add(new EmitterComponent(emitter, defaultBufferSize, defaultBufferSizeLegacy));
+            if (broadcastRingBufferSize > 0) {
+                emitter.broadcastRingBufferSize = broadcastRingBufferSize;
+                emitter.slowSubscriberPolicy = BroadcastHelper.getSlowSubscriberPolicy(slowSubscriberPolicy);
+            }
+            components.add(new EmitterComponent(emitter, defaultBufferSize, defaultBufferSizeLegacy, lockFreeEmitters));
         }
 
         // At that point, the registry only contains connectors or managed channels
@@ -85,48 +102,42 @@ public class Wiring {
         Set<Component> resolved = new LinkedHashSet<>();
         Set<ConsumingComponent> unresolved = new LinkedHashSet<>();
 
+        // Index the components by channel name, so matching a channel does not iterate over all the components
+        Map<String, List<Component>> producers = new HashMap<>();
+        Map<String, List<ConsumingComponent>> consumers = new HashMap<>();
+        Deque<Component> toPropagate = new ArrayDeque<>();
+
         // Initialize lists
         for (Component component : components) {
+            component.outgoing()
+                    .ifPresent(outgoing -> producers.computeIfAbsent(key(outgoing), k -> new ArrayList<>()).add(component));
+            if (component instanceof ConsumingComponent) {
+                for (String incoming : component.incomings()) {
+                    consumers.computeIfAbsent(key(incoming), k -> new ArrayList<>()).add((ConsumingComponent) component);
+                }
+            }
             if (component.isUpstreamResolved()) {
                 resolved.add(component);
+                toPropagate.add(component);
             } else {
                 unresolved.add((ConsumingComponent) component);
             }
         }
 
-        boolean doneOrStale = false;
-        // Until everything is resolved or we got staled
-        while (!doneOrStale) {
-            List<ConsumingComponent> resolvedDuringThisTurn = new ArrayList<>();
-            for (ConsumingComponent component : unresolved) {
-                List<String> incomings = component.incomings();
-                for (String incoming : incomings) {
-                    List<Component> matches = getMatchesFor(incoming, resolved);
-                    if (!matches.isEmpty()) {
-                        matches.forEach(m -> bind(component, m));
-                        if (component.isUpstreamResolved()) {
-                            resolvedDuringThisTurn.add(component);
-                        }
-                    }
-                }
+        // Bind each resolved component to the components consuming its outgoing channel.
+        // A consumer becomes resolved once all its upstreams are bound, and is then propagated in turn.
+        while (!toPropagate.isEmpty()) {
+            Component provider = toPropagate.poll();
+            Optional<String> outgoing = provider.outgoing();
+            if (!outgoing.isPresent()) {
+                continue;
             }
-
-            resolved.addAll(resolvedDuringThisTurn);
-            unresolved.removeAll(resolvedDuringThisTurn);
-
-            doneOrStale = resolvedDuringThisTurn.isEmpty() || unresolved.isEmpty();
-
-            // Update components consuming multiple incomings.
-            for (Component component : resolved) {
-                if (component instanceof ConsumingComponent) {
-                    ConsumingComponent cc = (ConsumingComponent) component;
-                    List<String> incomings = cc.incomings();
-                    for (String incoming : incomings) {
-                        List<Component> matches = getMatchesFor(incoming, resolved);
-                        for (Component match : matches) {
-                            bind(cc, match);
-                        }
-                    }
+            for (ConsumingComponent consumer : consumers.getOrDefault(key(outgoing.get()), Collections.emptyList())) {
+                bind(consumer, provider);
+                if (!resolved.contains(consumer) && consumer.isUpstreamResolved()) {
+                    unresolved.remove(consumer);
+                    resolved.add(consumer);
+                    toPropagate.add(consumer);
                 }
             }
         }
@@ -136,7 +147,7 @@ public class Wiring {
         for (ConsumingComponent c : unresolved) {
             for (String incoming : c.incomings()) {
                 // searched in unresolved
-                List<Component> matches = getMatchesFor(incoming, unresolved);
+                List<Component> matches = getMatchesFor(incoming, producers, unresolved);
                 if (!matches.isEmpty()) {
                     newlyResolved.add(c);
                     matches.forEach(m -> bind(c, m));
@@ -164,17 +175,24 @@ public class Wiring {
         provider.connectDownstream(consumer);
     }
 
-    private List<Component> getMatchesFor(String incoming, Set<? extends Component> candidates) {
+    private List<Component> getMatchesFor(String incoming, Map<String, List<Component>> producers,
+            Set<? extends Component> candidates) {
         List<Component> matches = new ArrayList<>();
-        for (Component component : candidates) {
-            Optional<String> outgoing = component.outgoing();
-            if (outgoing.isPresent() && outgoing.get().equalsIgnoreCase(incoming)) {
+        for (Component component : producers.getOrDefault(key(incoming), Collections.emptyList())) {
+            if (candidates.contains(component)) {
                 matches.add(component);
             }
         }
         return matches;
     }
 
+    /**
+     * Channel names are matched ignoring the case.
+     */
+    private static String key(String channel) {
+        return channel.toLowerCase(Locale.ROOT);
+    }
+
     public interface Component {
 
         void validate() throws WiringException;
@@ -412,11 +430,14 @@ public class Wiring {
         private final Set<Component> downstreams = new LinkedHashSet<>();
         private final int defaultBufferSize;
         private final int defaultBufferSizeLegacy;
+        private final boolean lockFree;
 
-        public EmitterComponent(EmitterConfiguration configuration, int defaultBufferSize, int defaultBufferSizeLegacy) {
+        public EmitterComponent(EmitterConfiguration configuration, int defaultBufferSize, int defaultBufferSizeLegacy,
+                boolean lockFree) {
             this.configuration = configuration;
             this.defaultBufferSize = defaultBufferSize;
             this.defaultBufferSizeLegacy = defaultBufferSizeLegacy;
+            this.lockFree = lockFree;
         }
 
         @Override
@@ -449,11 +470,11 @@ public class Wiring {
             Publisher<? extends Message<?>> publisher;
             int def = getDefaultBufferSize();
             if (configuration.isMutinyEmitter) {
-                MutinyEmitterImpl<?> mutinyEmitter = new MutinyEmitterImpl<>(configuration, def);
+                MutinyEmitterImpl<?> mutinyEmitter = new MutinyEmitterImpl<>(configuration, def, lockFree);
                 publisher = mutinyEmitter.getPublisher();
                 registry.register(configuration.name, mutinyEmitter);
             } else {
-                EmitterImpl<?> emitter = new EmitterImpl<>(configuration, def);
+                EmitterImpl<?> emitter = new EmitterImpl<>(configuration, def, lockFree);
                 publisher = emitter.getPublisher();
                 registry.register(configuration.name, emitter);
             }
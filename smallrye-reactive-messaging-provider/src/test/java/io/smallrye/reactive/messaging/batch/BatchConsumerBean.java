@@ -0,0 +1,45 @@
+package io.smallrye.reactive.messaging.batch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.mutiny.Multi;
+
+@ApplicationScoped
+public class BatchConsumerBean {
+
+    public static final int COUNT = 25;
+
+    private final AtomicInteger acked = new AtomicInteger();
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @Outgoing("payloads")
+    public Multi<Message<Integer>> produce() {
+        return Multi.createFrom().range(0, COUNT)
+                .map(i -> Message.of(i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }));
+    }
+
+    @Incoming("payloads")
+    public void consume(List<Integer> batch) {
+        batches.add(batch);
+    }
+
+    public List<List<Integer>> batches() {
+        return batches;
+    }
+
+    public int acked() {
+        return acked.get();
+    }
+}
@@ -0,0 +1,55 @@
+package io.smallrye.reactive.messaging.batch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.mutiny.Multi;
+
+@ApplicationScoped
+public class BatchMessageConsumerBean {
+
+    private final List<String> acked = new CopyOnWriteArrayList<>();
+    private final List<String> nacked = new CopyOnWriteArrayList<>();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @Outgoing("messages")
+    public Multi<Message<String>> produce() {
+        return Multi.createFrom().items("a", "b", "c", "d", "e", "f", "g", "h")
+                .map(s -> Message.of(s, () -> {
+                    acked.add(s);
+                    return CompletableFuture.completedFuture(null);
+                }, failure -> {
+                    nacked.add(s);
+                    return CompletableFuture.completedFuture(null);
+                }));
+    }
+
+    @Incoming("messages")
+    public CompletionStage<Void> consume(Message<List<String>> batch) {
+        batches.add(batch.getPayload());
+        if (batch.getPayload().contains("e")) {
+            return batch.nack(new IllegalStateException("boom"));
+        }
+        return batch.ack();
+    }
+
+    public List<List<String>> batches() {
+        return batches;
+    }
+
+    public List<String> acked() {
+        return acked;
+    }
+
+    public List<String> nacked() {
+        return nacked;
+    }
+}
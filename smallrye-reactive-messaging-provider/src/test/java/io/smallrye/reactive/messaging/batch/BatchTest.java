@@ -0,0 +1,61 @@
+package io.smallrye.reactive.messaging.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+
+class BatchTest extends WeldTestBaseWithoutTails {
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/batch.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @Test
+    void testPayloadBatches() {
+        addBeanClass(BatchConsumerBean.class);
+        initialize();
+
+        BatchConsumerBean bean = get(BatchConsumerBean.class);
+        await().until(() -> bean.batches().stream().mapToInt(l -> l.size()).sum() == BatchConsumerBean.COUNT);
+        assertThat(bean.batches()).hasSize(3);
+        assertThat(bean.batches().get(0)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(bean.batches().get(2)).hasSize(5);
+        // Acknowledging the batch acknowledges every message
+        await().until(() -> bean.acked() == BatchConsumerBean.COUNT);
+    }
+
+    @Test
+    void testMessageBatches() {
+        addBeanClass(BatchMessageConsumerBean.class);
+        initialize();
+
+        BatchMessageConsumerBean bean = get(BatchMessageConsumerBean.class);
+        await().until(() -> bean.batches().size() == 2);
+        assertThat(bean.batches()).containsExactly(Arrays.asList("a", "b", "c", "d"), Arrays.asList("e", "f", "g", "h"));
+        await().until(() -> bean.acked().size() == 4 && bean.nacked().size() == 4);
+        assertThat(bean.acked()).containsExactly("a", "b", "c", "d");
+        assertThat(bean.nacked()).containsExactly("e", "f", "g", "h");
+    }
+
+    @Test
+    void testBatchedChannelRequiresAList() {
+        addBeanClass(InvalidBatchConsumerBean.class);
+        assertThatThrownBy(this::initialize).isInstanceOf(DeploymentException.class);
+    }
+}
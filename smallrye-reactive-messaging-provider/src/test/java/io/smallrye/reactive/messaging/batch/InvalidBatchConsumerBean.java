@@ -0,0 +1,22 @@
+package io.smallrye.reactive.messaging.batch;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.mutiny.Multi;
+
+@ApplicationScoped
+public class InvalidBatchConsumerBean {
+
+    @Outgoing("invalid")
+    public Multi<Integer> produce() {
+        return Multi.createFrom().range(0, 10);
+    }
+
+    @Incoming("invalid")
+    public void consume(Integer value) {
+        // Never called
+    }
+}
@@ -0,0 +1,56 @@
+package io.smallrye.reactive.messaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.blocking.beans.IncomingBoundedUnorderedBlockingBean;
+import io.smallrye.reactive.messaging.connectors.WorkerPool;
+import io.smallrye.reactive.messaging.connectors.WorkerPoolRegistry;
+
+class BoundedWorkerPoolTest extends WeldTestBaseWithoutTails {
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/bounded-worker-config.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @Test
+    void testQueueBoundPropagatesAsBackpressure() {
+        addBeanClass(IncomingBoundedUnorderedBlockingBean.class);
+        initialize();
+
+        IncomingBoundedUnorderedBlockingBean bean = get(IncomingBoundedUnorderedBlockingBean.class);
+        await().until(() -> bean.received().size() == IncomingBoundedUnorderedBlockingBean.COUNT);
+
+        assertThat(bean.maxConcurrent()).isLessThanOrEqualTo(2);
+        // 2 running tasks and 3 queued tasks
+        assertThat(bean.maxOutstanding()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void testWorkerPoolStatistics() {
+        addBeanClass(IncomingBoundedUnorderedBlockingBean.class);
+        initialize();
+
+        IncomingBoundedUnorderedBlockingBean bean = get(IncomingBoundedUnorderedBlockingBean.class);
+        await().until(() -> bean.received().size() == IncomingBoundedUnorderedBlockingBean.COUNT);
+
+        WorkerPool pool = get(WorkerPoolRegistry.class).getWorkerPools().get("bounded-pool");
+        assertThat(pool.getConcurrency()).isEqualTo(2);
+        assertThat(pool.getCapacity()).isEqualTo(5);
+        await().until(() -> pool.getActiveWorkers() == 0);
+        assertThat(pool.getQueueDepth()).isZero();
+        assertThat(pool.getExecutedTasks()).isEqualTo(IncomingBoundedUnorderedBlockingBean.COUNT);
+        assertThat(pool.getTotalWaitTime()).isPositive();
+    }
+}
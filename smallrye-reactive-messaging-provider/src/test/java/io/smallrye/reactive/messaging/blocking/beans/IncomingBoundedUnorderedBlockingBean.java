@@ -0,0 +1,55 @@
+package io.smallrye.reactive.messaging.blocking.beans;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+@ApplicationScoped
+public class IncomingBoundedUnorderedBlockingBean {
+
+    public static final int COUNT = 50;
+
+    private final List<Integer> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger emitted = new AtomicInteger();
+    private final AtomicInteger maxOutstanding = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @Outgoing("in")
+    public Multi<Integer> produce() {
+        return Multi.createFrom().range(0, COUNT)
+                .invoke(i -> {
+                    int outstanding = emitted.incrementAndGet() - received.size();
+                    maxOutstanding.accumulateAndGet(outstanding, Math::max);
+                });
+    }
+
+    @Incoming("in")
+    @Blocking(value = "bounded-pool", ordered = false)
+    public void consume(Integer value) throws InterruptedException {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        Thread.sleep(10);
+        concurrent.decrementAndGet();
+        received.add(value);
+    }
+
+    public List<Integer> received() {
+        return received;
+    }
+
+    public int maxOutstanding() {
+        return maxOutstanding.get();
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent.get();
+    }
+}
@@ -0,0 +1,55 @@
+package io.smallrye.reactive.messaging.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+
+public class RingBufferBroadcastTest extends WeldTestBaseWithoutTails {
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/ring-buffer-broadcast.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @Test
+    public void testBroadcast() {
+        addBeanClass(BeanUsingBroadcast.class);
+        initialize();
+
+        BeanUsingBroadcast bean = get(BeanUsingBroadcast.class);
+
+        await().until(() -> bean.l1().size() == 4);
+        await().until(() -> bean.l2().size() == 4);
+
+        assertThat(bean.l1()).containsExactly("A", "B", "C", "D").containsExactlyElementsOf(bean.l2());
+    }
+
+    @Test
+    public void testBroadcastOfEmitter() {
+        addBeanClass(BeanEmitterBroadcast.class, BeanEmitterConsumer.class);
+        initialize();
+
+        BeanEmitterBroadcast broadcastAndConsumer = get(BeanEmitterBroadcast.class);
+        BeanEmitterConsumer consumer = get(BeanEmitterConsumer.class);
+
+        broadcastAndConsumer.send("a");
+        broadcastAndConsumer.send("b");
+        broadcastAndConsumer.send("c");
+        broadcastAndConsumer.send("d");
+
+        await().until(() -> broadcastAndConsumer.list().size() == 4);
+        await().until(() -> consumer.list().size() == 4);
+
+        assertThat(broadcastAndConsumer.list()).containsExactly("a", "b", "c", "d").containsExactlyElementsOf(consumer.list());
+    }
+}
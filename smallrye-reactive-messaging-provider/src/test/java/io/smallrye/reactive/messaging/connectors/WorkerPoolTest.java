@@ -0,0 +1,113 @@
+package io.smallrye.reactive.messaging.connectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.core.Vertx;
+
+class WorkerPoolTest {
+
+    private Vertx vertx;
+    private WorkerPool pool;
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final AtomicInteger invoked = new AtomicInteger();
+
+    @BeforeEach
+    void init() {
+        vertx = Vertx.vertx();
+        // 1 worker and 1 waiting task
+        pool = new WorkerPool("test-pool", 1, 1);
+    }
+
+    @AfterEach
+    void cleanup() {
+        latch.countDown();
+        pool.close();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testTasksWaitWhenThePoolIsSaturated() {
+        UniAssertSubscriber<Integer> first = submit();
+        await().until(() -> pool.getActiveWorkers() == 1);
+        UniAssertSubscriber<Integer> second = submit();
+        assertThat(pool.getQueueDepth()).isEqualTo(1);
+
+        // Exceeds the capacity, waits for a slot instead of failing
+        UniAssertSubscriber<Integer> third = submit();
+        assertThat(pool.getQueueDepth()).isEqualTo(2);
+        third.assertNotTerminated();
+
+        latch.countDown();
+        first.await().assertCompleted();
+        second.await().assertCompleted();
+        third.await().assertCompleted();
+        assertThat(invoked).hasValue(3);
+        assertThat(pool.getExecutedTasks()).isEqualTo(3);
+        assertThat(pool.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void testCancelledWaitingTaskIsNotExecuted() {
+        UniAssertSubscriber<Integer> first = submit();
+        await().until(() -> pool.getActiveWorkers() == 1);
+        UniAssertSubscriber<Integer> second = submit();
+        UniAssertSubscriber<Integer> third = submit();
+        assertThat(pool.getQueueDepth()).isEqualTo(2);
+
+        third.cancel();
+        assertThat(pool.getQueueDepth()).isEqualTo(1);
+
+        latch.countDown();
+        first.await().assertCompleted();
+        second.await().assertCompleted();
+        await().until(() -> pool.getActiveWorkers() == 0);
+        assertThat(invoked).hasValue(2);
+        assertThat(pool.getExecutedTasks()).isEqualTo(2);
+        assertThat(pool.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void testCancelledTaskReleasesItsSlot() {
+        UniAssertSubscriber<Integer> first = submit();
+        await().until(() -> pool.getActiveWorkers() == 1);
+        UniAssertSubscriber<Integer> second = submit();
+        assertThat(pool.getQueueDepth()).isEqualTo(1);
+
+        second.cancel();
+        assertThat(pool.getQueueDepth()).isZero();
+
+        // The slot of the cancelled task is given back when the worker skips it
+        UniAssertSubscriber<Integer> third = submit();
+        assertThat(pool.getQueueDepth()).isEqualTo(1);
+
+        latch.countDown();
+        first.await().assertCompleted();
+        third.await().assertCompleted();
+        // The cancelled task has been skipped
+        assertThat(invoked).hasValue(2);
+        assertThat(pool.getExecutedTasks()).isEqualTo(2);
+        assertThat(pool.getQueueDepth()).isZero();
+    }
+
+    private UniAssertSubscriber<Integer> submit() {
+        Uni<Integer> task = Uni.createFrom().item(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return invoked.incrementAndGet();
+        });
+        return pool.executeBlocking(vertx, task, false).subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+}
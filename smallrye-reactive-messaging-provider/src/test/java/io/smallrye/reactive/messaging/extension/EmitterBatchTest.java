@@ -0,0 +1,206 @@
+package io.smallrye.reactive.messaging.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+
+class EmitterBatchTest {
+
+    private static EmitterConfiguration configuration(OnOverflow.Strategy strategy, long bufferSize) {
+        EmitterConfiguration configuration = new EmitterConfiguration();
+        configuration.name = "batch";
+        configuration.overflowBufferStrategy = strategy;
+        configuration.overflowBufferSize = bufferSize;
+        configuration.numberOfSubscriberBeforeConnecting = -1;
+        return configuration;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testSendAll(boolean lockFree) {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(null, -1), 128, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(10);
+        emitter.getPublisher().subscribe(subscriber);
+
+        CompletableFuture<Void> future = emitter.sendAll(Arrays.asList("a", "b", "c")).toCompletableFuture();
+        assertThat(payloads(subscriber)).containsExactly("a", "b", "c");
+
+        subscriber.getItems().get(0).ack();
+        subscriber.getItems().get(1).ack();
+        assertThat(future).isNotDone();
+        subscriber.getItems().get(2).ack();
+        assertThat(future).isCompleted();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testSendAllCompletesExceptionallyOnNack(boolean lockFree) {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(null, -1), 128, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(10);
+        emitter.getPublisher().subscribe(subscriber);
+
+        CompletableFuture<Void> future = emitter.sendAll(Arrays.asList("a", "b")).toCompletableFuture();
+        subscriber.getItems().get(0).ack();
+        subscriber.getItems().get(1).nack(new IllegalArgumentException("boom"));
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testSendAllEmptyBatch(boolean lockFree) {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(null, -1), 128, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(10);
+        emitter.getPublisher().subscribe(subscriber);
+
+        assertThat(emitter.sendAll(Collections.emptyList()).toCompletableFuture()).isCompleted();
+        assertThat(subscriber.getItems()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testSendMessagesInvokesOriginalAcknowledgement(boolean lockFree) {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(null, -1), 128, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(10);
+        emitter.getPublisher().subscribe(subscriber);
+
+        AtomicInteger acked = new AtomicInteger();
+        List<Message<String>> messages = Arrays.asList(
+                Message.of("a", () -> ack(acked)),
+                Message.of("b", () -> ack(acked)));
+        CompletableFuture<Void> future = emitter.sendMessages(messages).toCompletableFuture();
+
+        subscriber.getItems().forEach(Message::ack);
+        assertThat(acked).hasValue(2);
+        assertThat(future).isCompleted();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testBatchIsRejectedAsAWholeOnOverflow(boolean lockFree) {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.BUFFER, 2), 128, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(0);
+        emitter.getPublisher().subscribe(subscriber);
+
+        assertThatThrownBy(() -> emitter.sendAll(Arrays.asList("a", "b", "c")))
+                .isInstanceOf(IllegalStateException.class);
+        emitter.sendAll(Arrays.asList("a", "b"));
+
+        subscriber.request(10);
+        assertThat(payloads(subscriber)).containsExactly("a", "b");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testBatchOverflowingTheDefaultBufferFailsTheEmitter(boolean lockFree) {
+        // The default buffer checks the overflow for each message, and not for the whole batch
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(null, -1), 4, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(0);
+        emitter.getPublisher().subscribe(subscriber);
+
+        emitter.sendAll(Arrays.asList("a", "b"));
+        assertThatThrownBy(() -> emitter.sendAll(Arrays.asList("c", "d")))
+                .isInstanceOf(IllegalStateException.class);
+        // The overflow fails the stream, unlike the strategies checking the overflow for the whole batch
+        subscriber.assertFailedWith(BackPressureFailure.class, "overflow buffer is full");
+        assertThat(subscriber.getItems()).isEmpty();
+        assertThatThrownBy(() -> emitter.sendAll(Collections.singletonList("e")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testMutinySendAll(boolean lockFree) {
+        MutinyEmitterImpl<String> emitter = new MutinyEmitterImpl<>(configuration(null, -1), 128, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(10);
+        emitter.getPublisher().subscribe(subscriber);
+
+        UniAssertSubscriber<Void> result = emitter.sendAll(Arrays.asList("a", "b"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        assertThat(payloads(subscriber)).containsExactly("a", "b");
+        result.assertNotTerminated();
+
+        subscriber.getItems().forEach(Message::ack);
+        result.assertCompleted();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void testMutinySendMessagesFailsOnNack(boolean lockFree) {
+        MutinyEmitterImpl<String> emitter = new MutinyEmitterImpl<>(configuration(null, -1), 128, lockFree);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(10);
+        emitter.getPublisher().subscribe(subscriber);
+
+        UniAssertSubscriber<Void> result = emitter.sendMessages(Arrays.asList(Message.of("a"), Message.of("b")))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.getItems().get(1).nack(new IllegalArgumentException("boom"));
+        result.assertFailedWith(IllegalArgumentException.class, "boom");
+    }
+
+    @Test
+    void testDefaultSendMessagesFailsOnFirstNack() {
+        List<Message<?>> sent = new ArrayList<>();
+        Emitter<String> emitter = new Emitter<String>() {
+            @Override
+            public CompletionStage<Void> send(String msg) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <M extends Message<? extends String>> void send(M msg) {
+                sent.add(msg);
+            }
+
+            @Override
+            public void complete() {
+            }
+
+            @Override
+            public void error(Exception e) {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public boolean hasRequests() {
+                return true;
+            }
+        };
+
+        CompletableFuture<Void> future = emitter.sendMessages(Arrays.asList(Message.of("a"), Message.of("b")))
+                .toCompletableFuture();
+        sent.get(0).nack(new IllegalArgumentException("boom"));
+        // Does not wait for the other message
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    private static List<String> payloads(AssertSubscriber<Message<? extends String>> subscriber) {
+        return subscriber.getItems().stream().map(Message::getPayload).collect(Collectors.toList());
+    }
+
+    private static CompletionStage<Void> ack(AtomicInteger counter) {
+        counter.incrementAndGet();
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,168 @@
+package io.smallrye.reactive.messaging.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+
+class LockFreeEmitterTest {
+
+    private static EmitterConfiguration configuration(OnOverflow.Strategy strategy, long bufferSize) {
+        EmitterConfiguration configuration = new EmitterConfiguration();
+        configuration.name = "lock-free";
+        configuration.overflowBufferStrategy = strategy;
+        configuration.overflowBufferSize = bufferSize;
+        configuration.numberOfSubscriberBeforeConnecting = -1;
+        return configuration;
+    }
+
+    private static <T> AssertSubscriber<T> subscribe(EmitterImpl<T> emitter, long requests) {
+        AssertSubscriber<T> payloads = AssertSubscriber.create(requests);
+        Multi.createFrom().publisher(emitter.getPublisher())
+                .map(Message::getPayload)
+                .subscribe().withSubscriber(payloads);
+        return payloads;
+    }
+
+    @Test
+    void testConcurrentSenders() throws InterruptedException {
+        EmitterImpl<Integer> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.UNBOUNDED_BUFFER, 0), 128,
+                true);
+        AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        Multi.createFrom().publisher(emitter.getPublisher())
+                .map(Message::getPayload)
+                .subscribe().withSubscriber(subscriber);
+
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    emitter.send(offset + i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        emitter.complete();
+
+        subscriber.awaitCompletion();
+        List<Integer> items = subscriber.getItems();
+        assertThat(items).hasSize(threads * perThread);
+        assertThat(items.stream().distinct().collect(Collectors.toList())).hasSize(threads * perThread);
+    }
+
+    @Test
+    void testBufferStrategyThrowsWhenFull() {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.BUFFER, 2), 128, true);
+        AssertSubscriber<String> subscriber = subscribe(emitter, 0);
+
+        emitter.send("a");
+        emitter.send("b");
+        assertThatThrownBy(() -> emitter.send("c")).isInstanceOf(IllegalStateException.class);
+
+        subscriber.request(2);
+        subscriber.assertItems("a", "b");
+        emitter.send("c");
+        subscriber.request(1);
+        subscriber.assertItems("a", "b", "c");
+    }
+
+    @Test
+    void testDropStrategy() {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.DROP, 0), 128, true);
+        AssertSubscriber<String> subscriber = subscribe(emitter, 1);
+
+        emitter.send("a");
+        emitter.send("b");
+        subscriber.request(1);
+        emitter.send("c");
+        subscriber.assertItems("a", "c");
+    }
+
+    @Test
+    void testLatestStrategy() {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.LATEST, 0), 128, true);
+        AssertSubscriber<String> subscriber = subscribe(emitter, 0);
+
+        emitter.send("a");
+        emitter.send("b");
+        emitter.send("c");
+        subscriber.request(5);
+        subscriber.assertItems("c");
+    }
+
+    @Test
+    void testFailStrategy() {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.FAIL, 0), 128, true);
+        AssertSubscriber<String> subscriber = subscribe(emitter, 1);
+
+        emitter.send("a");
+        emitter.send("b");
+        subscriber.assertItems("a");
+        subscriber.assertFailedWith(BackPressureFailure.class);
+    }
+
+    @Test
+    void testDefaultStrategy() {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(null, -1), 4, true);
+        AssertSubscriber<String> subscriber = subscribe(emitter, 0);
+
+        emitter.send("a");
+        emitter.send("b");
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 10; i++) {
+                emitter.send("x");
+            }
+        }).isInstanceOf(IllegalStateException.class);
+        subscriber.assertFailedWith(BackPressureFailure.class);
+    }
+
+    @Test
+    void testInvalidRequestIsSignalledByTheDrainLoop() {
+        EmitterImpl<Integer> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.UNBOUNDED_BUFFER, 0), 128,
+                true);
+        AssertSubscriber<Integer> subscriber = subscribe(emitter, 0);
+        emitter.send(1);
+
+        subscriber.request(-1);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "");
+        assertThat(subscriber.getItems()).isEmpty();
+        assertThat(emitter.isCancelled()).isTrue();
+    }
+
+    @Test
+    void testMutinyEmitterAcknowledgement() {
+        MutinyEmitterImpl<String> emitter = new MutinyEmitterImpl<>(configuration(null, -1), 128, true);
+        AssertSubscriber<Message<? extends String>> subscriber = AssertSubscriber.create(10);
+        emitter.getPublisher().subscribe(subscriber);
+
+        emitter.sendAndForget("a");
+        await().until(() -> subscriber.getItems().size() == 1);
+        assertThat(subscriber.getItems().get(0).getPayload()).isEqualTo("a");
+
+        emitter.complete();
+        subscriber.awaitCompletion();
+        assertThat(emitter.isCancelled()).isTrue();
+    }
+}
@@ -0,0 +1,206 @@
+package io.smallrye.reactive.messaging.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.Bean;
+
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import io.smallrye.reactive.messaging.annotations.Broadcast;
+import io.smallrye.reactive.messaging.annotations.Merge;
+
+public class PersistedMediatorMetadataTest {
+
+    @Test
+    public void testPersistedMetadataMatchesTheAnalysis() throws IOException {
+        Map<String, String> entries = MediatorMetadataGenerator.generate(Mediators.class);
+        assertThat(entries).hasSize(Mediators.class.getDeclaredMethods().length);
+
+        StringWriter writer = new StringWriter();
+        PersistedMediatorMetadata.write(entries, writer);
+        PersistedMediatorMetadata persisted = new PersistedMediatorMetadata(
+                PersistedMediatorMetadata.read(new StringReader(writer.toString())));
+        assertThat(persisted.entries()).isEqualTo(entries);
+
+        for (Method method : Mediators.class.getDeclaredMethods()) {
+            CollectedMediatorMetadata analyzed = new CollectedMediatorMetadata();
+            analyzed.add(method, bean());
+            CollectedMediatorMetadata loaded = new CollectedMediatorMetadata();
+            loaded.persisted(persisted);
+            loaded.add(method, bean());
+
+            MediatorConfiguration expected = analyzed.mediators().get(0);
+            MediatorConfiguration actual = loaded.mediators().get(0);
+            assertThat(actual.shape()).isEqualTo(expected.shape());
+            assertThat(actual.production()).isEqualTo(expected.production());
+            assertThat(actual.consumption()).isEqualTo(expected.consumption());
+            assertThat(actual.getAcknowledgment()).isEqualTo(expected.getAcknowledgment());
+            assertThat(actual.usesBuilderTypes()).isEqualTo(expected.usesBuilderTypes());
+            assertThat(actual.getIngestedPayloadType()).isEqualTo(expected.getIngestedPayloadType());
+            assertThat(actual.getIncoming()).isEqualTo(expected.getIncoming());
+            assertThat(actual.getOutgoing()).isEqualTo(expected.getOutgoing());
+            assertThat(actual.getMerge()).isEqualTo(expected.getMerge());
+            assertThat(actual.getBroadcast()).isEqualTo(expected.getBroadcast());
+            assertThat(actual.isBlocking()).isEqualTo(expected.isBlocking());
+        }
+    }
+
+    @Test
+    public void testStaleEntriesAreIgnored() throws NoSuchMethodException {
+        Method method = Mediators.class.getMethod("process", Message.class);
+        String key = PersistedMediatorMetadata.key(method);
+        assertThat(key).isEqualTo(Mediators.class.getName() + "#process(" + Message.class.getName()
+                + "<java.lang.String>)" + CompletionStage.class.getName() + "<" + Message.class.getName()
+                + "<java.lang.String>>");
+
+        // The method has @Incoming and @Outgoing, it cannot be a subscriber
+        PersistedMediatorMetadata persisted = new PersistedMediatorMetadata(
+                Collections.singletonMap(key, "SUBSCRIBER,NONE,MESSAGE,MANUAL,false,p.0"));
+        CollectedMediatorMetadata collected = new CollectedMediatorMetadata();
+        collected.persisted(persisted);
+        collected.add(method, bean());
+        assertThat(collected.mediators().get(0).production())
+                .isEqualTo(MediatorConfiguration.Production.COMPLETION_STAGE_OF_MESSAGE);
+
+        // Unparseable entry
+        persisted = new PersistedMediatorMetadata(Collections.singletonMap(key, "PROCESSOR,UNKNOWN"));
+        collected = new CollectedMediatorMetadata();
+        collected.persisted(persisted);
+        collected.add(method, bean());
+        assertThat(collected.mediators().get(0).production())
+                .isEqualTo(MediatorConfiguration.Production.COMPLETION_STAGE_OF_MESSAGE);
+    }
+
+    @Test
+    public void testKeysIncludeTheTypeArguments() throws IOException, NoSuchMethodException {
+        Method strings = Signatures.class.getMethod("strings", List.class);
+        Method wildcards = Signatures.class.getMethod("wildcards", Map.class);
+        Map<String, String> entries = new HashMap<>();
+        entries.put(PersistedMediatorMetadata.key(strings), "strings");
+        entries.put(PersistedMediatorMetadata.key(wildcards), "wildcards");
+        assertThat(PersistedMediatorMetadata.key(wildcards)).isEqualTo(Signatures.class.getName()
+                + "#wildcards(java.util.Map<java.lang.String, ? extends java.util.List<java.lang.Integer>>)"
+                + "java.util.List<? super java.lang.Integer>");
+
+        // The keys contain spaces, they must survive the round trip
+        StringWriter writer = new StringWriter();
+        PersistedMediatorMetadata.write(entries, writer);
+        assertThat(PersistedMediatorMetadata.read(new StringReader(writer.toString()))).isEqualTo(entries);
+
+        // An entry generated when the method used other type arguments does not match the method
+        Method process = Mediators.class.getMethod("process", Message.class);
+        String previous = PersistedMediatorMetadata.key(process).replace("<java.lang.String>", "<java.lang.Integer>");
+        PersistedMediatorMetadata persisted = new PersistedMediatorMetadata(
+                Collections.singletonMap(previous, "SUBSCRIBER,NONE,MESSAGE,MANUAL,false,p.0"));
+        CollectedMediatorMetadata collected = new CollectedMediatorMetadata();
+        collected.persisted(persisted);
+        collected.add(process, bean());
+        assertThat(collected.mediators().get(0).production())
+                .isEqualTo(MediatorConfiguration.Production.COMPLETION_STAGE_OF_MESSAGE);
+    }
+
+    @Test
+    public void testAnalyzedBean() {
+        Bean<?> bean = bean();
+        assertThat(bean.getBeanClass()).isEqualTo(Mediators.class);
+        assertThat(bean.getTypes()).contains(Mediators.class, Object.class);
+        assertThat(bean.getQualifiers()).contains(Default.Literal.INSTANCE, Any.Literal.INSTANCE);
+        assertThat(bean.getScope()).isEqualTo(Dependent.class);
+        assertThat(bean.getInjectionPoints()).isEmpty();
+        assertThat(bean.toString()).contains(Mediators.class.getName());
+    }
+
+    @Test
+    public void testGenerationFromClassesDirectory(@TempDir Path output) throws IOException {
+        Path classes = Paths.get("target/test-classes");
+        MediatorMetadataGenerator.main(new String[] { classes.toString(), output.toString() });
+
+        PersistedMediatorMetadata persisted = PersistedMediatorMetadata
+                .load(new URLClassLoader(new URL[] { output.toUri().toURL() }, null));
+        assertThat(persisted.entries()).containsAllEntriesOf(MediatorMetadataGenerator.generate(Mediators.class));
+    }
+
+    private static Bean<?> bean() {
+        return new MediatorMetadataGenerator.AnalyzedBean<>(Mediators.class);
+    }
+
+    public static class Signatures {
+
+        public void strings(List<String> list) {
+            // Do nothing
+        }
+
+        public List<? super Integer> wildcards(Map<String, ? extends List<Integer>> map) {
+            return null;
+        }
+    }
+
+    public static class Mediators {
+
+        @Outgoing("a")
+        public Multi<String> produce() {
+            return Multi.createFrom().items("a", "b");
+        }
+
+        @Incoming("a")
+        @Outgoing("b")
+        @Broadcast(2)
+        public String upper(String s) {
+            return s.toUpperCase();
+        }
+
+        @Incoming("b")
+        @Outgoing("c")
+        public CompletionStage<Message<String>> process(Message<String> message) {
+            return null;
+        }
+
+        @Incoming("c")
+        @Outgoing("d")
+        public Publisher<Message<Integer>> transform(Publisher<Message<String>> messages) {
+            return null;
+        }
+
+        @Incoming("d")
+        @Outgoing("e")
+        public PublisherBuilder<Integer> flatten(Integer i) {
+            return null;
+        }
+
+        @Incoming("e")
+        @Incoming("f")
+        @Merge
+        @Acknowledgment(Acknowledgment.Strategy.PRE_PROCESSING)
+        @Blocking
+        public void consume(List<Integer> list) {
+            // Do nothing
+        }
+    }
+}
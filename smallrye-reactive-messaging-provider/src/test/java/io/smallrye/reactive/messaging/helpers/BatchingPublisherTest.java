@@ -0,0 +1,176 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+
+class BatchingPublisherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testBatchesAreClosedBySize() {
+        AssertSubscriber<List<Integer>> subscriber = BatchingPublisher
+                .create(Multi.createFrom().range(0, 10), 4, Duration.ofSeconds(10), scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // The last batch is emitted on completion
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactly(
+                Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7), Arrays.asList(8, 9));
+    }
+
+    @Test
+    void testBatchesAreClosedByTime() {
+        UnicastProcessor<Integer> upstream = UnicastProcessor.create();
+        AssertSubscriber<List<Integer>> subscriber = BatchingPublisher
+                .create(upstream, 100, Duration.ofMillis(50), scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        upstream.onNext(1);
+        upstream.onNext(2);
+        subscriber.awaitItems(1);
+        assertThat(subscriber.getItems()).containsExactly(Arrays.asList(1, 2));
+
+        upstream.onNext(3);
+        subscriber.awaitItems(2);
+        assertThat(subscriber.getItems().get(1)).containsExactly(3);
+
+        upstream.onComplete();
+        subscriber.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(subscriber.getItems()).hasSize(2);
+    }
+
+    @Test
+    void testUpstreamIsRequestedOneBatchAtATime() {
+        AtomicLong requested = new AtomicLong();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 100).onRequest().invoke(requested::addAndGet);
+        AssertSubscriber<List<Integer>> subscriber = BatchingPublisher
+                .create(upstream, 10, Duration.ofSeconds(10), scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        assertThat(requested).hasValue(0);
+        subscriber.request(2);
+        assertThat(subscriber.getItems()).hasSize(2);
+        assertThat(requested).hasValue(20);
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(10);
+    }
+
+    @Test
+    void testExpiredBatchWaitsForTheDemand() throws InterruptedException {
+        UnicastProcessor<Integer> upstream = UnicastProcessor.create();
+        AssertSubscriber<List<Integer>> subscriber = BatchingPublisher
+                .create(upstream, 10, Duration.ofMillis(10), scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        upstream.onNext(1);
+        subscriber.awaitItems(1);
+
+        // No failure when the batch expires without demand, it is emitted on the next request
+        upstream.onNext(2);
+        Thread.sleep(50);
+        subscriber.assertNotTerminated();
+        assertThat(subscriber.getItems()).hasSize(1);
+        subscriber.request(1);
+        assertThat(subscriber.getItems()).containsExactly(Arrays.asList(1), Arrays.asList(2));
+    }
+
+    @Test
+    void testLargeSynchronousUpstream() {
+        // The batches are emitted without a recursion per batch
+        List<List<Integer>> batches = BatchingPublisher
+                .create(Multi.createFrom().range(0, 1_000_000), 1, Duration.ofSeconds(10), scheduler)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertThat(batches).hasSize(1_000_000);
+    }
+
+    @Test
+    void testSignalsAreSentOutsideOfTheLock() {
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        List<Boolean> locked = new CopyOnWriteArrayList<>();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 10)
+                .onRequest().invoke(n -> locked.add(Thread.holdsLock(subscription.get())));
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        BatchingPublisher.create(upstream, 3, Duration.ofSeconds(10), scheduler)
+                .subscribe().withSubscriber(new Subscriber<List<Integer>>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription.set(s);
+                        s.request(1);
+                    }
+
+                    @Override
+                    public void onNext(List<Integer> batch) {
+                        locked.add(Thread.holdsLock(subscription.get()));
+                        batches.add(batch);
+                        subscription.get().request(1);
+                    }
+
+                    @Override
+                    public void onError(Throwable failure) {
+                        locked.add(Thread.holdsLock(subscription.get()));
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        locked.add(Thread.holdsLock(subscription.get()));
+                        completed.set(true);
+                    }
+                });
+
+        assertThat(completed).isTrue();
+        assertThat(batches).containsExactly(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Arrays.asList(6, 7, 8),
+                Arrays.asList(9));
+        assertThat(locked).isNotEmpty().containsOnly(false);
+    }
+
+    @Test
+    void testInvalidRequest() {
+        AssertSubscriber<List<Integer>> subscriber = BatchingPublisher
+                .create(Multi.createFrom().range(0, 10), 4, Duration.ofSeconds(10), scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.request(-1);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "");
+        assertThat(subscriber.getItems()).isEmpty();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Multi<Integer> upstream = Multi.createFrom().empty();
+        assertThatThrownBy(() -> BatchingPublisher.create(upstream, 0, Duration.ofSeconds(1), scheduler))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchingPublisher.create(upstream, 1, Duration.ZERO, scheduler))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+class RateLimitedPublisherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testRateIsEnforced() {
+        TokenBucket bucket = new TokenBucket(100, 10);
+        long start = System.nanoTime();
+        AssertSubscriber<Integer> subscriber = RateLimitedPublisher
+                .create(Multi.createFrom().range(0, 40), bucket, scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // The burst is emitted immediately
+        assertThat(subscriber.getItems()).hasSizeGreaterThanOrEqualTo(10);
+        subscriber.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(subscriber.getItems()).hasSize(40);
+        // 30 items after the burst, at 100 items per second
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void testDemandIsShapedInsteadOfBuffered() {
+        TokenBucket bucket = new TokenBucket(1000, 5);
+        AtomicLong requested = new AtomicLong();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 100).onRequest().invoke(requested::addAndGet);
+        AssertSubscriber<Integer> subscriber = RateLimitedPublisher.create(upstream, bucket, scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(3));
+
+        subscriber.assertItems(0, 1, 2);
+        assertThat(requested).hasValue(3);
+
+        subscriber.request(20);
+        subscriber.awaitItems(23);
+        assertThat(requested).hasValue(23);
+    }
+
+    @Test
+    void testOutstandingRequestsAreBoundedByTheBurst() {
+        TokenBucket bucket = new TokenBucket(1000, 4);
+        AtomicLong requested = new AtomicLong();
+        // The upstream does not emit, the permits are not all requested at once
+        Multi<Integer> upstream = Multi.createFrom().<Integer> nothing().onRequest().invoke(requested::addAndGet);
+        AssertSubscriber<Integer> subscriber = RateLimitedPublisher.create(upstream, bucket, scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertSubscribed();
+        assertThat(requested).hasValue(4);
+    }
+
+    @Test
+    void testCancellation() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        AtomicLong requested = new AtomicLong();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 100).onRequest().invoke(requested::addAndGet);
+        AssertSubscriber<Integer> subscriber = RateLimitedPublisher.create(upstream, bucket, scheduler)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertItems(0);
+        subscriber.cancel();
+        assertThat(requested).hasValue(1);
+    }
+}
@@ -0,0 +1,194 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.reactive.messaging.helpers.RingBufferBroadcaster.SlowSubscriberPolicy;
+
+class RingBufferBroadcasterTest {
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void testBroadcastToAllSubscribers() {
+        Multi<Integer> multi = RingBufferBroadcaster.create(Multi.createFrom().range(0, 100), 2, 16,
+                SlowSubscriberPolicy.BLOCK, Runnable::run);
+        AssertSubscriber<Integer> s1 = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        s1.assertHasNotReceivedAnyItem();
+        AssertSubscriber<Integer> s2 = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        s1.assertCompleted().assertItems(range(0, 100).toArray(new Integer[0]));
+        s2.assertCompleted().assertItems(range(0, 100).toArray(new Integer[0]));
+    }
+
+    @Test
+    void testFailureIsPropagatedAfterTheItems() {
+        Multi<Integer> upstream = Multi.createBy().concatenating().streams(Multi.createFrom().items(1, 2),
+                Multi.createFrom().failure(new IllegalStateException("boom")));
+        Multi<Integer> multi = RingBufferBroadcaster.create(upstream, 0, 4, SlowSubscriberPolicy.BLOCK, Runnable::run);
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertItems(1, 2).assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    void testBlockPolicyWaitsForTheSlowestSubscriber() {
+        AtomicLong requested = new AtomicLong();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 100).onRequest().invoke(requested::addAndGet);
+        Multi<Integer> multi = RingBufferBroadcaster.create(upstream, 2, 8, SlowSubscriberPolicy.BLOCK, Runnable::run);
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        slow.assertItems(0, 1);
+        assertThat(fast.getItems()).containsExactlyElementsOf(range(0, 10));
+        assertThat(requested).hasValue(10);
+
+        slow.request(100);
+        slow.assertCompleted();
+        fast.assertCompleted();
+        assertThat(slow.getItems()).containsExactlyElementsOf(range(0, 100));
+    }
+
+    @Test
+    void testDropPolicySkipsOverwrittenItems() {
+        Multi<Integer> multi = RingBufferBroadcaster.create(Multi.createFrom().range(0, 100), 2, 8,
+                SlowSubscriberPolicy.DROP, Runnable::run);
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        fast.assertCompleted();
+        assertThat(fast.getItems()).containsExactlyElementsOf(range(0, 100));
+
+        slow.request(100);
+        slow.assertCompleted();
+        assertThat(slow.getItems()).startsWith(0, 1).endsWith(range(92, 100).toArray(new Integer[0])).hasSize(10);
+    }
+
+    @Test
+    void testDetachPolicyFailsTheSlowSubscriber() {
+        Multi<Integer> multi = RingBufferBroadcaster.create(Multi.createFrom().range(0, 100), 2, 8,
+                SlowSubscriberPolicy.DETACH, Runnable::run);
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        fast.assertCompleted();
+        assertThat(fast.getItems()).containsExactlyElementsOf(range(0, 100));
+        slow.assertItems(0, 1).assertFailedWith(BackPressureFailure.class);
+    }
+
+    @Test
+    void testSlotsAreClearedOnceReadByAllSubscribers() {
+        RingBufferBroadcaster<Integer> broadcaster = new RingBufferBroadcaster<>(
+                Multi.createBy().concatenating().streams(Multi.createFrom().range(0, 5), Multi.createFrom().nothing()),
+                2, 8, SlowSubscriberPolicy.BLOCK, Runnable::run);
+        Multi<Integer> multi = Multi.createFrom().publisher(broadcaster);
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        assertThat(fast.getItems()).containsExactlyElementsOf(range(0, 5));
+        slow.assertItems(0, 1);
+        assertThat(broadcaster.retained()).isEqualTo(3);
+
+        // The upstream is idle, the items must not be retained once consumed
+        slow.request(10);
+        assertThat(slow.getItems()).containsExactlyElementsOf(range(0, 5));
+        assertThat(broadcaster.retained()).isZero();
+
+        slow.cancel();
+        fast.cancel();
+    }
+
+    @Test
+    void testConcurrentSubscribers() {
+        int count = 10_000;
+        int subscribers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(subscribers);
+        try {
+            Multi<Integer> multi = RingBufferBroadcaster.create(Multi.createFrom().range(0, count), subscribers, 64,
+                    SlowSubscriberPolicy.BLOCK);
+            List<AssertSubscriber<Integer>> list = IntStream.range(0, subscribers)
+                    .mapToObj(i -> multi.emitOn(executor).subscribe().withSubscriber(AssertSubscriber.<Integer> create(
+                            Long.MAX_VALUE)))
+                    .collect(Collectors.toList());
+            for (AssertSubscriber<Integer> subscriber : list) {
+                subscriber.awaitCompletion();
+                assertThat(subscriber.getItems()).containsExactlyElementsOf(range(0, count));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testItemsAreDeliveredByTheExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2, r -> new Thread(r, "fan-out"));
+        try {
+            UnicastProcessor<Integer> upstream = UnicastProcessor.create();
+            Multi<Integer> multi = RingBufferBroadcaster.create(upstream, 2, 8, SlowSubscriberPolicy.BLOCK, executor);
+            List<String> threads = new CopyOnWriteArrayList<>();
+            List<AssertSubscriber<Integer>> list = IntStream.range(0, 2)
+                    .mapToObj(i -> multi.onItem().invoke(x -> threads.add(Thread.currentThread().getName()))
+                            .subscribe().withSubscriber(AssertSubscriber.<Integer> create(Long.MAX_VALUE)))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < 100; i++) {
+                upstream.onNext(i);
+            }
+            upstream.onComplete();
+            for (AssertSubscriber<Integer> subscriber : list) {
+                subscriber.awaitCompletion(Duration.ofSeconds(10));
+                assertThat(subscriber.getItems()).containsExactlyElementsOf(range(0, 100));
+            }
+            // The upstream thread does not deliver the items
+            assertThat(threads).hasSize(200).containsOnly("fan-out");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLateSubscribersStartFromThePublishedPosition() {
+        int count = 10_000;
+        ExecutorService producer = Executors.newSingleThreadExecutor();
+        try {
+            Multi<Integer> multi = RingBufferBroadcaster.create(
+                    Multi.createFrom().range(0, count).emitOn(producer), 1, 16, SlowSubscriberPolicy.BLOCK);
+            AssertSubscriber<Integer> first = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+            // The late subscribers register while the other subscribers consume and the ring is cleared
+            List<AssertSubscriber<Integer>> late = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                late.add(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+            }
+
+            first.awaitCompletion(Duration.ofSeconds(30));
+            assertThat(first.getItems()).containsExactlyElementsOf(range(0, count));
+            for (AssertSubscriber<Integer> subscriber : late) {
+                subscriber.awaitCompletion(Duration.ofSeconds(30));
+                List<Integer> items = subscriber.getItems();
+                if (!items.isEmpty()) {
+                    assertThat(items).containsExactlyElementsOf(range(items.get(0), count));
+                }
+            }
+        } finally {
+            producer.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void testBucketStartsFull() {
+        TokenBucket bucket = new TokenBucket(10, 5, clock::get);
+        assertThat(bucket.getAvailablePermits()).isEqualTo(5);
+        assertThat(bucket.tryAcquire(8)).isEqualTo(5);
+        assertThat(bucket.tryAcquire(1)).isZero();
+    }
+
+    @Test
+    void testRefillIsCappedByTheBurst() {
+        TokenBucket bucket = new TokenBucket(10, 5, clock::get);
+        assertThat(bucket.tryAcquire(5)).isEqualTo(5);
+
+        advance(250);
+        assertThat(bucket.getAvailablePermits()).isEqualTo(2);
+        assertThat(bucket.tryAcquire(10)).isEqualTo(2);
+
+        advance(10_000);
+        assertThat(bucket.getAvailablePermits()).isEqualTo(5);
+    }
+
+    @Test
+    void testDelayUntilNextPermit() {
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        assertThat(bucket.nanosUntilNextPermit()).isZero();
+        assertThat(bucket.tryAcquire(1)).isEqualTo(1);
+        assertThat(bucket.nanosUntilNextPermit()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        advance(60);
+        assertThat(bucket.nanosUntilNextPermit()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+        advance(40);
+        assertThat(bucket.nanosUntilNextPermit()).isZero();
+    }
+
+    @Test
+    void testPermitRateOfTheLastSecond() {
+        TokenBucket bucket = new TokenBucket(100, 100, clock::get);
+        assertThat(bucket.getPermitRate()).isZero();
+
+        assertThat(bucket.tryAcquire(30)).isEqualTo(30);
+        advance(500);
+        assertThat(bucket.tryAcquire(20)).isEqualTo(20);
+        assertThat(bucket.getPermitRate()).isZero();
+
+        advance(600);
+        assertThat(bucket.getPermitRate()).isEqualTo(50);
+        assertThat(bucket.tryAcquire(10)).isEqualTo(10);
+
+        advance(1000);
+        assertThat(bucket.getPermitRate()).isEqualTo(10);
+
+        // Idle for more than a second
+        advance(3000);
+        assertThat(bucket.getPermitRate()).isZero();
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package io.smallrye.reactive.messaging.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TypePairCacheTest {
+
+    @SuppressWarnings("unused")
+    public List<? extends Number> numbers;
+    @SuppressWarnings("unused")
+    public List<Integer> integers;
+    @SuppressWarnings("unused")
+    public List<String>[] arrayOfStrings;
+
+    @Test
+    void testResultsAreComputedOnce() {
+        TypePairCache<String> cache = new TypePairCache<>();
+        AtomicInteger computations = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.computeIfAbsent(String.class, Object.class, (t, to) -> {
+                computations.incrementAndGet();
+                return t.getTypeName() + "->" + to.getTypeName();
+            })).isEqualTo("java.lang.String->java.lang.Object");
+        }
+        assertThat(computations).hasValue(1);
+
+        // Null results are cached too
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.computeIfAbsent(Integer.class, Object.class, (t, to) -> {
+                computations.incrementAndGet();
+                return null;
+            })).isNull();
+        }
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    void testCachedAssignabilityOfGenericTypes() throws NoSuchFieldException {
+        Type numbers = getClass().getField("numbers").getGenericType();
+        Type integers = getClass().getField("integers").getGenericType();
+        Type arrayOfStrings = getClass().getField("arrayOfStrings").getGenericType();
+        for (int i = 0; i < 3; i++) {
+            assertThat(TypeUtils.isAssignable(integers, numbers)).isTrue();
+            assertThat(TypeUtils.isAssignable(numbers, integers)).isFalse();
+            assertThat(TypeUtils.isAssignable(arrayOfStrings, Object[].class)).isTrue();
+            assertThat(TypeUtils.isAssignable(arrayOfStrings, integers)).isFalse();
+            assertThat(TypeUtils.isAssignable(ArrayList.class, Collection.class)).isTrue();
+            assertThat(TypeUtils.isAssignable(null, Collection.class)).isTrue();
+        }
+    }
+
+    @Test
+    void testCachedTypeArgumentsAreUnmodifiable() {
+        Map<TypeVariable<?>, Type> arguments = TypeUtils.getTypeArguments(Integer.class, Comparable.class);
+        assertThat(arguments).containsEntry(Comparable.class.getTypeParameters()[0], Integer.class);
+        assertThat(TypeUtils.getTypeArguments(Integer.class, Comparable.class)).isSameAs(arguments);
+        assertThatThrownBy(arguments::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(TypeUtils.getTypeArguments(Integer.class, List.class)).isNull();
+    }
+}
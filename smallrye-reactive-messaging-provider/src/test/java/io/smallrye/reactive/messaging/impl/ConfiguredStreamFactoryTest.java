@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigValue;
@@ -130,6 +131,36 @@ public class ConfiguredStreamFactoryTest {
         assertThat(config2.getValue("b", String.class)).isEqualTo("B22");
     }
 
+    @Test
+    public void testPropertyNamesAreIteratedOnce() {
+        Map<String, Object> backend = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            backend.put("io.prefix.channel-" + i + ".connector", "my-connector");
+            backend.put("io.prefix.channel-" + i + ".k1", "v" + i);
+            backend.put("io.prefix.channel-" + i + ".k2", "v" + i);
+            backend.put("unrelated-" + i, "x");
+        }
+        backend.put("mp.messaging.connector.my-connector.k3", "v3");
+        AtomicInteger iterations = new AtomicInteger();
+        Config config = new DummyConfig(backend) {
+            @Override
+            public Iterable<String> getPropertyNames() {
+                iterations.incrementAndGet();
+                return super.getPropertyNames();
+            }
+        };
+
+        PropertyNamesIndex index = new PropertyNamesIndex(config);
+        Map<String, ConnectorConfig> map = ConfiguredChannelFactory.extractConfigurationFor("io.prefix.", config, index);
+        assertThat(map).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            ConnectorConfig c = map.get("channel-" + i);
+            assertThat(c.getPropertyNames()).containsExactlyInAnyOrder("connector", "k1", "k2", "k3", "channel-name");
+            assertThat(c.getValue("k1", String.class)).isEqualTo("v" + i);
+        }
+        assertThat(iterations).hasValue(1);
+    }
+
     private static class DummyConfig implements Config {
 
         private final Map<String, Object> backend;
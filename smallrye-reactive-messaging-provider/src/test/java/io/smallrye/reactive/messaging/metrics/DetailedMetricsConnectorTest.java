@@ -0,0 +1,122 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricFilter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorLiteral;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.metrics.MetricRegistries;
+import io.smallrye.metrics.setup.MetricCdiInjectionExtension;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+
+class DetailedMetricsConnectorTest extends WeldTestBaseWithoutTails {
+
+    private static final Tag TYPED = new Tag("channel", "typed");
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/detailed-metrics-connector.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @BeforeEach
+    void clearMetrics() {
+        MetricRegistries.get(MetricRegistry.Type.BASE).removeMatching(MetricFilter.ALL);
+    }
+
+    @Test
+    void testConnectorSpecificMessagesAreNotReplaced() {
+        addBeanClass(TypedMessageConnector.class, TypedConsumer.class);
+        addExtensionClass(MetricCdiInjectionExtension.class);
+        initialize();
+
+        MetricRegistry registry = container.select(MetricRegistry.class, MetricsTest.RegistryTypeLiteral.BASE).get();
+        TypedConsumer consumer = get(TypedConsumer.class);
+        TypedMessageConnector connector = container
+                .select(TypedMessageConnector.class, ConnectorLiteral.of("typed")).get();
+
+        await().until(() -> consumer.received().size() == 3);
+        assertThat(consumer.received()).containsExactly("typed-1", "typed-2", "typed-3");
+        assertThat(connector.acked()).isEqualTo(3);
+        assertThat(registry.counter("mp.messaging.message.count", new Tag("channel", "typed")).getCount())
+                .isEqualTo(3);
+        // Acknowledged by the application, the messages are no longer in flight, but their acknowledgement is unknown
+        await().until(() -> gauge(registry, ChannelMetrics.IN_FLIGHT) == 0);
+        assertThat(registry.counter(ChannelMetrics.ACKED, TYPED).getCount()).isZero();
+    }
+
+    @Test
+    void testAcknowledgementOfConnectorSpecificMessagesIsRecorded() {
+        addBeanClass(TypedMessageConnector.class, TypedPayloadConsumer.class);
+        addExtensionClass(MetricCdiInjectionExtension.class);
+        initialize();
+
+        MetricRegistry registry = container.select(MetricRegistry.class, MetricsTest.RegistryTypeLiteral.BASE).get();
+        TypedMessageConnector connector = container
+                .select(TypedMessageConnector.class, ConnectorLiteral.of("typed")).get();
+
+        // The messages are acknowledged by the mediator after the processing
+        await().until(() -> connector.acked() == 3);
+        assertThat(get(TypedPayloadConsumer.class).received()).containsExactly(1, 2, 3);
+        await().until(() -> registry.counter(ChannelMetrics.ACKED, TYPED).getCount() == 3);
+        assertThat(registry.counter(ChannelMetrics.NACKED, TYPED).getCount()).isZero();
+        assertThat(registry.timer(ChannelMetrics.LATENCY, TYPED).getCount()).isEqualTo(3);
+        assertThat(gauge(registry, ChannelMetrics.IN_FLIGHT)).isZero();
+    }
+
+    private static long gauge(MetricRegistry registry, String name) {
+        Gauge<?> gauge = registry.getGauge(new MetricID(name, TYPED));
+        return ((Number) gauge.getValue()).longValue();
+    }
+
+    @ApplicationScoped
+    public static class TypedPayloadConsumer {
+
+        private final List<Integer> received = new CopyOnWriteArrayList<>();
+
+        @Incoming("typed")
+        public void consume(int payload) {
+            received.add(payload);
+        }
+
+        public List<Integer> received() {
+            return received;
+        }
+    }
+
+    @ApplicationScoped
+    public static class TypedConsumer {
+
+        private final List<String> received = new CopyOnWriteArrayList<>();
+
+        @Incoming("typed")
+        public CompletionStage<Void> consume(TypedMessageConnector.TypedMessage message) {
+            received.add(message.describe());
+            return message.ack();
+        }
+
+        public List<String> received() {
+            return received;
+        }
+    }
+}
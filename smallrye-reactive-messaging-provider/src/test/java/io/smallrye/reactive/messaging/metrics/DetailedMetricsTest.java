@@ -0,0 +1,83 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricFilter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.metrics.MetricRegistries;
+import io.smallrye.metrics.setup.MetricCdiInjectionExtension;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+
+class DetailedMetricsTest extends WeldTestBaseWithoutTails {
+
+    private static final Tag[] NUMBERS = {
+            new Tag("channel", "numbers"),
+            new Tag("method", DetailedMetricsTestBean.class.getName() + "#numbers")
+    };
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/detailed-metrics.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @BeforeEach
+    void clearMetrics() {
+        MetricRegistries.get(MetricRegistry.Type.BASE).removeMatching(MetricFilter.ALL);
+    }
+
+    @Test
+    void testDetailedMetricsOfEnabledChannel() {
+        addBeanClass(DetailedMetricsTestBean.class);
+        addExtensionClass(MetricCdiInjectionExtension.class);
+        initialize();
+
+        MetricRegistry registry = container.select(MetricRegistry.class, MetricsTest.RegistryTypeLiteral.BASE).get();
+
+        // Messages are acknowledged or nacked by the final consumer, the processor propagates the acknowledgement
+        await().until(() -> registry.counter(ChannelMetrics.ACKED, NUMBERS).getCount()
+                + registry.counter(ChannelMetrics.NACKED, NUMBERS).getCount() == 5);
+        assertThat(registry.counter(ChannelMetrics.ACKED, NUMBERS).getCount()).isEqualTo(2);
+        assertThat(registry.counter(ChannelMetrics.NACKED, NUMBERS).getCount()).isEqualTo(3);
+        assertThat(registry.counter(ChannelMetrics.FAILURES, NUMBERS).getCount()).isZero();
+        assertThat(registry.timer(ChannelMetrics.LATENCY, NUMBERS).getCount()).isEqualTo(5);
+        assertThat(gauge(registry, ChannelMetrics.IN_FLIGHT, NUMBERS)).isZero();
+        assertThat(gauge(registry, ChannelMetrics.DEMAND, NUMBERS)).isNotNegative();
+        assertThat(registry.counter("mp.messaging.message.count", new Tag("channel", "numbers")).getCount())
+                .isEqualTo(5);
+    }
+
+    @Test
+    void testDetailedMetricsAreNotRecordedForOtherChannels() {
+        addBeanClass(DetailedMetricsTestBean.class);
+        addExtensionClass(MetricCdiInjectionExtension.class);
+        initialize();
+
+        MetricRegistry registry = container.select(MetricRegistry.class, MetricsTest.RegistryTypeLiteral.BASE).get();
+
+        await().until(() -> registry.counter("mp.messaging.message.count", new Tag("channel", "squares"))
+                .getCount() == 5);
+        assertThat(registry.getMetricIDs())
+                .filteredOn(id -> id.getTags().containsValue("squares"))
+                .extracting(MetricID::getName)
+                .containsExactly("mp.messaging.message.count");
+    }
+
+    private static long gauge(MetricRegistry registry, String name, Tag... tags) {
+        Gauge<?> gauge = registry.getGauge(new MetricID(name, tags));
+        return ((Number) gauge.getValue()).longValue();
+    }
+}
@@ -0,0 +1,35 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.mutiny.Multi;
+
+@ApplicationScoped
+public class DetailedMetricsTestBean {
+
+    @Outgoing("numbers")
+    public Multi<Integer> numbers() {
+        return Multi.createFrom().range(1, 6);
+    }
+
+    @Incoming("numbers")
+    @Outgoing("squares")
+    public Message<Integer> square(Message<Integer> message) {
+        return message.withPayload(message.getPayload() * message.getPayload());
+    }
+
+    @Incoming("squares")
+    public CompletionStage<Void> consume(Message<Integer> message) {
+        if (message.getPayload() % 2 == 0) {
+            return message.ack();
+        }
+        return message.nack(new IllegalArgumentException("odd"));
+    }
+
+}
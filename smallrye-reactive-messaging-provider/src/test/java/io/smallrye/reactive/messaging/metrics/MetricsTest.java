@@ -40,7 +40,7 @@ public class MetricsTest extends WeldTestBase {
     }
 
     @SuppressWarnings("serial")
-    private static class RegistryTypeLiteral extends AnnotationLiteral<RegistryType> implements RegistryType {
+    static class RegistryTypeLiteral extends AnnotationLiteral<RegistryType> implements RegistryType {
         public static final RegistryTypeLiteral BASE = new RegistryTypeLiteral(MetricRegistry.Type.BASE);
 
         private Type registryType;
@@ -0,0 +1,52 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.metrics.setup.MetricCdiInjectionExtension;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.impl.RateLimitDecorator;
+import io.smallrye.reactive.messaging.ratelimit.RateLimitedBean;
+
+class RateLimitMetricsTest extends WeldTestBaseWithoutTails {
+
+    private static final Tag CHANNEL = new Tag("channel", "limited");
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/rate-limit.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @Test
+    void testRateLimitGauges() {
+        addBeanClass(RateLimitedBean.class, RateLimitDecorator.class);
+        addExtensionClass(MetricCdiInjectionExtension.class);
+        initialize();
+
+        RateLimitedBean bean = get(RateLimitedBean.class);
+        await().until(() -> bean.receptions().size() == RateLimitedBean.COUNT);
+
+        MetricRegistry registry = container.select(MetricRegistry.class, MetricsTest.RegistryTypeLiteral.BASE).get();
+        Gauge<?> rate = registry.getGauge(new MetricID("mp.messaging.channel.permit-rate", CHANNEL));
+        Gauge<?> available = registry.getGauge(new MetricID("mp.messaging.channel.available-permits", CHANNEL));
+        assertThat(rate).isNotNull();
+        assertThat(available).isNotNull();
+        // The permits granted during the first second are reported once it completes
+        await().until(() -> ((Number) rate.getValue()).longValue() > 0);
+        // The bucket refills up to the burst
+        await().until(() -> ((Number) available.getValue()).longValue() == 5);
+    }
+}
@@ -0,0 +1,57 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+/**
+ * A connector producing messages of a connector-specific type.
+ */
+@ApplicationScoped
+@Connector("typed")
+public class TypedMessageConnector implements IncomingConnectorFactory {
+
+    private final AtomicInteger acked = new AtomicInteger();
+
+    @Override
+    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+        return ReactiveStreams.of(1, 2, 3).map(TypedMessage::new);
+    }
+
+    public int acked() {
+        return acked.get();
+    }
+
+    public class TypedMessage implements Message<Integer> {
+
+        private final int payload;
+
+        TypedMessage(int payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public Integer getPayload() {
+            return payload;
+        }
+
+        public String describe() {
+            return "typed-" + payload;
+        }
+
+        @Override
+        public CompletionStage<Void> ack() {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
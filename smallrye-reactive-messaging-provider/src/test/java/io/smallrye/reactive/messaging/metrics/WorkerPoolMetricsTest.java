@@ -0,0 +1,50 @@
+package io.smallrye.reactive.messaging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.metrics.setup.MetricCdiInjectionExtension;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.blocking.beans.IncomingBoundedUnorderedBlockingBean;
+
+class WorkerPoolMetricsTest extends WeldTestBaseWithoutTails {
+
+    private static final Tag POOL = new Tag("worker", "bounded-pool");
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/bounded-worker-config.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @Test
+    void testWorkerPoolGauges() {
+        addBeanClass(IncomingBoundedUnorderedBlockingBean.class, WorkerPoolMetrics.class);
+        addExtensionClass(MetricCdiInjectionExtension.class);
+        initialize();
+
+        MetricRegistry registry = container.select(MetricRegistry.class, MetricsTest.RegistryTypeLiteral.BASE).get();
+        IncomingBoundedUnorderedBlockingBean bean = get(IncomingBoundedUnorderedBlockingBean.class);
+        await().until(() -> bean.received().size() == IncomingBoundedUnorderedBlockingBean.COUNT);
+
+        await().until(() -> gauge(registry, WorkerPoolMetrics.ACTIVE) == 0);
+        assertThat(gauge(registry, WorkerPoolMetrics.QUEUE_DEPTH)).isZero();
+        assertThat(gauge(registry, WorkerPoolMetrics.TASKS)).isEqualTo(IncomingBoundedUnorderedBlockingBean.COUNT);
+        assertThat(gauge(registry, WorkerPoolMetrics.WAIT_TIME)).isNotNegative();
+    }
+
+    private static long gauge(MetricRegistry registry, String name) {
+        return ((Number) registry.getGauge(new MetricID(name, POOL)).getValue()).longValue();
+    }
+}
@@ -0,0 +1,41 @@
+package io.smallrye.reactive.messaging.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.impl.RateLimitDecorator;
+
+class RateLimitTest extends WeldTestBaseWithoutTails {
+
+    @BeforeAll
+    static void setupConfig() {
+        installConfig("src/test/resources/config/rate-limit.properties");
+    }
+
+    @AfterAll
+    static void clear() {
+        releaseConfig();
+    }
+
+    @Test
+    void testChannelRateIsLimited() {
+        addBeanClass(RateLimitedBean.class, RateLimitDecorator.class);
+        initialize();
+
+        RateLimitedBean bean = get(RateLimitedBean.class);
+        await().until(() -> bean.receptions().size() == RateLimitedBean.COUNT);
+
+        // A burst of 5, then 100 messages per second
+        List<Long> receptions = bean.receptions();
+        Duration elapsed = Duration.ofNanos(receptions.get(RateLimitedBean.COUNT - 1) - receptions.get(0));
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+}
@@ -0,0 +1,33 @@
+package io.smallrye.reactive.messaging.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import io.smallrye.mutiny.Multi;
+
+@ApplicationScoped
+public class RateLimitedBean {
+
+    public static final int COUNT = 30;
+
+    private final List<Long> receptions = new CopyOnWriteArrayList<>();
+
+    @Outgoing("limited")
+    public Multi<Integer> produce() {
+        return Multi.createFrom().range(0, COUNT);
+    }
+
+    @Incoming("limited")
+    public void consume(Integer value) {
+        receptions.add(System.nanoTime());
+    }
+
+    public List<Long> receptions() {
+        return receptions;
+    }
+}
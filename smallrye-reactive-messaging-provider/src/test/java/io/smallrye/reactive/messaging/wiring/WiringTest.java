@@ -6,8 +6,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import javax.enterprise.inject.spi.Bean;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import io.smallrye.reactive.messaging.ChannelRegistry;
 import io.smallrye.reactive.messaging.DefaultMediatorConfiguration;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
 import io.smallrye.reactive.messaging.extension.ChannelConfiguration;
 import io.smallrye.reactive.messaging.extension.EmitterConfiguration;
 
@@ -553,6 +556,42 @@ class WiringTest {
         assertThatThrownBy(wiring::resolve).isInstanceOf(CycleException.class);
     }
 
+    /**
+     * A long chain of processors:
+     * emitter - {c0} -> processor - {c1} -> processor - {c2} -> ... -> channel
+     */
+    @Test
+    public void testLongChainOfProcessors() {
+        ChannelRegistry registry = mock(ChannelRegistry.class);
+        Bean bean = mock(Bean.class);
+        when(bean.getBeanClass()).thenReturn(WiringTest.class);
+
+        int length = 5000;
+        List<MediatorConfiguration> processors = new ArrayList<>();
+        for (int i = 1; i <= length; i++) {
+            DefaultMediatorConfiguration processor = new DefaultMediatorConfiguration(getMethod("process"), bean);
+            processor.compute(Collections.singletonList(IncomingLiteral.of("c" + (i - 1))), OutgoingLiteral.of("c" + i),
+                    null);
+            processors.add(processor);
+        }
+        // Register the processors in reverse order, so the resolution cannot follow the registration order
+        Collections.reverse(processors);
+
+        EmitterConfiguration ec = new EmitterConfiguration("c0", false, null, null);
+        ChannelConfiguration cc = new ChannelConfiguration("c" + length);
+
+        Wiring wiring = new Wiring();
+        wiring.prepare(true, registry, Collections.singletonList(ec), Collections.singletonList(cc), processors);
+        Graph graph = wiring.resolve();
+        assertThat(graph.getResolvedComponents()).hasSize(length + 2);
+        assertThat(graph.getUnresolvedComponents()).isEmpty();
+        assertThat(graph.isClosed()).isTrue();
+        assertThat(graph.hasWiringErrors()).isFalse();
+        assertThat(graph.getInbound()).hasSize(1).allSatisfy(pc -> assertThat(pc.outgoing()).contains("c0"));
+        assertThat(graph.getOutbound()).hasSize(1)
+                .allSatisfy(pc -> assertThat(pc.incomings()).containsExactly("c" + length));
+    }
+
     private Method getMethod(String name) {
         for (Method method : this.getClass().getMethods()) {
             if (method.getName().equals(name)) {
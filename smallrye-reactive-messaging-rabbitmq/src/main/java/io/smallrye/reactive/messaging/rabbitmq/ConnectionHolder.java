@@ -67,7 +67,11 @@ public class ConnectionHolder {
     }
 
     public Uni<Void> getAck(final long deliveryTag) {
-        return client.basicAck(deliveryTag, false);
+        return getAck(deliveryTag, false);
+    }
+
+    public Uni<Void> getAck(final long deliveryTag, final boolean multiple) {
+        return client.basicAck(deliveryTag, multiple);
     }
 
     public Function<Throwable, CompletionStage<Void>> getNack(final long deliveryTag, final boolean requeue) {
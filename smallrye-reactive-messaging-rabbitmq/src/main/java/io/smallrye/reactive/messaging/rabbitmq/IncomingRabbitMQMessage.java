@@ -1,5 +1,6 @@
 package io.smallrye.reactive.messaging.rabbitmq;
 
+import java.nio.ByteBuffer;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Map;
@@ -21,11 +22,16 @@ import io.vertx.mutiny.core.Context;
 
 /**
  * An implementation of {@link Message} suitable for incoming RabbitMQ messages.
+ * <p>
+ * The payload is decoded from the body when first requested. A {@code byte[]} payload may share the array of the
+ * received body rather than copying it, so modifying it also modifies the body.
  *
  * @param <T> the message body type
  */
 public class IncomingRabbitMQMessage<T> implements Message<T> {
 
+    private static final Object NOT_CONVERTED = new Object();
+
     protected final io.vertx.rabbitmq.RabbitMQMessage message;
     protected Metadata metadata;
     protected final IncomingRabbitMQMetadata rabbitMQMetadata;
@@ -34,6 +40,10 @@ public class IncomingRabbitMQMessage<T> implements Message<T> {
     private final long deliveryTag;
     protected final RabbitMQFailureHandler onNack;
     protected final RabbitMQAckHandler onAck;
+    /**
+     * The payload converted from the body, converted on first access.
+     */
+    private volatile Object payload = NOT_CONVERTED;
 
     IncomingRabbitMQMessage(io.vertx.mutiny.rabbitmq.RabbitMQMessage delegate, ConnectionHolder holder,
             boolean isTracingEnabled, RabbitMQFailureHandler onNack,
@@ -91,6 +101,7 @@ public class IncomingRabbitMQMessage<T> implements Message<T> {
      */
     public void acknowledgeMessage() {
         holder.getAck(this.deliveryTag).subscribeAsCompletionStage();
+        onAck.settled(this);
     }
 
     /**
@@ -101,13 +112,44 @@ public class IncomingRabbitMQMessage<T> implements Message<T> {
      */
     public void rejectMessage(Throwable reason) {
         holder.getNack(this.deliveryTag, false).apply(reason);
+        onAck.settled(this);
+    }
+
+    public long getDeliveryTag() {
+        return deliveryTag;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public T getPayload() {
+        // The body is only decoded when the payload is requested, and decoded once.
+        // Concurrent first accesses may decode it twice, which is harmless.
+        Object converted = payload;
+        if (converted == NOT_CONVERTED) {
+            converted = convertPayload(message);
+            payload = converted;
+        }
         // Throw a class cast exception if it cannot be converted.
-        return (T) convertPayload(message);
+        return (T) converted;
+    }
+
+    /**
+     * Gets the body of the message, as received, without copying or decoding it.
+     * The returned buffer shares the memory of the body.
+     *
+     * @return the body of the message
+     */
+    public io.vertx.mutiny.core.buffer.Buffer getPayloadAsBuffer() {
+        return io.vertx.mutiny.core.buffer.Buffer.newInstance(message.body());
+    }
+
+    /**
+     * Gets a read-only view of the body of the message, without copying or decoding it.
+     *
+     * @return the body of the message
+     */
+    public ByteBuffer getPayloadAsByteBuffer() {
+        return message.body().getByteBuf().nioBuffer().asReadOnlyBuffer();
     }
 
     @Override
@@ -133,6 +175,12 @@ public class IncomingRabbitMQMessage<T> implements Message<T> {
         }
 
         // Otherwise fall back to raw byte array
+        return toBytes(body);
+    }
+
+    private static byte[] toBytes(Buffer body) {
+        // The payload is owned by the application, so it does not share the received body.
+        // getPayloadAsBuffer() and getPayloadAsByteBuffer() give access to it without copy.
         return body.getBytes();
     }
 
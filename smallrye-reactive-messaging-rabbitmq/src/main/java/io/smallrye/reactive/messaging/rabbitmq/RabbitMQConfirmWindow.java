@@ -0,0 +1,217 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions.ex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.vertx.mutiny.core.streams.ReadStream;
+import io.vertx.mutiny.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQConfirmation;
+import io.vertx.rabbitmq.impl.RabbitMQClientImpl;
+
+/**
+ * Tracks the messages published on a channel in confirm mode, and not yet confirmed by the broker.
+ * <p>
+ * The publish sequence numbers of a channel are increasing, so the outstanding messages are kept in a ring buffer
+ * sorted by sequence number. A confirmation with {@code multiple=true} releases all the messages up to its sequence
+ * number at once, a single confirmation is located using a binary search.
+ * <p>
+ * The messages released by a confirmation are passed, in publish order, to the {@link #handler(BiConsumer) handler}
+ * along with the failure if the broker nacked them ({@code null} otherwise).
+ * <p>
+ * The client silently reopens its channel when it has been closed, for example by a channel-level error. The new
+ * channel has no confirm listener and its sequence numbers restart at 1, so the window records the channel it listens
+ * to, and {@link #isListening(RabbitMQClient)} tells whether the client still publishes on it.
+ */
+public class RabbitMQConfirmWindow {
+
+    private final int size;
+    private volatile BiConsumer<List<Message<?>>, Throwable> onConfirmed = (messages, failure) -> {
+    };
+
+    private long[] tags;
+    private Message<?>[] messages;
+    private int head;
+    private int count;
+
+    private ReadStream<RabbitMQConfirmation> confirmations;
+    private long channel = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param size the maximum number of outstanding messages
+     */
+    public RabbitMQConfirmWindow(int size) {
+        this.size = size;
+        this.tags = new long[size];
+        this.messages = new Message<?>[size];
+    }
+
+    /**
+     * Sets the handler receiving the messages released by the confirmations.
+     *
+     * @param handler the handler
+     */
+    public void handler(BiConsumer<List<Message<?>>, Throwable> handler) {
+        this.onConfirmed = handler;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the client is connected and still uses the channel whose confirmations are listened.
+     *
+     * @param client the client
+     * @return {@code true} if the messages published with the client are confirmed to this window
+     */
+    public synchronized boolean isListening(RabbitMQClient client) {
+        return confirmations != null && client.isConnected() && channelInstance(client) == channel;
+    }
+
+    /**
+     * Listens to the confirmations of a new channel.
+     * The messages outstanding on the previous channel are never confirmed, they are released as failed.
+     * Listening again to the channel already listened is a no-op, the outstanding messages are kept, and the given
+     * stream is ignored.
+     *
+     * @param client the client, whose current channel is in confirm mode
+     * @param stream the confirmations of the channel
+     */
+    public void listen(RabbitMQClient client, ReadStream<RabbitMQConfirmation> stream) {
+        List<Message<?>> lost;
+        synchronized (this) {
+            long instance = channelInstance(client);
+            if (confirmations != null && instance == channel) {
+                return;
+            }
+            confirmations = stream;
+            channel = instance;
+            lost = release(Long.MAX_VALUE);
+        }
+        if (!lost.isEmpty()) {
+            onConfirmed.accept(lost, ex.illegalStateMessageNotConfirmed());
+        }
+        stream.handler(confirmation -> {
+            List<Message<?>> released;
+            synchronized (this) {
+                if (confirmations != stream) {
+                    // Confirmation of a previous channel
+                    return;
+                }
+                released = confirmation.isMultiple()
+                        ? release(confirmation.getDeliveryTag())
+                        : releaseOne(confirmation.getDeliveryTag());
+            }
+            if (!released.isEmpty()) {
+                onConfirmed.accept(released, confirmation.isSucceeded() ? null : ex.illegalStateMessageNacked());
+            }
+        });
+    }
+
+    /**
+     * Records a message about to be published.
+     *
+     * @param tag the publish sequence number of the message
+     * @param message the message
+     */
+    public synchronized void add(long tag, Message<?> message) {
+        if (count == tags.length) {
+            grow();
+        }
+        int index = (head + count) % tags.length;
+        tags[index] = tag;
+        messages[index] = message;
+        count++;
+    }
+
+    /**
+     * Removes a message whose publication failed, so it is not released by a later confirmation.
+     *
+     * @param message the message
+     * @return whether the message was outstanding
+     */
+    public synchronized boolean remove(Message<?> message) {
+        for (int i = 0; i < count; i++) {
+            int index = (head + i) % tags.length;
+            if (messages[index] == message) {
+                messages[index] = null;
+                compact();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long channelInstance(RabbitMQClient client) {
+        // The channel instance is only exposed by the implementation, it is incremented each time a channel is opened
+        io.vertx.rabbitmq.RabbitMQClient delegate = client.getDelegate();
+        return delegate instanceof RabbitMQClientImpl ? ((RabbitMQClientImpl) delegate).getChannelInstance() : 0;
+    }
+
+    private List<Message<?>> release(long upTo) {
+        List<Message<?>> released = new ArrayList<>();
+        while (count > 0 && tags[head] <= upTo) {
+            if (messages[head] != null) {
+                released.add(messages[head]);
+            }
+            pop();
+        }
+        return released;
+    }
+
+    private List<Message<?>> releaseOne(long tag) {
+        // Binary search in the ring, the tags are sorted from the head
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int index = (head + middle) % tags.length;
+            if (tags[index] < tag) {
+                low = middle + 1;
+            } else if (tags[index] > tag) {
+                high = middle - 1;
+            } else {
+                Message<?> message = messages[index];
+                messages[index] = null;
+                compact();
+                return message == null ? Collections.emptyList() : Collections.singletonList(message);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Drops the released entries at the head of the ring.
+     */
+    private void compact() {
+        while (count > 0 && messages[head] == null) {
+            pop();
+        }
+    }
+
+    private void pop() {
+        messages[head] = null;
+        head = (head + 1) % tags.length;
+        count--;
+    }
+
+    private void grow() {
+        long[] newTags = new long[tags.length * 2];
+        Message<?>[] newMessages = new Message<?>[tags.length * 2];
+        for (int i = 0; i < count; i++) {
+            newTags[i] = tags[(head + i) % tags.length];
+            newMessages[i] = messages[(head + i) % tags.length];
+        }
+        tags = newTags;
+        messages = newMessages;
+        head = 0;
+    }
+}
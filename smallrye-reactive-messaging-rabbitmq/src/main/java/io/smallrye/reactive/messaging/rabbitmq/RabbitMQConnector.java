@@ -39,6 +39,7 @@ import io.smallrye.reactive.messaging.connectors.ExecutionHolder;
 import io.smallrye.reactive.messaging.health.HealthReport;
 import io.smallrye.reactive.messaging.health.HealthReporter;
 import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAck;
+import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAckCoalescer;
 import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAckHandler;
 import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAutoAck;
 import io.smallrye.reactive.messaging.rabbitmq.fault.RabbitMQAccept;
@@ -112,10 +113,15 @@ import io.vertx.rabbitmq.RabbitMQPublisherOptions;
 @ConnectorAttribute(name = "broadcast", direction = INCOMING, description = "Whether the received RabbitMQ messages must be dispatched to multiple _subscribers_", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "auto-acknowledgement", direction = INCOMING, description = "Whether the received RabbitMQ messages must be acknowledged when received; if true then delivery constitutes acknowledgement", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "keep-most-recent", direction = INCOMING, description = "Whether to discard old messages instead of recent ones", type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "prefetch-count", direction = INCOMING, description = "The maximum number of unacknowledged messages the broker delivers to the consumer (`basic.qos` prefetch count); 0 means unlimited. If not set, the broker default applies", type = "int")
+@ConnectorAttribute(name = "ack-coalescing-count", direction = INCOMING, description = "The maximum number of acknowledgements accumulated before acknowledging them with a single multiple acknowledgement; `1` acknowledges every message individually. Ignored if auto-acknowledgement is enabled", type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "ack-coalescing-delay", direction = INCOMING, description = "The maximum time (ms) an acknowledgement is accumulated before being sent to the broker. Only used when `ack-coalescing-count` is greater than `1`", type = "long", defaultValue = "100")
+@ConnectorAttribute(name = "consumer-count", direction = INCOMING, description = "The number of consumers reading the queue concurrently. Each consumer uses its own connection and channel, and the messages of all the consumers are merged into the channel stream", type = "int", defaultValue = "1")
 @ConnectorAttribute(name = "routing-keys", direction = INCOMING, description = "A comma-separated list of routing keys to bind the queue to the exchange", type = "string", defaultValue = "#")
 
 // Message producer
 @ConnectorAttribute(name = "max-inflight-messages", direction = OUTGOING, description = "The maximum number of messages to be written to RabbitMQ concurrently; must be a positive number", type = "long", defaultValue = "1024")
+@ConnectorAttribute(name = "confirm-window", direction = OUTGOING, description = "The maximum number of messages published and not yet confirmed by the broker. When set, the messages are published on a channel in confirm mode and acknowledged once confirmed, and `max-inflight-messages` is ignored. `0` disables the confirm window", type = "int", defaultValue = "0")
 @ConnectorAttribute(name = "default-routing-key", direction = OUTGOING, description = "The default routing key to use when sending messages to the exchange", type = "string", defaultValue = "")
 @ConnectorAttribute(name = "default-ttl", direction = OUTGOING, description = "If specified, the time (ms) sent messages can remain in queues undelivered before they are dead", type = "long")
 
@@ -180,8 +186,17 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
 
         return Multi.createFrom().deferred(
                 () -> {
-                    Multi<? extends Message<?>> stream = receiver.toMulti()
-                            .map(m -> new IncomingRabbitMQMessage<>(m, holder, isTracingEnabled, onNack, onAck))
+                    // Delivery tags are scoped to the consumer channel, so the acknowledgements are coalesced per consumer
+                    RabbitMQAckCoalescer coalescer = createAckCoalescer(ic, holder);
+                    RabbitMQAckHandler ack = coalescer != null ? coalescer : onAck;
+                    Multi<IncomingRabbitMQMessage<?>> messages = receiver.toMulti()
+                            .map(m -> new IncomingRabbitMQMessage<>(m, holder, isTracingEnabled, onNack, ack));
+                    if (coalescer != null) {
+                        messages = messages
+                                .onItem().invoke(coalescer::delivered)
+                                .onTermination().invoke(coalescer::flush);
+                    }
+                    Multi<? extends Message<?>> stream = messages
                             .map(m -> isTracingEnabled ? TracingUtils.addIncomingTrace(m, queueName, attributeHeaders) : m);
                     return Multi.createBy().merging().streams(stream, processor);
                 });
@@ -203,16 +218,69 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
      * @throws NoSuchElementException if the configuration does not contain an expected attribute.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public PublisherBuilder<? extends Message<?>> getPublisherBuilder(final Config config) {
         final RabbitMQConnectorIncomingConfiguration ic = new RabbitMQConnectorIncomingConfiguration(config);
         incomingChannelStatus.put(ic.getChannel(), ChannelStatus.INITIALISING);
 
+        if (ic.getPrefetchCount().isPresent() && ic.getPrefetchCount().get() < 0) {
+            throw ex.illegalArgumentInvalidPrefetchCount();
+        }
+        if (ic.getAckCoalescingCount() < 1) {
+            throw ex.illegalArgumentInvalidAckCoalescing("ack-coalescing-count", ic.getAckCoalescingCount());
+        }
+        if (ic.getAckCoalescingDelay() < 1) {
+            throw ex.illegalArgumentInvalidAckCoalescing("ack-coalescing-delay", ic.getAckCoalescingDelay());
+        }
+        final int consumerCount = ic.getConsumerCount();
+        if (consumerCount < 1) {
+            throw ex.illegalArgumentInvalidConsumerCount(consumerCount);
+        }
+
+        final RabbitMQFailureHandler onNack = createFailureHandler(ic);
+        final RabbitMQAckHandler onAck = createAckHandler(ic);
+
+        Multi<? extends Message<?>> multi;
+        if (consumerCount == 1) {
+            multi = getConsumerStream(config, ic, ic.getChannel(), onNack, onAck);
+        } else {
+            // Each consumer has its own client, so its own channel, prefetch and delivery tags
+            incomingChannelStatus.remove(ic.getChannel());
+            List<Multi<Message<?>>> consumers = new ArrayList<>();
+            for (int i = 0; i < consumerCount; i++) {
+                String name = ic.getChannel() + "-" + i;
+                incomingChannelStatus.put(name, ChannelStatus.INITIALISING);
+                consumers.add((Multi<Message<?>>) getConsumerStream(config, ic, name, onNack, onAck));
+            }
+            multi = Multi.createBy().merging().streams(consumers);
+        }
+
+        if (Boolean.TRUE.equals(ic.getBroadcast())) {
+            multi = multi.broadcast().toAllSubscribers();
+        }
+
+        return ReactiveStreams.fromPublisher(multi);
+    }
+
+    /**
+     * Creates the stream of messages of a consumer of the queue.
+     *
+     * @param config the channel configuration
+     * @param ic the {@link RabbitMQConnectorIncomingConfiguration}
+     * @param name the name under which the health of the consumer is reported
+     * @param onNack the failure handler
+     * @param onAck the acknowledgement handler
+     * @return the stream of messages
+     */
+    private Multi<? extends Message<?>> getConsumerStream(final Config config,
+            final RabbitMQConnectorIncomingConfiguration ic,
+            final String name,
+            final RabbitMQFailureHandler onNack,
+            final RabbitMQAckHandler onAck) {
         // Create a client
         final RabbitMQClient client = createClient(new RabbitMQConnectorCommonConfiguration(config));
 
         final ConnectionHolder holder = new ConnectionHolder(client, ic, getVertx());
-        final RabbitMQFailureHandler onNack = createFailureHandler(ic);
-        final RabbitMQAckHandler onAck = createAckHandler(ic);
 
         // Ensure we set the queue up
         Uni<RabbitMQClient> uniQueue = holder.getOrEstablishConnection()
@@ -220,12 +288,16 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
                 .onItem().call(connection -> establishQueue(connection, ic))
                 // If directed to do so, create a DLQ
                 .onItem().call(connection -> establishDLQ(connection, ic))
-                .onItem().invoke(connection -> incomingChannelStatus.put(ic.getChannel(), ChannelStatus.CONNECTED));
+                .onItem().invoke(connection -> incomingChannelStatus.put(name, ChannelStatus.CONNECTED));
 
         // Once the queue is set up, set yp a consumer
         final Integer interval = ic.getReconnectInterval();
         final Integer attempts = ic.getReconnectAttempts();
-        Multi<? extends Message<?>> multi = uniQueue
+        return uniQueue
+                // Limit the unacknowledged messages delivered to the consumer
+                .onItem().call(connection -> ic.getPrefetchCount()
+                        .map(connection::basicQos)
+                        .orElseGet(() -> Uni.createFrom().voidItem()))
                 .onItem().transformToUni(connection -> client.basicConsumer(ic.getQueueName(), new QueueOptions()
                         .setAutoAck(ic.getAutoAcknowledgement())
                         .setMaxInternalQueueSize(ic.getMaxIncomingInternalQueueSize().orElse(Integer.MAX_VALUE))
@@ -238,18 +310,12 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
                                 .onFailure().invoke(log::retrieveMessagesRetrying)
                                 .onFailure().retry().withBackOff(ofSeconds(1), ofSeconds(interval)).atMost(attempts)
                                 .onFailure().invoke(t -> {
-                                    incomingChannelStatus.put(ic.getChannel(), ChannelStatus.NOT_CONNECTED);
+                                    incomingChannelStatus.put(name, ChannelStatus.NOT_CONNECTED);
                                     log.retrieveMessagesNoMoreRetrying(t);
                                 });
                     }
                     return m;
                 });
-
-        if (Boolean.TRUE.equals(ic.getBroadcast())) {
-            multi = multi.broadcast().toAllSubscribers();
-        }
-
-        return ReactiveStreams.fromPublisher(multi);
     }
 
     /**
@@ -350,10 +416,32 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
         // Create a client
         final RabbitMQClient client = createClient(new RabbitMQConnectorCommonConfiguration(config));
 
+        final ConnectionHolder holder = new ConnectionHolder(client, oc, getVertx());
+
+        final int confirmWindow = oc.getConfirmWindow();
+        if (confirmWindow < 0) {
+            throw ex.illegalArgumentInvalidConfirmWindow();
+        }
+        final RabbitMQMessageSender processor = confirmWindow > 0
+                ? createConfirmingSender(oc, client, holder, confirmWindow)
+                : createSender(oc, client, holder);
+        subscriptions.add(processor);
+
+        // Return a SubscriberBuilder
+        return ReactiveStreams.<Message<?>> builder()
+                .via(processor)
+                .onError(t -> {
+                    log.error(oc.getChannel(), t);
+                    outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.NOT_CONNECTED);
+                })
+                .ignore();
+    }
+
+    private RabbitMQMessageSender createSender(final RabbitMQConnectorOutgoingConfiguration oc, final RabbitMQClient client,
+            final ConnectionHolder holder) {
         // This will hold our publisher, assuming we can get hold of one
         final AtomicReference<RabbitMQPublisher> sender = new AtomicReference<>();
 
-        final ConnectionHolder holder = new ConnectionHolder(client, oc, getVertx());
         final Uni<RabbitMQPublisher> getSender = Uni.createFrom().item(sender.get())
                 .onItem().ifNull().switchTo(() -> {
 
@@ -393,19 +481,58 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
                 });
 
         // Set up a sender based on the publisher we established above
-        final RabbitMQMessageSender processor = new RabbitMQMessageSender(
+        return new RabbitMQMessageSender(
                 oc,
                 getSender);
-        subscriptions.add(processor);
+    }
 
-        // Return a SubscriberBuilder
-        return ReactiveStreams.<Message<?>> builder()
-                .via(processor)
-                .onError(t -> {
-                    log.error(oc.getChannel(), t);
+    private RabbitMQMessageSender createConfirmingSender(final RabbitMQConnectorOutgoingConfiguration oc,
+            final RabbitMQClient client, final ConnectionHolder holder, final int size) {
+        // This will hold our connected client, once its channel is in confirm mode
+        final AtomicReference<RabbitMQClient> confirming = new AtomicReference<>();
+        final RabbitMQConfirmWindow window = new RabbitMQConfirmWindow(size);
+
+        // The set up in progress, shared by the concurrent subscribers so the channel is put in confirm mode and
+        // listened once
+        final AtomicReference<Uni<RabbitMQClient>> pending = new AtomicReference<>();
+
+        final Uni<RabbitMQClient> setUp = holder.getOrEstablishConnection()
+                // Once connected, ensure we create the exchange to which messages are to be sent
+                .onItem().call(connection -> establishExchange(connection, oc))
+                // Put the channel in confirm mode and listen to the confirmations
+                .onItem().call(RabbitMQClient::confirmSelect)
+                .onItem().call(connection -> connection.addConfirmListener(size)
+                        .invoke(confirmations -> window.listen(connection, confirmations)))
+                .invoke(c -> {
+                    confirming.set(c);
+                    outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.CONNECTED);
+                })
+                .onTermination().invoke(() -> pending.set(null));
+
+        final Uni<RabbitMQClient> getClient = Uni.createFrom().deferred(() -> {
+            // If the channel is already in confirm mode, use it. The client reopens a closed channel on
+            // its own, without confirm listener, so a new channel must be listened again.
+            RabbitMQClient current = confirming.get();
+            if (current != null && window.isListening(current)) {
+                return Uni.createFrom().item(current);
+            }
+            Uni<RabbitMQClient> inProgress = pending.get();
+            while (inProgress == null) {
+                Uni<RabbitMQClient> shared = setUp.memoize().indefinitely();
+                inProgress = pending.compareAndSet(null, shared) ? shared : pending.get();
+            }
+            return inProgress;
+        })
+                .onFailure().invoke(t -> {
+                    confirming.set(null);
                     outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.NOT_CONNECTED);
                 })
-                .ignore();
+                .onCancellation().invoke(() -> {
+                    confirming.set(null);
+                    outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.NOT_CONNECTED);
+                });
+
+        return new RabbitMQMessageSender(oc, getClient, window);
     }
 
     @Override
@@ -559,6 +686,14 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
                 : new RabbitMQAck(ic.getChannel());
     }
 
+    private RabbitMQAckCoalescer createAckCoalescer(RabbitMQConnectorIncomingConfiguration ic, ConnectionHolder holder) {
+        if (Boolean.TRUE.equals(ic.getAutoAcknowledgement()) || ic.getAckCoalescingCount() <= 1) {
+            return null;
+        }
+        return new RabbitMQAckCoalescer(ic.getChannel(), holder, getVertx(), ic.getAckCoalescingCount(),
+                ic.getAckCoalescingDelay());
+    }
+
     public void reportIncomingFailure(String channel, Throwable reason) {
         log.failureReported(channel, reason);
         incomingChannelStatus.put(channel, ChannelStatus.NOT_CONNECTED);
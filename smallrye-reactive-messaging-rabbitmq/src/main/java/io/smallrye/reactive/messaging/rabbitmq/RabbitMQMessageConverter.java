@@ -1,5 +1,6 @@
 package io.smallrye.reactive.messaging.rabbitmq;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -13,6 +14,7 @@ import org.eclipse.microprofile.reactive.messaging.Message;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.BasicProperties;
 
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.smallrye.reactive.messaging.rabbitmq.tracing.TracingUtils;
 import io.vertx.core.json.Json;
@@ -154,6 +156,8 @@ public class RabbitMQMessageConverter {
 
     /**
      * Returns a {@link Buffer} containing the supplied payload.
+     * The content of {@code byte[]}, {@link java.nio.ByteBuffer} and Vert.x core buffer payloads is copied, as the
+     * message is published asynchronously and the application may reuse them once sent.
      *
      * @param payload the payload
      * @return a buffer encapsulation of the payload
@@ -168,6 +172,9 @@ public class RabbitMQMessageConverter {
             return Buffer.buffer(((io.vertx.core.buffer.Buffer) payload).getBytes());
         } else if (payload instanceof byte[]) {
             return Buffer.buffer((byte[]) payload);
+        } else if (payload instanceof ByteBuffer) {
+            // Copies the remaining bytes, without moving the position of the payload
+            return Buffer.buffer(Unpooled.copiedBuffer((ByteBuffer) payload));
         } else if (payload instanceof JsonObject) {
             return Buffer.buffer(((JsonObject) payload).encode());
         } else if (payload instanceof JsonArray) {
@@ -194,6 +201,8 @@ public class RabbitMQMessageConverter {
             return HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
         } else if (payload instanceof byte[]) {
             return HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+        } else if (payload instanceof ByteBuffer) {
+            return HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
         } else if (payload instanceof JsonObject) {
             return HttpHeaderValues.APPLICATION_JSON.toString();
         } else if (payload instanceof JsonArray) {
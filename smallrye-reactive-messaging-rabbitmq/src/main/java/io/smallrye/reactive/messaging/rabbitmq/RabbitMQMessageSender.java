@@ -4,7 +4,10 @@ import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions.ex
 import static java.time.Duration.ofSeconds;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -19,6 +22,7 @@ import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.tuples.Tuple2;
 import io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions;
 import io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging;
+import io.vertx.mutiny.rabbitmq.RabbitMQClient;
 import io.vertx.mutiny.rabbitmq.RabbitMQPublisher;
 
 /**
@@ -28,6 +32,8 @@ import io.vertx.mutiny.rabbitmq.RabbitMQPublisher;
 public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>, Subscription {
 
     private final Uni<RabbitMQPublisher> retrieveSender;
+    private final Uni<RabbitMQClient> retrieveClient;
+    private final RabbitMQConfirmWindow window;
     private final RabbitMQConnectorOutgoingConfiguration configuration;
 
     private final AtomicReference<Subscription> upstream = new AtomicReference<>();
@@ -47,7 +53,35 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
     public RabbitMQMessageSender(
             final RabbitMQConnectorOutgoingConfiguration oc,
             final Uni<RabbitMQPublisher> retrieveSender) {
+        this(oc, retrieveSender, null, null);
+    }
+
+    /**
+     * Constructor for the confirm window mode.
+     * <p>
+     * The messages are published directly with the client, whose channel must be in confirm mode and whose
+     * confirmations must be listened by the given window. The messages are acknowledged when the broker confirms them,
+     * and at most {@link RabbitMQConfirmWindow#size()} messages are requested from the upstream and not yet confirmed.
+     *
+     * @param oc the configuration parameters for outgoing messages
+     * @param retrieveClient the client, connected and with its channel in confirm mode
+     * @param window the window tracking the outstanding messages
+     */
+    public RabbitMQMessageSender(
+            final RabbitMQConnectorOutgoingConfiguration oc,
+            final Uni<RabbitMQClient> retrieveClient,
+            final RabbitMQConfirmWindow window) {
+        this(oc, null, retrieveClient, window);
+    }
+
+    private RabbitMQMessageSender(
+            final RabbitMQConnectorOutgoingConfiguration oc,
+            final Uni<RabbitMQPublisher> retrieveSender,
+            final Uni<RabbitMQClient> retrieveClient,
+            final RabbitMQConfirmWindow window) {
         this.retrieveSender = retrieveSender;
+        this.retrieveClient = retrieveClient;
+        this.window = window;
         this.configuration = oc;
         this.configuredExchange = oc.getExchangeName().orElseGet(oc::getChannel);
         this.isTracingEnabled = oc.getTracingEnabled();
@@ -61,6 +95,10 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
         if (defaultTtl.isPresent() && defaultTtl.get() < 0) {
             throw ex.illegalArgumentInvalidDefaultTtl();
         }
+
+        if (window != null) {
+            window.handler(this::onConfirmed);
+        }
     }
 
     /* ----------------------------------------------------- */
@@ -138,6 +176,11 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
 
         final Subscriber<? super Message<?>> subscriber = this.downstream.get();
 
+        if (window != null) {
+            retrieveClient.subscribe().with(client -> publish(client, message), subscriber::onError);
+            return;
+        }
+
         retrieveSender
                 .onItem().transformToUni(sender -> {
                     try {
@@ -219,7 +262,19 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
         if (l != Long.MAX_VALUE) {
             throw ex.illegalStateConsumeWithoutBackPressure();
         }
-        upstream.get().request(inflights);
+        if (window == null) {
+            upstream.get().request(inflights);
+            return;
+        }
+        // Set up the confirming channel before requesting, so the messages do not each race to set it up
+        retrieveClient.subscribe().with(client -> {
+            if (!isCancelled()) {
+                upstream.get().request(window.size());
+            }
+        }, failure -> {
+            cancel();
+            downstream.get().onError(failure);
+        });
     }
 
     /**
@@ -239,6 +294,67 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
     /* HELPER METHODS */
     /* ----------------------------------------------------- */
 
+    /**
+     * Publishes a message in the confirm window mode.
+     * Failed publications are not retried, the message is nacked.
+     */
+    private void publish(final RabbitMQClient client, final Message<?> message) {
+        final RabbitMQMessageConverter.OutgoingRabbitMQMessage outgoingRabbitMQMessage;
+        try {
+            outgoingRabbitMQMessage = RabbitMQMessageConverter.convert(message, configuredExchange,
+                    configuration.getDefaultRoutingKey(), defaultTtl, isTracingEnabled,
+                    Arrays.stream(configuration.getTracingAttributeHeaders().split(","))
+                            .map(String::trim).collect(Collectors.toList()));
+        } catch (Exception e) {
+            // Message can't be sent - nacking and skipping.
+            message.nack(e);
+            RabbitMQLogging.log.serializationFailure(configuration.getChannel(), e);
+            if (!isCancelled()) {
+                upstream.get().request(1);
+            }
+            return;
+        }
+
+        RabbitMQLogging.log.sendingMessageToExchange(configuredExchange, outgoingRabbitMQMessage.getRoutingKey());
+        final AtomicBoolean added = new AtomicBoolean();
+        client.basicPublishWithDeliveryTag(configuredExchange, outgoingRabbitMQMessage.getRoutingKey(),
+                outgoingRabbitMQMessage.getProperties(), outgoingRabbitMQMessage.getBody(), tag -> {
+                    // Called before the message is published, so before its confirmation
+                    added.set(true);
+                    window.add(tag, message);
+                })
+                .subscribe().with(
+                        x -> {
+                            // Acknowledged once confirmed
+                        },
+                        failure -> {
+                            if (!added.get() || window.remove(message)) {
+                                onConfirmed(Collections.singletonList(message), failure);
+                            }
+                        });
+    }
+
+    /**
+     * Acknowledges, or nacks if the failure is not {@code null}, the messages released by the confirm window, and
+     * requests as many messages from the upstream.
+     */
+    private void onConfirmed(final List<Message<?>> messages, final Throwable failure) {
+        final Subscriber<? super Message<?>> subscriber = this.downstream.get();
+        for (Message<?> message : messages) {
+            (failure == null ? message.ack() : message.nack(failure))
+                    .whenComplete((x, t) -> {
+                        if (t != null) {
+                            subscriber.onError(t);
+                        } else {
+                            subscriber.onNext(message);
+                        }
+                    });
+        }
+        if (!isCancelled()) {
+            upstream.get().request(messages.size());
+        }
+    }
+
     private Uni<Message<?>> send(
             final RabbitMQPublisher publisher,
             final Message<?> msg,
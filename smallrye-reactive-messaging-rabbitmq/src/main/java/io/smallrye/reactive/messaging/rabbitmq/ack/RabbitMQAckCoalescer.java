@@ -0,0 +1,164 @@
+package io.smallrye.reactive.messaging.rabbitmq.ack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.smallrye.reactive.messaging.rabbitmq.ConnectionHolder;
+import io.smallrye.reactive.messaging.rabbitmq.IncomingRabbitMQMessage;
+import io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * A {@link RabbitMQAckHandler} used when auto-ack is off, coalescing the acknowledgements of the messages received by a
+ * consumer.
+ * <p>
+ * The acknowledged delivery tags are accumulated, and the highest tag below which all the delivered messages are
+ * acknowledged is acknowledged with a single {@code basic.ack} using {@code multiple=true}. The acknowledgements are
+ * issued when {@code maxCount} acknowledgements are pending, or when the oldest pending acknowledgement has waited
+ * {@code maxDelay} milliseconds. In the latter case, the acknowledgements that cannot be covered by a multiple
+ * acknowledgement (because an older message is still being processed) are issued individually.
+ * <p>
+ * Delivery tags are scoped to the channel of the consumer, so an instance must be used for a single consumer.
+ */
+public class RabbitMQAckCoalescer implements RabbitMQAckHandler {
+    private final String channel;
+    private final ConnectionHolder holder;
+    private final Vertx vertx;
+    private final Context context;
+    private final int maxCount;
+    private final long maxDelay;
+
+    /**
+     * The delivered tags not yet settled, in delivery order.
+     */
+    private final ArrayDeque<Long> outstanding = new ArrayDeque<>();
+    /**
+     * The delivered tags acknowledged by the application, and not yet acknowledged to the broker.
+     */
+    private final Map<Long, CompletableFuture<Void>> pending = new HashMap<>();
+    /**
+     * The delivered tags settled individually, outside of this handler (nack, failure strategies...).
+     */
+    private final Set<Long> settled = new HashSet<>();
+    private long timer = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param channel the channel on which acks are issued
+     * @param holder the connection holder of the consumer
+     * @param vertx the Vert.x instance
+     * @param maxCount the maximum number of pending acknowledgements
+     * @param maxDelay the maximum delay (ms) of an acknowledgement
+     */
+    public RabbitMQAckCoalescer(String channel, ConnectionHolder holder, Vertx vertx, int maxCount, long maxDelay) {
+        this.channel = channel;
+        this.holder = holder;
+        this.vertx = vertx;
+        this.context = holder.getContext();
+        this.maxCount = maxCount;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Records the delivery of a message, must be called in delivery order.
+     *
+     * @param message the delivered message
+     */
+    public synchronized void delivered(IncomingRabbitMQMessage<?> message) {
+        outstanding.add(message.getDeliveryTag());
+    }
+
+    @Override
+    public <V> CompletionStage<Void> handle(final IncomingRabbitMQMessage<V> msg, final Context context) {
+        RabbitMQLogging.log.ackMessage(channel);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        boolean full;
+        synchronized (this) {
+            pending.put(msg.getDeliveryTag(), future);
+            full = pending.size() >= maxCount;
+            if (timer == -1) {
+                timer = vertx.setTimer(maxDelay, id -> this.context.runOnContext(() -> acknowledge(true)));
+            }
+        }
+        if (full) {
+            this.context.runOnContext(() -> acknowledge(false));
+        }
+        return future;
+    }
+
+    @Override
+    public synchronized <V> void settled(IncomingRabbitMQMessage<V> msg) {
+        settled.add(msg.getDeliveryTag());
+    }
+
+    /**
+     * Acknowledges the pending acknowledgements without waiting for the maximum delay.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+        }
+        context.runOnContext(() -> acknowledge(true));
+    }
+
+    /**
+     * Must be called from the context of the connection.
+     *
+     * @param all whether the pending acknowledgements not covered by the multiple acknowledgement must be issued
+     *        individually
+     */
+    private void acknowledge(boolean all) {
+        long multiple = -1;
+        List<CompletableFuture<Void>> acknowledged = new ArrayList<>();
+        Map<Long, CompletableFuture<Void>> individual = new HashMap<>();
+        synchronized (this) {
+            // Find the highest tag below which all the delivered messages are settled
+            while (!outstanding.isEmpty()) {
+                Long tag = outstanding.peek();
+                CompletableFuture<Void> future = pending.remove(tag);
+                if (future != null) {
+                    multiple = tag;
+                    acknowledged.add(future);
+                } else if (!settled.remove(tag)) {
+                    break;
+                }
+                outstanding.poll();
+            }
+            if (all && !pending.isEmpty()) {
+                individual.putAll(pending);
+                pending.clear();
+                outstanding.removeAll(individual.keySet());
+            }
+            if (all || pending.isEmpty()) {
+                cancelTimer();
+            }
+        }
+
+        if (multiple != -1) {
+            holder.getAck(multiple, true).subscribe().with(
+                    x -> acknowledged.forEach(f -> f.complete(null)),
+                    t -> acknowledged.forEach(f -> f.completeExceptionally(t)));
+        }
+        individual.forEach((tag, future) -> holder.getAck(tag, false).subscribe().with(
+                x -> future.complete(null),
+                future::completeExceptionally));
+    }
+
+    private void cancelTimer() {
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+            timer = -1;
+        }
+    }
+}
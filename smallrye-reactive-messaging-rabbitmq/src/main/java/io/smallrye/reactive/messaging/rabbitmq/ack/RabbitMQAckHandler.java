@@ -32,4 +32,14 @@ public interface RabbitMQAckHandler {
      */
     <V> CompletionStage<Void> handle(IncomingRabbitMQMessage<V> message, Context context);
 
+    /**
+     * Notifies that a message has been acknowledged or rejected directly, without going through this handler.
+     *
+     * @param message the settled message
+     * @param <V> message body type
+     */
+    default <V> void settled(IncomingRabbitMQMessage<V> message) {
+        // Nothing to do by default
+    }
+
 }
@@ -34,4 +34,22 @@ public interface RabbitMQExceptions {
 
     @Message(id = 16008, value = "If specified, the value of queue.ttl must be greater than or equal to 0")
     IllegalArgumentException illegalArgumentInvalidQueueTtl();
+
+    @Message(id = 16100, value = "If specified, the value of prefetch-count must be greater than or equal to 0")
+    IllegalArgumentException illegalArgumentInvalidPrefetchCount();
+
+    @Message(id = 16101, value = "The value of %s must be greater than 0, was %d")
+    IllegalArgumentException illegalArgumentInvalidAckCoalescing(String attribute, long value);
+
+    @Message(id = 16102, value = "The value of confirm-window must be greater than or equal to 0")
+    IllegalArgumentException illegalArgumentInvalidConfirmWindow();
+
+    @Message(id = 16103, value = "The message has been nacked by the broker")
+    IllegalStateException illegalStateMessageNacked();
+
+    @Message(id = 16104, value = "The message has not been confirmed by the broker before the channel was closed")
+    IllegalStateException illegalStateMessageNotConfirmed();
+
+    @Message(id = 16105, value = "The value of consumer-count must be greater than 0, was %d")
+    IllegalArgumentException illegalArgumentInvalidConsumerCount(int value);
 }
@@ -0,0 +1,137 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAckCoalescer;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+class RabbitMQAckCoalescerTest {
+
+    private Vertx vertx;
+    private RecordingHolder holder;
+
+    @BeforeEach
+    void init() {
+        vertx = Vertx.vertx();
+        holder = new RecordingHolder(vertx);
+    }
+
+    @AfterEach
+    void cleanup() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testMultipleAckStopsAtInFlightTag() {
+        RabbitMQAckCoalescer coalescer = new RabbitMQAckCoalescer("test", holder, vertx, 3, 60_000);
+        List<IncomingRabbitMQMessage<?>> messages = deliver(coalescer, 5);
+
+        CompletableFuture<Void> first = ack(coalescer, messages.get(0));
+        CompletableFuture<Void> second = ack(coalescer, messages.get(1));
+        CompletableFuture<Void> fourth = ack(coalescer, messages.get(3));
+
+        // 3 is still being processed, the multiple ack covers 1 and 2 only
+        await().until(() -> first.isDone() && second.isDone());
+        assertThat(holder.acks).containsExactly("2/multiple");
+        assertThat(fourth).isNotDone();
+
+        CompletableFuture<Void> third = ack(coalescer, messages.get(2));
+        CompletableFuture<Void> fifth = ack(coalescer, messages.get(4));
+        await().until(() -> third.isDone() && fourth.isDone() && fifth.isDone());
+        assertThat(holder.acks).containsExactly("2/multiple", "5/multiple");
+    }
+
+    @Test
+    void testSettledTagsAreCoveredByMultipleAck() {
+        RabbitMQAckCoalescer coalescer = new RabbitMQAckCoalescer("test", holder, vertx, 2, 60_000);
+        List<IncomingRabbitMQMessage<?>> messages = deliver(coalescer, 3);
+
+        // 2 is nacked, it does not prevent the multiple ack of 3
+        coalescer.settled(messages.get(1));
+        CompletableFuture<Void> first = ack(coalescer, messages.get(0));
+        CompletableFuture<Void> third = ack(coalescer, messages.get(2));
+
+        await().until(() -> first.isDone() && third.isDone());
+        assertThat(holder.acks).containsExactly("3/multiple");
+    }
+
+    @Test
+    void testIndividualAcksWhenTheDelayExpires() {
+        RabbitMQAckCoalescer coalescer = new RabbitMQAckCoalescer("test", holder, vertx, 100, 100);
+        List<IncomingRabbitMQMessage<?>> messages = deliver(coalescer, 3);
+
+        CompletableFuture<Void> first = ack(coalescer, messages.get(0));
+        CompletableFuture<Void> third = ack(coalescer, messages.get(2));
+        await().atMost(Duration.ofSeconds(5)).until(() -> first.isDone() && third.isDone());
+        assertThat(holder.acks).containsExactly("1/multiple", "3/single");
+
+        // 3 has been acknowledged individually, it is no longer outstanding
+        CompletableFuture<Void> second = ack(coalescer, messages.get(1));
+        await().atMost(Duration.ofSeconds(5)).until(second::isDone);
+        assertThat(holder.acks).containsExactly("1/multiple", "3/single", "2/multiple");
+    }
+
+    @Test
+    void testFlushOnTermination() {
+        RabbitMQAckCoalescer coalescer = new RabbitMQAckCoalescer("test", holder, vertx, 100, 60_000);
+        List<IncomingRabbitMQMessage<?>> messages = deliver(coalescer, 3);
+
+        coalescer.flush();
+        CompletableFuture<Void> first = ack(coalescer, messages.get(0));
+        CompletableFuture<Void> third = ack(coalescer, messages.get(2));
+        assertThat(holder.acks).isEmpty();
+
+        coalescer.flush();
+        await().until(() -> first.isDone() && third.isDone());
+        assertThat(holder.acks).containsExactly("1/multiple", "3/single");
+    }
+
+    private List<IncomingRabbitMQMessage<?>> deliver(RabbitMQAckCoalescer coalescer, int count) {
+        List<IncomingRabbitMQMessage<?>> messages = new CopyOnWriteArrayList<>();
+        for (int tag = 1; tag <= count; tag++) {
+            IncomingRabbitMQMessage<?> message = new IncomingRabbitMQMessage<>(new TestRabbitMQMessage(tag), holder,
+                    false, null, coalescer);
+            coalescer.delivered(message);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private CompletableFuture<Void> ack(RabbitMQAckCoalescer coalescer, IncomingRabbitMQMessage<?> message) {
+        return coalescer.handle(message, holder.getContext()).toCompletableFuture();
+    }
+
+    private static class RecordingHolder extends ConnectionHolder {
+
+        private final List<String> acks = new CopyOnWriteArrayList<>();
+        private final Context context;
+
+        RecordingHolder(Vertx vertx) {
+            super(null, null, vertx);
+            this.context = vertx.getOrCreateContext();
+        }
+
+        @Override
+        public Context getContext() {
+            return context;
+        }
+
+        @Override
+        public Uni<Void> getAck(long deliveryTag, boolean multiple) {
+            acks.add(deliveryTag + (multiple ? "/multiple" : "/single"));
+            return Uni.createFrom().voidItem();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.mutiny.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQConfirmation;
+import io.vertx.rabbitmq.RabbitMQOptions;
+import io.vertx.rabbitmq.impl.RabbitMQClientImpl;
+
+class RabbitMQConfirmWindowTest {
+
+    private final List<Message<?>> confirmed = new CopyOnWriteArrayList<>();
+    private final List<Message<?>> failed = new CopyOnWriteArrayList<>();
+
+    private FakeClient delegate;
+    private RabbitMQClient client;
+    private RabbitMQConfirmWindow window;
+
+    @BeforeEach
+    void init() {
+        delegate = new FakeClient();
+        client = new RabbitMQClient(delegate);
+        window = new RabbitMQConfirmWindow(4);
+        window.handler((messages, failure) -> {
+            if (failure == null) {
+                confirmed.addAll(messages);
+            } else {
+                failed.addAll(messages);
+            }
+        });
+    }
+
+    @Test
+    void testReopenedChannelIsListenedAgain() {
+        assertThat(window.isListening(client)).isFalse();
+
+        Confirmations first = new Confirmations();
+        window.listen(client, io.vertx.mutiny.core.streams.ReadStream.newInstance(first));
+        assertThat(window.isListening(client)).isTrue();
+
+        Message<String> a = Message.of("a");
+        Message<String> b = Message.of("b");
+        window.add(1, a);
+        window.add(2, b);
+        first.confirm(1, false, true);
+        assertThat(confirmed).containsExactly(a);
+
+        // The client reopens its channel on its own, the window is no longer listening to it
+        delegate.channelInstance++;
+        assertThat(window.isListening(client)).isFalse();
+
+        // Listening to the new channel fails the messages outstanding on the previous one
+        Confirmations second = new Confirmations();
+        window.listen(client, io.vertx.mutiny.core.streams.ReadStream.newInstance(second));
+        assertThat(window.isListening(client)).isTrue();
+        assertThat(failed).containsExactly(b);
+
+        // The sequence numbers restart at 1 on the new channel
+        Message<String> c = Message.of("c");
+        window.add(1, c);
+        first.confirm(2, true, true);
+        assertThat(confirmed).containsExactly(a);
+        second.confirm(1, false, true);
+        assertThat(confirmed).containsExactly(a, c);
+
+        delegate.connected = false;
+        assertThat(window.isListening(client)).isFalse();
+    }
+
+    @Test
+    void testWraparoundAndGrow() {
+        Confirmations confirmations = listen();
+        List<Message<?>> messages = messages(7);
+
+        add(messages, 1, 3);
+        confirmations.confirm(2, true, true);
+        assertThat(confirmed).containsExactly(messages.get(0), messages.get(1));
+
+        // 3 to 6 wrap around the end of the ring, 7 does not fit and grows it
+        add(messages, 4, 7);
+        confirmations.confirm(5, false, true);
+        assertThat(confirmed).containsExactly(messages.get(0), messages.get(1), messages.get(4));
+        confirmations.confirm(7, true, true);
+        assertThat(confirmed).containsExactly(messages.get(0), messages.get(1), messages.get(4), messages.get(2),
+                messages.get(3), messages.get(5), messages.get(6));
+    }
+
+    @Test
+    void testSingleConfirmationsOverReleasedSlots() {
+        Confirmations confirmations = listen();
+        List<Message<?>> messages = messages(6);
+        add(messages, 1, 6);
+
+        confirmations.confirm(3, false, true);
+        confirmations.confirm(5, false, true);
+        // The binary search goes through the slots released by 3 and 5
+        confirmations.confirm(4, false, true);
+        confirmations.confirm(4, false, true);
+        confirmations.confirm(8, false, true);
+        assertThat(confirmed).containsExactly(messages.get(2), messages.get(4), messages.get(3));
+
+        confirmations.confirm(1, false, false);
+        assertThat(failed).containsExactly(messages.get(0));
+        confirmations.confirm(6, true, true);
+        assertThat(confirmed).containsExactly(messages.get(2), messages.get(4), messages.get(3), messages.get(1),
+                messages.get(5));
+    }
+
+    @Test
+    void testRemove() {
+        Confirmations confirmations = listen();
+        List<Message<?>> messages = messages(6);
+        add(messages, 1, 3);
+
+        assertThat(window.remove(messages.get(0))).isTrue();
+        assertThat(window.remove(messages.get(0))).isFalse();
+        confirmations.confirm(3, true, true);
+        assertThat(confirmed).containsExactly(messages.get(1), messages.get(2));
+        assertThat(window.remove(messages.get(1))).isFalse();
+
+        add(messages, 4, 6);
+        assertThat(window.remove(messages.get(4))).isTrue();
+        confirmations.confirm(6, true, true);
+        assertThat(confirmed).containsExactly(messages.get(1), messages.get(2), messages.get(3), messages.get(5));
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    void testConfirmationsOfPreviousChannelAreIgnored() {
+        Confirmations first = listen();
+        List<Message<?>> messages = messages(2);
+        add(messages, 1, 1);
+
+        delegate.channelInstance++;
+        Confirmations second = listen();
+        assertThat(failed).containsExactly(messages.get(0));
+
+        window.add(1, messages.get(1));
+        first.confirm(1, false, true);
+        first.confirm(1, true, false);
+        assertThat(confirmed).isEmpty();
+        assertThat(failed).containsExactly(messages.get(0));
+
+        second.confirm(1, true, false);
+        assertThat(failed).containsExactly(messages.get(0), messages.get(1));
+    }
+
+    @Test
+    void testListeningAgainToTheSameChannelIsIgnored() {
+        Confirmations first = listen();
+        List<Message<?>> messages = messages(2);
+        add(messages, 1, 2);
+
+        // The outstanding messages are kept, and still confirmed by the first stream
+        listen();
+        assertThat(failed).isEmpty();
+        first.confirm(2, true, true);
+        assertThat(confirmed).containsExactly(messages.get(0), messages.get(1));
+    }
+
+    @Test
+    void testSenderRequestsOnceTheClientIsReady() {
+        RabbitMQConnectorOutgoingConfiguration configuration = new RabbitMQConnectorOutgoingConfiguration(
+                new MapBasedConfig().with("channel-name", "confirms"));
+        CompletableFuture<RabbitMQClient> ready = new CompletableFuture<>();
+        RabbitMQMessageSender sender = new RabbitMQMessageSender(configuration,
+                Uni.createFrom().completionStage(ready), window);
+        AtomicLong requested = new AtomicLong();
+        sender.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        sender.subscribe(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // Nothing is requested while the channel is being set up
+        assertThat(requested).hasValue(0);
+        ready.complete(client);
+        assertThat(requested).hasValue(window.size());
+    }
+
+    private Confirmations listen() {
+        Confirmations confirmations = new Confirmations();
+        window.listen(client, io.vertx.mutiny.core.streams.ReadStream.newInstance(confirmations));
+        return confirmations;
+    }
+
+    private List<Message<?>> messages(int count) {
+        List<Message<?>> messages = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            messages.add(Message.of(i));
+        }
+        return messages;
+    }
+
+    /**
+     * Adds the given messages, the publish sequence number of a message being its position (starting at 1).
+     */
+    private void add(List<Message<?>> messages, int from, int to) {
+        for (int tag = from; tag <= to; tag++) {
+            window.add(tag, messages.get(tag - 1));
+        }
+    }
+
+    private static class FakeClient extends RabbitMQClientImpl {
+
+        private volatile long channelInstance = 1;
+        private volatile boolean connected = true;
+
+        FakeClient() {
+            super(null, new RabbitMQOptions());
+        }
+
+        @Override
+        public long getChannelInstance() {
+            return channelInstance;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+    }
+
+    private static class Confirmations implements ReadStream<RabbitMQConfirmation> {
+
+        private Handler<RabbitMQConfirmation> handler;
+
+        void confirm(long tag, boolean multiple, boolean succeeded) {
+            handler.handle(new RabbitMQConfirmation(0, tag, multiple, succeeded));
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> handler(Handler<RabbitMQConfirmation> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> pause() {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> resume() {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> fetch(long amount) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> endHandler(Handler<Void> endHandler) {
+            return this;
+        }
+    }
+}
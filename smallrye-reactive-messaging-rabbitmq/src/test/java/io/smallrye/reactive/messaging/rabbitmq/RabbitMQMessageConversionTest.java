@@ -0,0 +1,92 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.Test;
+
+import com.rabbitmq.client.AMQP;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+class RabbitMQMessageConversionTest {
+
+    private final ConnectionHolder holder = new ConnectionHolder(null, null, null);
+
+    @Test
+    void testPayloadIsDecodedOnce() {
+        IncomingRabbitMQMessage<JsonObject> message = incoming(
+                Buffer.buffer(new JsonObject().put("hello", "world").encode()), "application/json");
+
+        JsonObject payload = message.getPayload();
+        assertThat(payload.getString("hello")).isEqualTo("world");
+        assertThat(message.getPayload()).isSameAs(payload);
+    }
+
+    @Test
+    void testBinaryPayloadIsCopiedAndViewsShareTheBody() {
+        byte[] bytes = "hello".getBytes(StandardCharsets.UTF_8);
+        Buffer body = Buffer.buffer(Unpooled.wrappedBuffer(bytes));
+        IncomingRabbitMQMessage<byte[]> message = incoming(body, null);
+
+        byte[] payload = message.getPayload();
+        assertThat(payload).isNotSameAs(bytes).isEqualTo(bytes);
+        assertThat(message.getPayloadAsBuffer().getDelegate()).isSameAs(body);
+
+        ByteBuffer view = message.getPayloadAsByteBuffer();
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(view.remaining()).isEqualTo(bytes.length);
+        bytes[0] = 'j';
+        assertThat(view.get(0)).isEqualTo((byte) 'j');
+        assertThat(message.getPayloadAsBuffer().toString()).isEqualTo("jello");
+
+        // The payload is owned by the application
+        payload[1] = 'a';
+        assertThat(message.getPayloadAsBuffer().toString()).isEqualTo("jello");
+        assertThat(new String(payload, StandardCharsets.UTF_8)).isEqualTo("hallo");
+    }
+
+    @Test
+    void testOutgoingByteBufferPayload() {
+        ByteBuffer payload = ByteBuffer.wrap("--hello".getBytes(StandardCharsets.UTF_8));
+        payload.position(2);
+
+        RabbitMQMessageConverter.OutgoingRabbitMQMessage outgoing = convert(Message.of(payload));
+
+        assertThat(outgoing.getProperties().getContentType()).isEqualTo("application/octet-stream");
+        assertThat(outgoing.getBody().toString()).isEqualTo("hello");
+        assertThat(payload.position()).isEqualTo(2);
+
+        // The content is copied, the application can reuse the buffer
+        payload.put(2, (byte) 'j');
+        assertThat(outgoing.getBody().toString()).isEqualTo("hello");
+    }
+
+    @Test
+    void testOutgoingByteArrayPayloadIsCopied() {
+        byte[] payload = "hello".getBytes(StandardCharsets.UTF_8);
+
+        RabbitMQMessageConverter.OutgoingRabbitMQMessage outgoing = convert(Message.of(payload));
+
+        assertThat(outgoing.getProperties().getContentType()).isEqualTo("application/octet-stream");
+        payload[0] = 'j';
+        assertThat(outgoing.getBody().toString()).isEqualTo("hello");
+    }
+
+    private <T> IncomingRabbitMQMessage<T> incoming(Buffer body, String contentType) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder().contentType(contentType).build();
+        return new IncomingRabbitMQMessage<>(new TestRabbitMQMessage(1, body, properties), holder, false, null, null);
+    }
+
+    private RabbitMQMessageConverter.OutgoingRabbitMQMessage convert(Message<?> message) {
+        return RabbitMQMessageConverter.convert(message, "exchange", "key", Optional.empty(), false,
+                Collections.emptyList());
+    }
+}
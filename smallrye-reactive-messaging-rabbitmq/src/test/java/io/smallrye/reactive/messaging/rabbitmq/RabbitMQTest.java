@@ -352,6 +352,42 @@ class RabbitMQTest extends RabbitMQBrokerTestBase {
         assertThat(latch.await(3, TimeUnit.MINUTES)).isTrue();
     }
 
+    /**
+     * Verifies that messages can be sent to RabbitMQ with a confirm window smaller than the number of messages.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    void testSendingMessagesToRabbitMQWithConfirmWindow() throws InterruptedException {
+        final String exchangeName = "exchg-confirm";
+        final String routingKey = "normal";
+
+        CountDownLatch latch = new CountDownLatch(10);
+        usage.consumeIntegers(exchangeName, routingKey,
+                v -> latch.countDown());
+
+        weld.addBeanClass(ProducingBean.class);
+
+        new MapBasedConfig()
+                .put("mp.messaging.outgoing.sink.exchange.name", exchangeName)
+                .put("mp.messaging.outgoing.sink.exchange.declare", false)
+                .put("mp.messaging.outgoing.sink.default-routing-key", routingKey)
+                .put("mp.messaging.outgoing.sink.confirm-window", 3)
+                .put("mp.messaging.outgoing.sink.connector", RabbitMQConnector.CONNECTOR_NAME)
+                .put("mp.messaging.outgoing.sink.host", host)
+                .put("mp.messaging.outgoing.sink.port", port)
+                .put("mp.messaging.outgoing.sink.tracing.enabled", false)
+                .put("rabbitmq-username", username)
+                .put("rabbitmq-password", password)
+                .put("rabbitmq-reconnect-attempts", 0)
+                .write();
+
+        container = weld.initialize();
+        await().until(() -> isRabbitMQConnectorAvailable(container));
+
+        assertThat(latch.await(3, TimeUnit.MINUTES)).isTrue();
+    }
+
     /**
      * Verifies that messages can be received from RabbitMQ.
      */
@@ -392,4 +428,95 @@ class RabbitMQTest extends RabbitMQBrokerTestBase {
         await().atMost(1, TimeUnit.MINUTES).until(() -> list.size() >= 10);
         assertThat(list).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
     }
+
+    /**
+     * Verifies that messages can be received from RabbitMQ with a prefetch count, and that the coalesced
+     * acknowledgements settle all the messages.
+     */
+    @Test
+    void testReceivingMessagesWithPrefetchAndAckCoalescing() {
+        final String exchangeName = "exchg3";
+        final String queueName = "q3";
+        final String routingKey = "xyzzy";
+        new MapBasedConfig()
+                .put("mp.messaging.incoming.data.exchange.name", exchangeName)
+                .put("mp.messaging.incoming.data.exchange.durable", false)
+                .put("mp.messaging.incoming.data.queue.name", queueName)
+                .put("mp.messaging.incoming.data.queue.durable", false)
+                .put("mp.messaging.incoming.data.queue.routing-keys", routingKey)
+                .put("mp.messaging.incoming.data.prefetch-count", 5)
+                .put("mp.messaging.incoming.data.ack-coalescing-count", 3)
+                .put("mp.messaging.incoming.data.ack-coalescing-delay", 200)
+                .put("mp.messaging.incoming.data.connector", RabbitMQConnector.CONNECTOR_NAME)
+                .put("mp.messaging.incoming.data.host", host)
+                .put("mp.messaging.incoming.data.port", port)
+                .put("mp.messaging.incoming.data.tracing-enabled", false)
+                .put("rabbitmq-username", username)
+                .put("rabbitmq-password", password)
+                .put("rabbitmq-reconnect-attempts", 0)
+                .write();
+
+        weld.addBeanClass(ConsumptionBean.class);
+
+        container = weld.initialize();
+        await().until(() -> isRabbitMQConnectorAvailable(container));
+        ConsumptionBean bean = container.getBeanManager().createInstance().select(ConsumptionBean.class).get();
+
+        List<Integer> list = bean.getResults();
+        AtomicInteger counter = new AtomicInteger();
+        usage.produceTenIntegers(exchangeName, queueName, routingKey, counter::getAndIncrement);
+
+        await().atMost(1, TimeUnit.MINUTES).until(() -> list.size() >= 10);
+        assertThat(list).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        // The management statistics are refreshed periodically
+        await().atMost(1, TimeUnit.MINUTES).untilAsserted(() -> {
+            JsonObject queue = usage.getQueue(queueName);
+            assertThat(queue.getInteger("messages_unacknowledged")).isZero();
+            assertThat(queue.getJsonArray("consumer_details").getJsonObject(0).getInteger("prefetch_count")).isEqualTo(5);
+        });
+    }
+
+    /**
+     * Verifies that messages can be received from RabbitMQ by several consumers.
+     */
+    @Test
+    void testReceivingMessagesWithSeveralConsumers() {
+        final String exchangeName = "exchg4";
+        final String queueName = "q4";
+        final String routingKey = "xyzzy";
+        new MapBasedConfig()
+                .put("mp.messaging.incoming.data.exchange.name", exchangeName)
+                .put("mp.messaging.incoming.data.exchange.durable", false)
+                .put("mp.messaging.incoming.data.queue.name", queueName)
+                .put("mp.messaging.incoming.data.queue.durable", false)
+                .put("mp.messaging.incoming.data.queue.routing-keys", routingKey)
+                .put("mp.messaging.incoming.data.consumer-count", 3)
+                .put("mp.messaging.incoming.data.prefetch-count", 1)
+                .put("mp.messaging.incoming.data.connector", RabbitMQConnector.CONNECTOR_NAME)
+                .put("mp.messaging.incoming.data.host", host)
+                .put("mp.messaging.incoming.data.port", port)
+                .put("mp.messaging.incoming.data.tracing-enabled", false)
+                .put("rabbitmq-username", username)
+                .put("rabbitmq-password", password)
+                .put("rabbitmq-reconnect-attempts", 0)
+                .write();
+
+        weld.addBeanClass(ConsumptionBean.class);
+
+        container = weld.initialize();
+        await().until(() -> isRabbitMQConnectorAvailable(container));
+        ConsumptionBean bean = container.getBeanManager().createInstance().select(ConsumptionBean.class).get();
+
+        // The management statistics are refreshed periodically
+        await().atMost(1, TimeUnit.MINUTES)
+                .untilAsserted(() -> assertThat(usage.getQueue(queueName).getInteger("consumers")).isEqualTo(3));
+
+        List<Integer> list = bean.getResults();
+        AtomicInteger counter = new AtomicInteger();
+        usage.produceTenIntegers(exchangeName, queueName, routingKey, counter::getAndIncrement);
+
+        await().atMost(1, TimeUnit.MINUTES).until(() -> list.size() >= 10);
+        assertThat(list).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
 }
@@ -0,0 +1,53 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.BasicProperties;
+import com.rabbitmq.client.Envelope;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.rabbitmq.RabbitMQMessage;
+
+/**
+ * A RabbitMQ message as delivered by the client, to build incoming messages without broker.
+ */
+class TestRabbitMQMessage implements RabbitMQMessage {
+
+    private final Envelope envelope;
+    private final Buffer body;
+    private final BasicProperties properties;
+
+    TestRabbitMQMessage(long deliveryTag) {
+        this(deliveryTag, Buffer.buffer(), new AMQP.BasicProperties());
+    }
+
+    TestRabbitMQMessage(long deliveryTag, Buffer body, BasicProperties properties) {
+        this.envelope = new Envelope(deliveryTag, false, "exchange", "key");
+        this.body = body;
+        this.properties = properties;
+    }
+
+    @Override
+    public Buffer body() {
+        return body;
+    }
+
+    @Override
+    public String consumerTag() {
+        return "consumer";
+    }
+
+    @Override
+    public Envelope envelope() {
+        return envelope;
+    }
+
+    @Override
+    public BasicProperties properties() {
+        return properties;
+    }
+
+    @Override
+    public Integer messageCount() {
+        return 0;
+    }
+}